@@ -0,0 +1,72 @@
+package org.liftakids.benchmark;
+
+import org.liftakids.benchmark.support.Fixtures;
+import org.liftakids.benchmark.support.Stubs;
+import org.liftakids.dto.divison.DivisionResponseDTO;
+import org.liftakids.entity.address.Districts;
+import org.liftakids.entity.address.Thanas;
+import org.liftakids.entity.address.UnionOrArea;
+import org.liftakids.mapper.LocationMapperImpl;
+import org.liftakids.repositories.DistrictRepository;
+import org.liftakids.repositories.DivisionRepository;
+import org.liftakids.repositories.ThanaRepository;
+import org.liftakids.repositories.UnionOrAreaRepository;
+import org.liftakids.service.impl.DivisionServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Tree assembly in {@code DivisionServiceImpl.getAll} over a country-sized location set.
+ * Repository calls are answered from memory, so this measures the Java side only, not the
+ * per-parent queries it issues against the real database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DivisionTreeBenchmark {
+
+    /** Bangladesh: 8 divisions, 64 districts, ~500 upazilas, ~4.5k unions. */
+    @Param({"8"})
+    public int divisions;
+
+    private DivisionServiceImpl divisionService;
+
+    @Setup
+    public void setUp() {
+        Fixtures.LocationTree tree = Fixtures.locationTree(divisions, 8, 8, 9);
+        Map<Long, List<Districts>> districtsByDivision = tree.districts().stream()
+                .collect(Collectors.groupingBy(d -> d.getDivision().getDivisionId()));
+        Map<Long, List<Thanas>> thanasByDistrict = tree.thanas().stream()
+                .collect(Collectors.groupingBy(t -> t.getDistrict().getDistrictId()));
+        Map<Long, List<UnionOrArea>> unionsByThana = tree.unions().stream()
+                .collect(Collectors.groupingBy(u -> u.getThana().getThanaId()));
+
+        DivisionRepository divisionRepository = Stubs.of(DivisionRepository.class)
+                .answer("findAll", args -> tree.divisions())
+                .build();
+        DistrictRepository districtRepository = Stubs.of(DistrictRepository.class)
+                .answer("findByDivisionId", args -> districtsByDivision.getOrDefault((Long) args[0], List.of()))
+                .build();
+        ThanaRepository thanaRepository = Stubs.of(ThanaRepository.class)
+                .answer("findByDistrictId", args -> thanasByDistrict.getOrDefault((Long) args[0], List.of()))
+                .build();
+        UnionOrAreaRepository unionRepository = Stubs.of(UnionOrAreaRepository.class)
+                .answer("findByThanaId", args -> unionsByThana.getOrDefault((Long) args[0], List.of()))
+                .build();
+
+        divisionService = Stubs.construct(DivisionServiceImpl.class, divisionRepository, new LocationMapperImpl(),
+                districtRepository, thanaRepository, unionRepository);
+    }
+
+    @Benchmark
+    public List<DivisionResponseDTO> getAll() {
+        return divisionService.getAll();
+    }
+}
@@ -0,0 +1,73 @@
+package org.liftakids.benchmark;
+
+import org.liftakids.benchmark.support.Fixtures;
+import org.liftakids.benchmark.support.Privates;
+import org.liftakids.benchmark.support.Stubs;
+import org.liftakids.dto.institute.InstitutionResponseDto;
+import org.liftakids.dto.payment.PaymentResponseDto;
+import org.liftakids.entity.Institutions;
+import org.liftakids.entity.Payment;
+import org.liftakids.mapper.InstitutionMapperImpl;
+import org.liftakids.mapper.PaymentMapperImpl;
+import org.liftakids.mapper.StudentMapperImpl;
+import org.liftakids.service.impl.InstitutionServiceImpl;
+import org.liftakids.service.impl.PaymentServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service-level DTO conversion (mapper call plus the hand-written enrichment around it) for a page of
+ * payments and institutions, as the list endpoints do it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoConversionBenchmark {
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    private List<Payment> payments;
+    private List<Institutions> institutions;
+
+    private PaymentServiceImpl paymentService;
+    private InstitutionServiceImpl institutionService;
+    private MethodHandle paymentToDto;
+    private MethodHandle institutionToDto;
+
+    @Setup
+    public void setUp() {
+        payments = new ArrayList<>(Fixtures.sponsorshipWithPayments(1L, pageSize).getPayments());
+        institutions = new ArrayList<>(pageSize);
+        for (long i = 1; i <= pageSize; i++) {
+            institutions.add(Fixtures.institution(i));
+        }
+
+        paymentService = Stubs.construct(PaymentServiceImpl.class, new PaymentMapperImpl());
+        institutionService = Stubs.construct(InstitutionServiceImpl.class, new InstitutionMapperImpl(), new StudentMapperImpl());
+        paymentToDto = Privates.method(PaymentServiceImpl.class, "convertToDto", Payment.class);
+        institutionToDto = Privates.method(InstitutionServiceImpl.class, "convertToResponseDto", Institutions.class);
+    }
+
+    @Benchmark
+    public void paymentPage(Blackhole blackhole) throws Throwable {
+        for (Payment payment : payments) {
+            blackhole.consume((PaymentResponseDto) paymentToDto.invoke(paymentService, payment));
+        }
+    }
+
+    @Benchmark
+    public void institutionPage(Blackhole blackhole) throws Throwable {
+        for (Institutions institution : institutions) {
+            blackhole.consume((InstitutionResponseDto) institutionToDto.invoke(institutionService, institution));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package org.liftakids.benchmark;
+
+import org.liftakids.entity.Donor;
+import org.liftakids.template.EmailTemplates;
+import org.liftakids.template.Template;
+import org.liftakids.template.TemplateParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Donor receipt body: the old per-call {@code String.format} builder, copied verbatim from
+ * EmailService.sendPaymentConfirmationEmail(Donor, Double, String) before the move to templates,
+ * against the precompiled template fed the same values the current EmailService passes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd MMMM yyyy");
+    private final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("hh:mm a");
+    // app.name default; the old links were built from it
+    private final String appName = "Lift A Kids";
+    private final String frontendUrl = "https://liftakid.org";
+
+    private Donor donor;
+    private Double amount;
+    private String transactionId;
+    private String source;
+    private Template compiled;
+    private StringBuilder buffer;
+
+    @Setup
+    public void setUp() {
+        donor = new Donor();
+        donor.setName("Abdul Karim");
+        amount = 1500.0;
+        transactionId = "TXN-1718000000000-4821";
+        source = stripSubject(load("mail-templates/donor-payment-receipt.html"));
+        compiled = TemplateParser.parse("donor-payment-receipt", source, true);
+        buffer = new StringBuilder(source.length() * 2);
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return oldReceiptBody(donor, amount, transactionId);
+    }
+
+    @Benchmark
+    public String precompiled() {
+        buffer.setLength(0);
+        compiled.render(receiptModel(), buffer);
+        return buffer.toString();
+    }
+
+    @Benchmark
+    public String parseAndRender() {
+        StringBuilder out = new StringBuilder();
+        TemplateParser.parse("donor-payment-receipt", source, true).render(receiptModel(), out);
+        return out.toString();
+    }
+
+    // Baseline: body of the pre-template sendPaymentConfirmationEmail, unchanged apart from returning html
+    private String oldReceiptBody(Donor donor, Double amount, String transactionId) {
+        String subject = "LiftAKids - Payment Confirmation";
+
+        String currentTime = LocalDateTime.now().format(timeFormatter);
+        String currentDate = LocalDateTime.now().format(dateFormatter);
+
+        String html = String.format("""
+            <!DOCTYPE html>
+            <html>
+            <head>
+                <meta charset="UTF-8">
+                <style>
+                    body { font-family: Arial, sans-serif; line-height: 1.6; color: #333; }
+                    .container { max-width: 600px; margin: 0 auto; padding: 20px; }
+                    .header { background: #4CAF50; color: white; padding: 20px; text-align: center; }
+                    .content { padding: 30px; background: #f9f9f9; }
+                    .receipt { background: white; border: 2px solid #4CAF50; 
+                              border-radius: 10px; padding: 20px; margin: 20px 0; }
+                    .amount { font-size: 28px; color: #4CAF50; font-weight: bold; text-align: center; }
+                    .btn { display: inline-block; padding: 10px 20px; background: #4CAF50; 
+                           color: white; text-decoration: none; border-radius: 5px; }
+                </style>
+            </head>
+            <body>
+                <div class="container">
+                    <div class="header">
+                        <h1>💰 Payment Successful!</h1>
+                        <h2>Thank You for Your Generosity</h2>
+                    </div>
+                    
+                    <div class="content">
+                        <p>Dear <strong>%s</strong>,</p>
+                        
+                        <p>Your donation to LiftAKids has been successfully processed. Thank you for supporting education for underprivileged children!</p>
+                        
+                        <div class="receipt">
+                            <h3 style="text-align: center; color: #4CAF50;">PAYMENT RECEIPT</h3>
+                            <div class="amount">৳%.2f</div>
+                            
+                            <table style="width: 100%%; margin-top: 20px; border-collapse: collapse;">
+                                <tr>
+                                    <td style="padding: 8px; border-bottom: 1px solid #ddd;"><strong>Transaction ID:</strong></td>
+                                    <td style="padding: 8px; border-bottom: 1px solid #ddd;">%s</td>
+                                </tr>
+                                <tr>
+                                    <td style="padding: 8px; border-bottom: 1px solid #ddd;"><strong>Date:</strong></td>
+                                    <td style="padding: 8px; border-bottom: 1px solid #ddd;">%s</td>
+                                </tr>
+                                <tr>
+                                    <td style="padding: 8px; border-bottom: 1px solid #ddd;"><strong>Time:</strong></td>
+                                    <td style="padding: 8px; border-bottom: 1px solid #ddd;">%s</td>
+                                </tr>
+                                <tr>
+                                    <td style="padding: 8px;"><strong>Status:</strong></td>
+                                    <td style="padding: 8px; color: #4CAF50; font-weight: bold;">COMPLETED</td>
+                                </tr>
+                            </table>
+                        </div>
+                        
+                        <p style="text-align: center;">Your contribution will help provide:</p>
+                        <ul style="text-align: center; list-style: none; padding: 0;">
+                            <li>📚 Educational materials</li>
+                            <li>🍎 Nutritious meals</li>
+                            <li>🏫 School supplies</li>
+                            <li>👕 Uniforms and clothing</li>
+                        </ul>
+                        
+                        <div style="text-align: center; margin: 30px 0;">
+                            <a href="%s/donor/payments/%s" class="btn">View Receipt Details</a>
+                        </div>
+                        
+                        <p>If you have any questions about your donation, please contact our support team.</p>
+                        
+                        <p>Thank you for making a difference!<br>
+                        <strong>The LiftAKids Team</strong></p>
+                    </div>
+                </div>
+            </body>
+            </html>
+            """,
+                donor.getName(),
+                amount,
+                transactionId,
+                currentDate,
+                currentTime,
+                appName,
+                transactionId
+        );
+
+        return html;
+    }
+
+    // Same model as the current EmailService.sendPaymentConfirmationEmail(Donor, Double, String)
+    private Map<String, Object> receiptModel() {
+        LocalDateTime now = LocalDateTime.now();
+        return EmailTemplates.model(
+                "donorName", donor.getName(),
+                "amount", BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).toPlainString(),
+                "transactionId", transactionId,
+                "date", now.format(dateFormatter),
+                "time", now.format(timeFormatter),
+                "frontendUrl", frontendUrl);
+    }
+
+    private static String load(String path) {
+        try (InputStream in = EmailTemplateBenchmark.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String stripSubject(String text) {
+        if (text.startsWith("Subject:")) {
+            int eol = text.indexOf('\n');
+            return eol < 0 ? "" : text.substring(eol + 1);
+        }
+        return text;
+    }
+}
@@ -0,0 +1,47 @@
+package org.liftakids.benchmark;
+
+import org.liftakids.benchmark.support.Fixtures;
+import org.liftakids.benchmark.support.Privates;
+import org.liftakids.benchmark.support.Stubs;
+import org.liftakids.entity.Notification;
+import org.liftakids.entity.Sponsorship;
+import org.liftakids.service.impl.SponsorshipExpiryServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notification building in the sponsorship expiry job for one batch of expired pending sponsorships.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpiryNotificationBenchmark {
+
+    @Param({"50", "500"})
+    public int expired;
+
+    private List<Sponsorship> sponsorships;
+    private SponsorshipExpiryServiceImpl expiryService;
+    private MethodHandle createExpiryNotification;
+
+    @Setup
+    public void setUp() {
+        sponsorships = Fixtures.pendingSponsorships(expired);
+        expiryService = Stubs.construct(SponsorshipExpiryServiceImpl.class);
+        createExpiryNotification = Privates.method(SponsorshipExpiryServiceImpl.class, "createExpiryNotification", Sponsorship.class);
+    }
+
+    @Benchmark
+    public void buildBatch(Blackhole blackhole) throws Throwable {
+        for (Sponsorship sponsorship : sponsorships) {
+            blackhole.consume((Notification) createExpiryNotification.invoke(expiryService, sponsorship));
+        }
+    }
+}
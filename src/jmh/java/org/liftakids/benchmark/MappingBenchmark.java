@@ -0,0 +1,114 @@
+package org.liftakids.benchmark;
+
+import org.liftakids.dto.institute.InstitutionResponseDto;
+import org.liftakids.dto.student.StudentResponseDto;
+import org.liftakids.entity.FinancialRank;
+import org.liftakids.entity.InstitutionType;
+import org.liftakids.entity.Institutions;
+import org.liftakids.entity.Student;
+import org.liftakids.mapper.InstitutionMapper;
+import org.liftakids.mapper.InstitutionMapperImpl;
+import org.liftakids.mapper.StudentMapper;
+import org.liftakids.mapper.StudentMapperImpl;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated mappers vs the reflective ModelMapper setup they replaced, on a page of students.
+ * Run with the gc profiler (default in the benchmarks profile) to compare allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    private List<Student> students;
+    private Institutions institution;
+
+    private ModelMapper modelMapper;
+    private StudentMapper studentMapper;
+    private InstitutionMapper institutionMapper;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        // Same configuration the application used before the switch
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setAmbiguityIgnored(true)
+                .setFieldMatchingEnabled(true)
+                .setSkipNullEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+
+        studentMapper = new StudentMapperImpl();
+        institutionMapper = new InstitutionMapperImpl();
+
+        institution = new Institutions();
+        institution.setInstitutionsId(1L);
+        institution.setInstitutionName("Benchmark Madrasa");
+        institution.setType(InstitutionType.KAWMI);
+        institution.setEmail("bench@example.org");
+        institution.setPhone("01700000000");
+        institution.setTeacherName("Teacher");
+        institution.setTeacherDesignation("Principal");
+        institution.setAboutInstitution("About");
+        institution.setRegistrationDate(LocalDateTime.now());
+
+        students = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Student student = new Student();
+            student.setStudentId((long) i);
+            student.setStudentName("Student " + i);
+            student.setDob(new Date());
+            student.setGender(i % 2 == 0 ? "Male" : "Female");
+            student.setAddress("Village " + i);
+            student.setContactNumber("0180000" + i);
+            student.setFinancial_rank(FinancialRank.values()[i % FinancialRank.values().length]);
+            student.setBio("Bio " + i);
+            student.setPhotoUrl("https://cdn.example.org/students/" + i + "/full.jpg");
+            student.setGuardianName("Guardian " + i);
+            student.setRequiredMonthlySupport(BigDecimal.valueOf(1000 + i));
+            student.setInstitution(institution);
+            students.add(student);
+        }
+    }
+
+    @Benchmark
+    public void modelMapperStudents(Blackhole blackhole) {
+        for (Student student : students) {
+            blackhole.consume(modelMapper.map(student, StudentResponseDto.class));
+        }
+    }
+
+    @Benchmark
+    public void generatedStudents(Blackhole blackhole) {
+        for (Student student : students) {
+            blackhole.consume(studentMapper.toResponseDto(student));
+        }
+    }
+
+    @Benchmark
+    public InstitutionResponseDto modelMapperInstitution() {
+        return modelMapper.map(institution, InstitutionResponseDto.class);
+    }
+
+    @Benchmark
+    public InstitutionResponseDto generatedInstitution() {
+        return institutionMapper.toResponseDto(institution);
+    }
+}
@@ -0,0 +1,65 @@
+package org.liftakids.benchmark;
+
+import org.liftakids.benchmark.support.Fixtures;
+import org.liftakids.benchmark.support.Privates;
+import org.liftakids.benchmark.support.Stubs;
+import org.liftakids.entity.Payment;
+import org.liftakids.entity.Sponsorship;
+import org.liftakids.mapper.PaymentMapperImpl;
+import org.liftakids.repositories.PaymentRepository;
+import org.liftakids.service.impl.PaymentServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overlap check in {@code PaymentServiceImpl.validatePayment} against a sponsorship's payment history.
+ * The requested period follows the last paid month, so every existing payment is compared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaymentValidationBenchmark {
+
+    @Param({"12", "60"})
+    public int existingPayments;
+
+    @Param({"1", "6"})
+    public int requestedMonths;
+
+    private PaymentServiceImpl paymentService;
+    private MethodHandle validatePayment;
+    private Sponsorship sponsorship;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal amount;
+
+    @Setup
+    public void setUp() {
+        sponsorship = Fixtures.sponsorshipWithPayments(1L, existingPayments);
+        List<Payment> payments = List.copyOf(sponsorship.getPayments());
+
+        PaymentRepository paymentRepository = Stubs.of(PaymentRepository.class)
+                .answer("findBySponsorshipId", args -> payments)
+                .build();
+        paymentService = Stubs.construct(PaymentServiceImpl.class, paymentRepository, new PaymentMapperImpl());
+        validatePayment = Privates.method(PaymentServiceImpl.class, "validatePayment",
+                Sponsorship.class, LocalDate.class, LocalDate.class, BigDecimal.class);
+
+        startDate = payments.get(payments.size() - 1).getEndDate().plusDays(1);
+        endDate = startDate.plusMonths(requestedMonths).minusDays(1);
+        amount = sponsorship.getMonthlyAmount().multiply(BigDecimal.valueOf(requestedMonths));
+    }
+
+    @Benchmark
+    public void validateNonOverlapping() throws Throwable {
+        validatePayment.invoke(paymentService, sponsorship, startDate, endDate, amount);
+    }
+}
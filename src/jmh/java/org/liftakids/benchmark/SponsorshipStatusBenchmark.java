@@ -0,0 +1,40 @@
+package org.liftakids.benchmark;
+
+import org.liftakids.benchmark.support.Fixtures;
+import org.liftakids.benchmark.support.Privates;
+import org.liftakids.entity.Sponsorship;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Sponsorship.calculatePaymentStatus}, the @PostLoad callback that runs for every sponsorship
+ * Hibernate materializes (donor dashboards, payment lists, the expiry job).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SponsorshipStatusBenchmark {
+
+    @Param({"0", "12", "60"})
+    public int payments;
+
+    private Sponsorship sponsorship;
+    private MethodHandle calculatePaymentStatus;
+
+    @Setup
+    public void setUp() {
+        sponsorship = Fixtures.sponsorshipWithPayments(1L, payments);
+        calculatePaymentStatus = Privates.method(Sponsorship.class, "calculatePaymentStatus");
+    }
+
+    @Benchmark
+    public Integer calculatePaymentStatus() throws Throwable {
+        calculatePaymentStatus.invoke(sponsorship);
+        return sponsorship.getMonthsRemaining();
+    }
+}
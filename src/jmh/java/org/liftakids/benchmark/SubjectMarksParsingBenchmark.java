@@ -0,0 +1,44 @@
+package org.liftakids.benchmark;
+
+import org.liftakids.benchmark.support.Fixtures;
+import org.liftakids.benchmark.support.Privates;
+import org.liftakids.benchmark.support.Stubs;
+import org.liftakids.entity.SubjectMark;
+import org.liftakids.service.impl.ResultReportServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks-table parsing in {@code ResultReportServiceImpl.extractSubjectMarks} on OCR-like text.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubjectMarksParsingBenchmark {
+
+    @Param({"8", "14"})
+    public int subjects;
+
+    private ResultReportServiceImpl resultReportService;
+    private MethodHandle extractSubjectMarks;
+    private String text;
+
+    @Setup
+    public void setUp() {
+        text = Fixtures.resultSheet(subjects, 42L);
+        resultReportService = Stubs.construct(ResultReportServiceImpl.class);
+        extractSubjectMarks = Privates.method(ResultReportServiceImpl.class, "extractSubjectMarks", String.class);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<SubjectMark> extractSubjectMarks() throws Throwable {
+        return (List<SubjectMark>) extractSubjectMarks.invoke(resultReportService, text);
+    }
+}
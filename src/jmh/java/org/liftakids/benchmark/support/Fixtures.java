@@ -0,0 +1,204 @@
+package org.liftakids.benchmark.support;
+
+import org.liftakids.entity.*;
+import org.liftakids.entity.address.Districts;
+import org.liftakids.entity.address.Divisions;
+import org.liftakids.entity.address.Thanas;
+import org.liftakids.entity.address.UnionOrArea;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic data generators sized after production: 8 divisions / 64 districts / ~500 thanas /
+ * ~4.5k unions, multi-year sponsorships with monthly payments, typical result sheets.
+ */
+public final class Fixtures {
+
+    private static final String[] SUBJECTS = {
+            "Bangla", "English", "Mathematics", "Science", "Religion", "Arabic", "Quran", "Hadith",
+            "Fiqh", "History", "Geography", "ICT", "Agriculture", "PhysicalEducation"
+    };
+
+    private Fixtures() {
+    }
+
+    public static Institutions institution(long id) {
+        Institutions institution = new Institutions();
+        institution.setInstitutionsId(id);
+        institution.setInstitutionName("Institution " + id);
+        institution.setType(InstitutionType.values()[(int) (id % InstitutionType.values().length)]);
+        institution.setEmail("institution" + id + "@example.org");
+        institution.setPhone("0170000" + String.format("%04d", id % 10000));
+        institution.setTeacherName("Teacher " + id);
+        institution.setTeacherDesignation("Principal");
+        institution.setAboutInstitution("About institution " + id);
+        institution.setVillageOrHouse("Village " + id);
+        institution.setRegistrationDate(LocalDateTime.of(2024, 1, 1, 10, 0));
+        institution.setUpdateDate(LocalDateTime.of(2024, 6, 1, 10, 0));
+
+        Divisions division = new Divisions();
+        division.setDivisionId(id % 8 + 1);
+        Districts district = new Districts();
+        district.setDistrictId(id % 64 + 1);
+        district.setDivision(division);
+        Thanas thana = new Thanas();
+        thana.setThanaId(id % 500 + 1);
+        thana.setDistrict(district);
+        UnionOrArea union = new UnionOrArea();
+        union.setUnionOrAreaId(id % 4500 + 1);
+        union.setThana(thana);
+        institution.setDivision(division);
+        institution.setDistrict(district);
+        institution.setThana(thana);
+        institution.setUnionOrArea(union);
+        return institution;
+    }
+
+    public static Student student(long id, Institutions institution) {
+        Student student = new Student();
+        student.setStudentId(id);
+        student.setStudentName("Student " + id);
+        student.setDob(new Date(1_200_000_000_000L + id * 86_400_000L));
+        student.setGender(id % 2 == 0 ? "Male" : "Female");
+        student.setAddress("Village " + id);
+        student.setContactNumber("0180000" + String.format("%04d", id % 10000));
+        student.setFinancial_rank(FinancialRank.values()[(int) (id % FinancialRank.values().length)]);
+        student.setBio("Bio of student " + id);
+        student.setGuardianName("Guardian " + id);
+        student.setRequiredMonthlySupport(BigDecimal.valueOf(1500));
+        student.setInstitution(institution);
+        return student;
+    }
+
+    public static Donor donor(long id) {
+        Donor donor = new Donor();
+        donor.setDonorId(id);
+        donor.setName("Donor " + id);
+        donor.setEmail("donor" + id + "@example.org");
+        donor.setPhone("0190000" + String.format("%04d", id % 10000));
+        donor.setAddress("Dhaka");
+        return donor;
+    }
+
+    /**
+     * A sponsorship starting {@code months} months ago with one paid month per payment, most recent last.
+     */
+    public static Sponsorship sponsorshipWithPayments(long id, int months) {
+        Institutions institution = institution(id);
+        Student student = student(id, institution);
+        Donor donor = donor(id);
+
+        LocalDate start = LocalDate.now().withDayOfMonth(1).minusMonths(months);
+        Sponsorship sponsorship = new Sponsorship();
+        sponsorship.setId(id);
+        sponsorship.setDonor(donor);
+        sponsorship.setStudent(student);
+        sponsorship.setMonthlyAmount(BigDecimal.valueOf(1500));
+        sponsorship.setSponsorStartDate(start);
+        sponsorship.setStartDate(start);
+        sponsorship.setEndDate(start.plusMonths(months + 12L).minusDays(1));
+        sponsorship.setPaymentMethod(PaymentMethod.values()[0]);
+        sponsorship.setStatus(SponsorshipStatus.ACTIVE);
+
+        for (int i = 0; i < months; i++) {
+            LocalDate paymentStart = start.plusMonths(i);
+            Payment payment = new Payment();
+            payment.setId(id * 1000 + i);
+            payment.setSponsorship(sponsorship);
+            payment.setPaymentDate(paymentStart.plusDays(3));
+            payment.setStartDate(paymentStart);
+            payment.setEndDate(paymentStart.withDayOfMonth(paymentStart.lengthOfMonth()));
+            payment.setPaidUpTo(payment.getEndDate());
+            payment.setAmount(BigDecimal.valueOf(1500));
+            payment.setReceivedAmount(BigDecimal.valueOf(1500));
+            payment.setTotalMonths(1);
+            payment.setPaymentMethod(PaymentMethod.values()[0]);
+            payment.setStatus(PaymentStatus.COMPLETED);
+            payment.setTransactionId("TXN-" + id + "-" + i);
+            payment.setReceiptNumber("R-" + id + "-" + i);
+            sponsorship.getPayments().add(payment);
+        }
+        return sponsorship;
+    }
+
+    public static List<Sponsorship> pendingSponsorships(int count) {
+        List<Sponsorship> sponsorships = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Sponsorship sponsorship = sponsorshipWithPayments(i, 0);
+            sponsorship.setStatus(SponsorshipStatus.PENDING_PAYMENT);
+            sponsorships.add(sponsorship);
+        }
+        return sponsorships;
+    }
+
+    public record LocationTree(List<Divisions> divisions, List<Districts> districts,
+                               List<Thanas> thanas, List<UnionOrArea> unions) {
+    }
+
+    public static LocationTree locationTree(int divisions, int districtsPerDivision, int thanasPerDistrict, int unionsPerThana) {
+        List<Divisions> divisionList = new ArrayList<>();
+        List<Districts> districtList = new ArrayList<>();
+        List<Thanas> thanaList = new ArrayList<>();
+        List<UnionOrArea> unionList = new ArrayList<>();
+        long districtId = 1;
+        long thanaId = 1;
+        long unionId = 1;
+
+        for (long d = 1; d <= divisions; d++) {
+            Divisions division = new Divisions();
+            division.setDivisionId(d);
+            division.setDivisionName("Division " + d);
+            divisionList.add(division);
+
+            for (int i = 0; i < districtsPerDivision; i++) {
+                Districts district = new Districts();
+                district.setDistrictId(districtId++);
+                district.setDistrictName("District " + district.getDistrictId());
+                district.setDivision(division);
+                districtList.add(district);
+
+                for (int j = 0; j < thanasPerDistrict; j++) {
+                    Thanas thana = new Thanas();
+                    thana.setThanaId(thanaId++);
+                    thana.setThanaName("Thana " + thana.getThanaId());
+                    thana.setDistrict(district);
+                    thanaList.add(thana);
+
+                    for (int k = 0; k < unionsPerThana; k++) {
+                        UnionOrArea union = new UnionOrArea();
+                        union.setUnionOrAreaId(unionId++);
+                        union.setUnionOrAreaName("Union " + union.getUnionOrAreaId());
+                        union.setThana(thana);
+                        unionList.add(union);
+                    }
+                }
+            }
+        }
+        return new LocationTree(divisionList, districtList, thanaList, unionList);
+    }
+
+    /**
+     * OCR-like result sheet text: header lines, a marks table and some trailing noise.
+     */
+    public static String resultSheet(int subjects, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder(64 + subjects * 24);
+        text.append("Lift A Kids Partner Madrasa\n");
+        text.append("Exam: Annual Examination\n");
+        text.append("Term: Final\n");
+        text.append("Date: 2025-11-20\n");
+        text.append("Class: Six\n\n");
+        text.append("Subject Obtained Marks\n");
+        for (int i = 0; i < subjects; i++) {
+            text.append(SUBJECTS[i % SUBJECTS.length]).append(i / SUBJECTS.length == 0 ? "" : String.valueOf(i / SUBJECTS.length))
+                    .append("   ").append(33 + random.nextInt(67)).append('\n');
+        }
+        return text.toString();
+    }
+}
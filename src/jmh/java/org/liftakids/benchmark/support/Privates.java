@@ -0,0 +1,23 @@
+package org.liftakids.benchmark.support;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Handles to private helpers (JPA callbacks, converters, parsers) so they can be measured in isolation
+ * without widening their visibility in the application code.
+ */
+public final class Privates {
+
+    private Privates() {
+    }
+
+    public static MethodHandle method(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            return lookup.unreflect(owner.getDeclaredMethod(name, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot access " + owner.getSimpleName() + "." + name, e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.liftakids.benchmark.support;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for Spring Data repositories and services, so service code can be benchmarked
+ * without a database. Only the methods a benchmark registers are answered; anything else fails loudly.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    public static <T> StubBuilder<T> of(Class<T> type) {
+        return new StubBuilder<>(type);
+    }
+
+    /**
+     * Calls the single constructor of {@code type}, taking each argument from {@code dependencies} by type.
+     * Missing interface arguments become failing stubs, missing class arguments are passed as null.
+     */
+    public static <T> T construct(Class<T> type, Object... dependencies) {
+        Constructor<?> constructor = type.getDeclaredConstructors()[0];
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] arguments = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            arguments[i] = resolve(parameterTypes[i], dependencies);
+        }
+        try {
+            constructor.setAccessible(true);
+            return type.cast(constructor.newInstance(arguments));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot construct " + type.getName(), e);
+        }
+    }
+
+    private static Object resolve(Class<?> parameterType, Object[] dependencies) {
+        for (Object dependency : dependencies) {
+            if (parameterType.isInstance(dependency)) {
+                return dependency;
+            }
+        }
+        return parameterType.isInterface() ? of(parameterType).build() : null;
+    }
+
+    public static final class StubBuilder<T> {
+        private final Class<T> type;
+        private final Map<String, Function<Object[], Object>> answers = new HashMap<>();
+
+        private StubBuilder(Class<T> type) {
+            this.type = type;
+        }
+
+        public StubBuilder<T> answer(String methodName, Function<Object[], Object> answer) {
+            answers.put(methodName, answer);
+            return this;
+        }
+
+        public T build() {
+            InvocationHandler handler = (proxy, method, args) -> {
+                Function<Object[], Object> answer = answers.get(method.getName());
+                if (answer != null) {
+                    return answer.apply(args);
+                }
+                return switch (method.getName()) {
+                    case "toString" -> "Stub<" + type.getSimpleName() + ">";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    // void service calls (markDirty, notifications) are no-ops
+                    default -> {
+                        if (method.getReturnType() == void.class) {
+                            yield null;
+                        }
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+                    }
+                };
+            };
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.liftakids.loadtest;
+
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds messages exactly like the real sender but never opens an SMTP connection.
+ */
+public class CountingMailSender extends JavaMailSenderImpl {
+
+    private final AtomicLong sent = new AtomicLong();
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        sent.addAndGet(mimeMessages.length);
+    }
+
+    public long sentCount() {
+        return sent.get();
+    }
+}
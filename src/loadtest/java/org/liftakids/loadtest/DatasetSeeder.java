@@ -0,0 +1,283 @@
+package org.liftakids.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.entity.*;
+import org.liftakids.entity.address.Districts;
+import org.liftakids.entity.address.Divisions;
+import org.liftakids.entity.address.Thanas;
+import org.liftakids.entity.address.UnionOrArea;
+import org.liftakids.entity.enm.InstitutionStatus;
+import org.liftakids.entity.enm.NotificationStatus;
+import org.liftakids.entity.enm.NotificationType;
+import org.liftakids.entity.enm.UserType;
+import org.liftakids.repositories.*;
+import org.liftakids.service.DashboardStatsService;
+import org.liftakids.service.StudentRankingFeedService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Fills an empty schema with a deterministic dataset of the configured size through the application's
+ * own repositories, so entity callbacks and defaults apply exactly as in production.
+ */
+@Slf4j
+public class DatasetSeeder {
+
+    public static final String PASSWORD = "loadtest123";
+
+    private static final int CHUNK = 500;
+
+    private final ApplicationContext context;
+    private final TransactionTemplate tx;
+    private final Random random;
+
+    /** Ids of what was inserted, for the journeys to pick from. */
+    public record Dataset(List<Long> unionIds, List<Long> institutionIds, List<Long> studentIds,
+                          List<Long> donorIds, List<Long> sponsorshipIds) {
+    }
+
+    public static String donorEmail(int index) {
+        return "donor" + index + "@loadtest.local";
+    }
+
+    public DatasetSeeder(ApplicationContext context, long seed) {
+        this.context = context;
+        this.tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.random = new Random(seed);
+    }
+
+    public Dataset seed(LoadTestSettings.DatasetVolumes volumes) {
+        long started = System.nanoTime();
+        List<UnionOrArea> unions = seedLocations(volumes);
+        List<Institutions> institutions = seedInstitutions(volumes, unions);
+        List<Student> students = seedStudents(volumes, institutions);
+        List<Donor> donors = seedDonors(volumes);
+        List<Long> sponsorshipIds = seedSponsorships(volumes, students, donors);
+        seedNotifications(volumes, donors);
+
+        // Warm the in-memory read models that were built against the empty schema at startup
+        context.getBean(StudentRankingFeedService.class).rebuild();
+        context.getBean(DashboardStatsService.class).refresh();
+
+        log.info("Seeded {} unions, {} institutions, {} students, {} donors, {} sponsorships in {} ms",
+                unions.size(), institutions.size(), students.size(), donors.size(), sponsorshipIds.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        return new Dataset(
+                unions.stream().map(UnionOrArea::getUnionOrAreaId).toList(),
+                institutions.stream().map(Institutions::getInstitutionsId).toList(),
+                students.stream().map(Student::getStudentId).toList(),
+                donors.stream().map(Donor::getDonorId).toList(),
+                sponsorshipIds);
+    }
+
+    private List<UnionOrArea> seedLocations(LoadTestSettings.DatasetVolumes volumes) {
+        DivisionRepository divisionRepository = context.getBean(DivisionRepository.class);
+        DistrictRepository districtRepository = context.getBean(DistrictRepository.class);
+        ThanaRepository thanaRepository = context.getBean(ThanaRepository.class);
+        UnionOrAreaRepository unionRepository = context.getBean(UnionOrAreaRepository.class);
+
+        return tx.execute(status -> {
+            List<UnionOrArea> unions = new ArrayList<>();
+            int districtNo = 0;
+            int thanaNo = 0;
+            int unionNo = 0;
+            for (int d = 1; d <= volumes.divisions(); d++) {
+                Divisions division = new Divisions();
+                division.setDivisionName("Division " + d);
+                division = divisionRepository.save(division);
+
+                for (int i = 0; i < volumes.districtsPerDivision(); i++) {
+                    Districts district = new Districts();
+                    district.setDistrictName("District " + ++districtNo);
+                    district.setDivision(division);
+                    district = districtRepository.save(district);
+
+                    List<Thanas> thanas = new ArrayList<>();
+                    for (int j = 0; j < volumes.thanasPerDistrict(); j++) {
+                        Thanas thana = new Thanas();
+                        thana.setThanaName("Thana " + ++thanaNo);
+                        thana.setDistrict(district);
+                        thanas.add(thana);
+                    }
+                    for (Thanas thana : thanaRepository.saveAll(thanas)) {
+                        List<UnionOrArea> batch = new ArrayList<>();
+                        for (int k = 0; k < volumes.unionsPerThana(); k++) {
+                            UnionOrArea union = new UnionOrArea();
+                            union.setUnionOrAreaName("Union " + ++unionNo);
+                            union.setThana(thana);
+                            batch.add(union);
+                        }
+                        unions.addAll(unionRepository.saveAll(batch));
+                    }
+                }
+            }
+            return unions;
+        });
+    }
+
+    private List<Institutions> seedInstitutions(LoadTestSettings.DatasetVolumes volumes, List<UnionOrArea> unions) {
+        InstitutionRepository repository = context.getBean(InstitutionRepository.class);
+        InstitutionType[] types = InstitutionType.values();
+
+        return inChunks(volumes.institutions(), repository::saveAll, i -> {
+            UnionOrArea union = unions.get(random.nextInt(unions.size()));
+            Institutions institution = new Institutions();
+            institution.setInstitutionName("Institution " + i);
+            institution.setUnionOrArea(union);
+            institution.setThana(union.getThana());
+            institution.setDistrict(union.getThana().getDistrict());
+            institution.setDivision(union.getThana().getDistrict().getDivision());
+            institution.setType(types[i % types.length]);
+            institution.setTeacherName("Teacher " + i);
+            institution.setTeacherDesignation("Principal");
+            institution.setEmail("institution" + i + "@loadtest.local");
+            institution.setPhone(String.format("017%08d", i));
+            institution.setVillageOrHouse("Village " + i);
+            institution.setPassword(PASSWORD);
+            institution.setRegistrationDate(LocalDateTime.now().minusDays(random.nextInt(720)));
+            institution.setAboutInstitution("Seeded institution " + i + " for load testing.");
+            // Roughly one in ten still waits for review
+            if (i % 10 != 0) {
+                institution.setStatus(InstitutionStatus.APPROVED);
+                institution.setIsApproved(true);
+                institution.setApprovalDate(institution.getRegistrationDate().plusDays(2));
+            }
+            return institution;
+        });
+    }
+
+    private List<Student> seedStudents(LoadTestSettings.DatasetVolumes volumes, List<Institutions> institutions) {
+        StudentRepository repository = context.getBean(StudentRepository.class);
+        FinancialRank[] ranks = FinancialRank.values();
+        int total = volumes.institutions() * volumes.studentsPerInstitution();
+
+        return inChunks(total, repository::saveAll, i -> {
+            Student student = new Student();
+            student.setStudentName("Student " + i);
+            student.setDob(java.sql.Date.valueOf(LocalDate.now().minusYears(6 + random.nextInt(10))));
+            student.setGender(i % 2 == 0 ? "Male" : "Female");
+            student.setAddress("Village " + i);
+            student.setContactNumber(String.format("018%08d", i));
+            student.setClassName("Class " + (1 + random.nextInt(10)));
+            student.setFinancial_rank(ranks[random.nextInt(ranks.length)]);
+            student.setBio("Seeded student " + i + ".");
+            student.setGuardianName("Guardian " + i);
+            student.setRequiredMonthlySupport(BigDecimal.valueOf(1000 + random.nextInt(5) * 250L));
+            student.setInstitution(institutions.get((i - 1) % institutions.size()));
+            return student;
+        });
+    }
+
+    private List<Donor> seedDonors(LoadTestSettings.DatasetVolumes volumes) {
+        DonorRepository repository = context.getBean(DonorRepository.class);
+        DonorType[] types = DonorType.values();
+
+        return inChunks(volumes.donors(), repository::saveAll, i -> {
+            Donor donor = new Donor();
+            donor.setName("Donor " + i);
+            donor.setEmail(donorEmail(i));
+            donor.setPassword(PASSWORD);
+            donor.setPhone(String.format("019%08d", i));
+            donor.setAddress("Dhaka");
+            donor.setType(i % 20 == 0 ? types[types.length - 1] : types[0]);
+            return donor;
+        });
+    }
+
+    private List<Long> seedSponsorships(LoadTestSettings.DatasetVolumes volumes, List<Student> students, List<Donor> donors) {
+        SponsorshipRepository repository = context.getBean(SponsorshipRepository.class);
+        PaymentMethod[] methods = PaymentMethod.values();
+        int months = volumes.paymentsPerSponsorship();
+
+        List<Sponsorship> saved = inChunks(volumes.sponsorships(), repository::saveAll, i -> {
+            Student student = students.get((i - 1) % students.size());
+            Donor donor = donors.get(random.nextInt(donors.size()));
+            LocalDate start = LocalDate.now().withDayOfMonth(1).minusMonths(months);
+            // A small share is still waiting for the first payment, like in production
+            boolean pending = i % 15 == 0;
+
+            Sponsorship sponsorship = Sponsorship.builder()
+                    .donor(donor)
+                    .student(student)
+                    .monthlyAmount(student.getRequiredMonthlySupport())
+                    .sponsorStartDate(start)
+                    .startDate(start)
+                    .endDate(start.plusMonths(months + 12L).minusDays(1))
+                    .paymentMethod(methods[i % methods.length])
+                    .status(pending ? SponsorshipStatus.PENDING_PAYMENT : SponsorshipStatus.ACTIVE)
+                    .totalAmount(BigDecimal.ZERO)
+                    .totalMonths(0)
+                    .totalPaidAmount(BigDecimal.ZERO)
+                    .build();
+            if (!pending) {
+                for (int m = 0; m < months; m++) {
+                    LocalDate from = start.plusMonths(m);
+                    Payment payment = new Payment();
+                    payment.setSponsorship(sponsorship);
+                    payment.setPaymentDate(from.plusDays(random.nextInt(5)));
+                    payment.setStartDate(from);
+                    payment.setEndDate(from.withDayOfMonth(from.lengthOfMonth()));
+                    payment.setAmount(sponsorship.getMonthlyAmount());
+                    payment.setReceivedAmount(sponsorship.getMonthlyAmount());
+                    payment.setPaymentMethod(sponsorship.getPaymentMethod());
+                    payment.setStatus(PaymentStatus.COMPLETED);
+                    payment.setTransactionId("LT-" + i + "-" + m);
+                    sponsorship.getPayments().add(payment);
+                }
+                sponsorship.setTotalPaidAmount(sponsorship.getMonthlyAmount().multiply(BigDecimal.valueOf(months)));
+                sponsorship.setLastPaymentDate(start.plusMonths(months - 1L));
+            }
+            return sponsorship;
+        });
+        // Builder-set status skips Sponsorship.setStatus, so flag the sponsored students in one statement
+        context.getBean(JdbcTemplate.class).update(
+                "UPDATE student SET is_sponsored = true WHERE studentId IN " +
+                        "(SELECT student_id FROM sponsorships WHERE status = 'ACTIVE')");
+        return saved.stream().map(Sponsorship::getId).toList();
+    }
+
+    private void seedNotifications(LoadTestSettings.DatasetVolumes volumes, List<Donor> donors) {
+        NotificationRepository repository = context.getBean(NotificationRepository.class);
+        NotificationType[] types = {NotificationType.DONOR_PAYMENT_SUCCESS, NotificationType.PAYMENT_REMINDER,
+                NotificationType.SPONSORSHIP_CREATED, NotificationType.INFO};
+        int perDonor = volumes.notificationsPerDonor();
+
+        inChunks(donors.size() * perDonor, repository::saveAll, i -> {
+            Donor donor = donors.get((i - 1) / perDonor);
+            return Notification.builder()
+                    .userType(UserType.DONOR)
+                    .userId(donor.getDonorId())
+                    .donor(donor)
+                    .title("Seeded notification " + i)
+                    .message("Seeded notification body " + i + " for " + donor.getName() + ".")
+                    .type(types[i % types.length])
+                    .status(random.nextInt(3) == 0 ? NotificationStatus.UNREAD : NotificationStatus.READ)
+                    .inAppSent(true)
+                    .build();
+        });
+    }
+
+    /** Builds {@code count} entities numbered from 1 and persists them in transactions of {@value #CHUNK}. */
+    private <T> List<T> inChunks(int count, java.util.function.Function<List<T>, List<T>> saveAll, IntFunction<T> factory) {
+        List<T> saved = new ArrayList<>(count);
+        for (int from = 1; from <= count; from += CHUNK) {
+            int to = Math.min(count, from + CHUNK - 1);
+            List<T> chunk = new ArrayList<>(to - from + 1);
+            for (int i = from; i <= to; i++) {
+                chunk.add(factory.apply(i));
+            }
+            saved.addAll(tx.execute(status -> saveAll.apply(chunk)));
+        }
+        return saved;
+    }
+}
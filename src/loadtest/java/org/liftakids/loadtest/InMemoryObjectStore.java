@@ -0,0 +1,89 @@
+package org.liftakids.loadtest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bucket contents shared by the fake sync and async S3 clients, so an object uploaded through one
+ * is visible to the other.
+ */
+public class InMemoryObjectStore {
+
+    public record StoredObject(byte[] content, String contentType, Instant lastModified, String eTag) {
+    }
+
+    private final ConcurrentSkipListMap<String, StoredObject> objects = new ConcurrentSkipListMap<>();
+    private final Map<String, Map<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    public StoredObject put(String key, byte[] content, String contentType) {
+        StoredObject object = new StoredObject(content, contentType, Instant.now(),
+                "\"" + UUID.nameUUIDFromBytes(content).toString().replace("-", "") + "\"");
+        objects.put(key, object);
+        bytesWritten.addAndGet(content.length);
+        return object;
+    }
+
+    public StoredObject get(String key) {
+        return objects.get(key);
+    }
+
+    public boolean remove(String key) {
+        return objects.remove(key) != null;
+    }
+
+    /** Keys after {@code startAfter} (exclusive) with the given prefix, in lexicographic order. */
+    public List<Map.Entry<String, StoredObject>> list(String prefix, String startAfter, int limit) {
+        String from = startAfter != null ? startAfter : (prefix != null ? prefix : "");
+        return objects.tailMap(from, startAfter == null).entrySet().stream()
+                .takeWhile(entry -> prefix == null || entry.getKey().startsWith(prefix))
+                .limit(limit)
+                .toList();
+    }
+
+    public String startMultipart() {
+        String uploadId = UUID.randomUUID().toString();
+        multipartUploads.put(uploadId, new ConcurrentSkipListMap<>());
+        return uploadId;
+    }
+
+    public void putPart(String uploadId, int partNumber, byte[] content) {
+        Map<Integer, byte[]> parts = multipartUploads.get(uploadId);
+        if (parts == null) {
+            throw new IllegalStateException("Unknown upload " + uploadId);
+        }
+        parts.put(partNumber, content);
+    }
+
+    public StoredObject completeMultipart(String uploadId, String key, String contentType) {
+        Map<Integer, byte[]> parts = multipartUploads.remove(uploadId);
+        if (parts == null) {
+            throw new IllegalStateException("Unknown upload " + uploadId);
+        }
+        int size = parts.values().stream().mapToInt(part -> part.length).sum();
+        byte[] content = new byte[size];
+        int offset = 0;
+        for (byte[] part : parts.values()) {
+            System.arraycopy(part, 0, content, offset, part.length);
+            offset += part.length;
+        }
+        return put(key, content, contentType);
+    }
+
+    public void abortMultipart(String uploadId) {
+        multipartUploads.remove(uploadId);
+    }
+
+    public int size() {
+        return objects.size();
+    }
+
+    public long bytesWritten() {
+        return bytesWritten.get();
+    }
+}
@@ -0,0 +1,102 @@
+package org.liftakids.loadtest;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link S3AsyncClient} counterpart of {@link InMemoryS3Client} covering single puts and multipart
+ * uploads, the operations used by the upload engine.
+ */
+public class InMemoryS3AsyncClient implements S3AsyncClient {
+
+    private final InMemoryObjectStore store;
+
+    public InMemoryS3AsyncClient(InMemoryObjectStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody requestBody) {
+        return collect(requestBody).thenApply(bytes -> PutObjectResponse.builder()
+                .eTag(store.put(request.key(), bytes, request.contentType()).eTag())
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(CreateMultipartUploadRequest request) {
+        return CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder()
+                .bucket(request.bucket())
+                .key(request.key())
+                .uploadId(store.startMultipart())
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<UploadPartResponse> uploadPart(UploadPartRequest request, AsyncRequestBody requestBody) {
+        return collect(requestBody).thenApply(bytes -> {
+            store.putPart(request.uploadId(), request.partNumber(), bytes);
+            return UploadPartResponse.builder().eTag("\"part-" + request.partNumber() + "\"").build();
+        });
+    }
+
+    @Override
+    public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        InMemoryObjectStore.StoredObject object = store.completeMultipart(request.uploadId(), request.key(), null);
+        return CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder()
+                .bucket(request.bucket())
+                .key(request.key())
+                .eTag(object.eTag())
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(AbortMultipartUploadRequest request) {
+        store.abortMultipart(request.uploadId());
+        return CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build());
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static CompletableFuture<byte[]> collect(AsyncRequestBody body) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.contentLength().orElse(0L).intValue());
+        body.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer buffer) {
+                byte[] chunk = new byte[buffer.remaining()];
+                buffer.get(chunk);
+                out.write(chunk, 0, chunk.length);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                result.completeExceptionally(error);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(out.toByteArray());
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+package org.liftakids.loadtest;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link S3Client} backed by {@link InMemoryObjectStore}. Implements only the operations the
+ * application calls; the SDK's consumer-builder overloads and paginators delegate to these.
+ */
+public class InMemoryS3Client implements S3Client {
+
+    private final InMemoryObjectStore store;
+
+    public InMemoryS3Client(InMemoryObjectStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+        try (InputStream in = requestBody.contentStreamProvider().newStream()) {
+            InMemoryObjectStore.StoredObject object = store.put(request.key(), in.readAllBytes(),
+                    request.contentType() != null ? request.contentType() : requestBody.contentType());
+            return PutObjectResponse.builder().eTag(object.eTag()).build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest request,
+                                       ResponseTransformer<GetObjectResponse, ReturnT> responseTransformer) {
+        InMemoryObjectStore.StoredObject object = require(request.key());
+        GetObjectResponse response = GetObjectResponse.builder()
+                .contentLength((long) object.content().length)
+                .contentType(object.contentType())
+                .lastModified(object.lastModified())
+                .eTag(object.eTag())
+                .build();
+        try {
+            return responseTransformer.transform(response,
+                    AbortableInputStream.create(new ByteArrayInputStream(object.content())));
+        } catch (Exception e) {
+            throw SdkClientException.create("Failed to transform " + request.key(), e);
+        }
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        return getObject(request, ResponseTransformer.toInputStream());
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        InMemoryObjectStore.StoredObject object = require(request.key());
+        return HeadObjectResponse.builder()
+                .contentLength((long) object.content().length)
+                .contentType(object.contentType())
+                .lastModified(object.lastModified())
+                .eTag(object.eTag())
+                .build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        store.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+        List<DeletedObject> deleted = new ArrayList<>();
+        for (ObjectIdentifier identifier : request.delete().objects()) {
+            store.remove(identifier.key());
+            deleted.add(DeletedObject.builder().key(identifier.key()).build());
+        }
+        return DeleteObjectsResponse.builder().deleted(deleted).build();
+    }
+
+    @Override
+    public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+        int maxKeys = request.maxKeys() != null ? request.maxKeys() : 1000;
+        String startAfter = request.continuationToken() != null ? request.continuationToken() : request.startAfter();
+        List<Map.Entry<String, InMemoryObjectStore.StoredObject>> page = store.list(request.prefix(), startAfter, maxKeys + 1);
+
+        boolean truncated = page.size() > maxKeys;
+        List<S3Object> contents = page.stream()
+                .limit(maxKeys)
+                .map(entry -> S3Object.builder()
+                        .key(entry.getKey())
+                        .size((long) entry.getValue().content().length)
+                        .lastModified(entry.getValue().lastModified())
+                        .eTag(entry.getValue().eTag())
+                        .build())
+                .toList();
+        return ListObjectsV2Response.builder()
+                .contents(contents)
+                .keyCount(contents.size())
+                .isTruncated(truncated)
+                .nextContinuationToken(truncated ? contents.get(contents.size() - 1).key() : null)
+                .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private InMemoryObjectStore.StoredObject require(String key) {
+        InMemoryObjectStore.StoredObject object = store.get(key);
+        if (object == null) {
+            throw NoSuchKeyException.builder().statusCode(404).message("No such key: " + key).build();
+        }
+        return object;
+    }
+}
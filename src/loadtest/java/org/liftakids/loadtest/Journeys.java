@@ -0,0 +1,81 @@
+package org.liftakids.loadtest;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Scripted user sessions, weighted roughly after production traffic: mostly anonymous visitors
+ * browsing students and institutions, some signed-in donors, a few institution staff.
+ */
+public final class Journeys {
+
+    @FunctionalInterface
+    public interface Journey {
+        void run(LoadClient client, DatasetSeeder.Dataset data, Random random);
+    }
+
+    public record Weighted(String name, int weight, Journey journey) {
+    }
+
+    private Journeys() {
+    }
+
+    public static List<Weighted> all() {
+        return List.of(
+                new Weighted("visitor", 6, Journeys::visitor),
+                new Weighted("donor", 3, Journeys::donor),
+                new Weighted("institution", 1, Journeys::institution));
+    }
+
+    public static Weighted pick(List<Weighted> journeys, Random random) {
+        int total = journeys.stream().mapToInt(Weighted::weight).sum();
+        int roll = random.nextInt(total);
+        for (Weighted journey : journeys) {
+            roll -= journey.weight();
+            if (roll < 0) {
+                return journey;
+            }
+        }
+        return journeys.get(journeys.size() - 1);
+    }
+
+    /** Home page, student discovery, institution directory and a student profile. */
+    static void visitor(LoadClient client, DatasetSeeder.Dataset data, Random random) {
+        client.get("/api/dashboard/stats", "/api/dashboard/stats");
+        client.get("/api/students/unsponsored/urgent/top", "/api/students/unsponsored/urgent/top?limit=4");
+        client.get("/api/students/discover", "/api/students/discover?page=" + random.nextInt(5) + "&size=12");
+        client.get("/api/divisions", "/api/divisions");
+        client.get("/api/institutions/by-union/{id}", "/api/institutions/by-union/" + any(data.unionIds(), random));
+        client.get("/api/institutions/approved", "/api/institutions/approved?page=" + random.nextInt(3));
+        client.get("/api/students/{id}", "/api/students/" + any(data.studentIds(), random));
+    }
+
+    /** Sign-in, sponsorship and payment history, notifications. */
+    static void donor(LoadClient client, DatasetSeeder.Dataset data, Random random) {
+        int index = random.nextInt(data.donorIds().size());
+        long donorId = data.donorIds().get(index);
+        client.postJson("/api/donors/login", "/api/donors/login",
+                "{\"email\":\"" + DatasetSeeder.donorEmail(index + 1) + "\",\"password\":\"" + DatasetSeeder.PASSWORD + "\"}");
+        client.get("/api/donors/{id}/sponsorships/paged", "/api/donors/" + donorId + "/sponsorships/paged");
+        client.get("/api/sponsorships/donor/{id}/payments", "/api/sponsorships/donor/" + donorId + "/payments?page=0&size=10");
+        client.get("/api/notifications/donor/unread-count", "/api/notifications/donor/unread-count",
+                "X-Donor-Id", Long.toString(donorId));
+        client.get("/api/notifications/donor", "/api/notifications/donor", "X-Donor-Id", Long.toString(donorId));
+    }
+
+    /** Institution dashboard: students, pending and completed payments, notifications. */
+    static void institution(LoadClient client, DatasetSeeder.Dataset data, Random random) {
+        long institutionId = any(data.institutionIds(), random);
+        client.get("/api/students/institution/{id}/withPagination",
+                "/api/students/institution/" + institutionId + "/withPagination?page=0&size=10");
+        client.get("/api/pending-payment-sponsorships", "/api/pending-payment-sponsorships?institutionId=" + institutionId);
+        client.get("/api/completed-payments", "/api/completed-payments?institutionId=" + institutionId);
+        client.get("/api/sponsorship-stats", "/api/sponsorship-stats?institutionId=" + institutionId);
+        client.get("/api/notifications/institution/{id}/unread-count",
+                "/api/notifications/institution/" + institutionId + "/unread-count");
+    }
+
+    private static long any(List<Long> ids, Random random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,82 @@
+package org.liftakids.loadtest;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-endpoint latency samples and statement counts. Samples are kept raw (a long per request) so
+ * percentiles are exact; a run of a few hundred thousand requests stays in the low megabytes.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyMicros, boolean error, int queries) {
+        endpoints.computeIfAbsent(endpoint, EndpointStats::new).add(latencyMicros, error, queries);
+    }
+
+    public List<EndpointStats.Summary> summaries() {
+        Collection<EndpointStats> stats = endpoints.values();
+        return stats.stream()
+                .map(EndpointStats::summarize)
+                .sorted(Comparator.comparing(EndpointStats.Summary::endpoint))
+                .toList();
+    }
+
+    public static final class EndpointStats {
+        private final String endpoint;
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+        private long queriesTotal;
+        private int queriesMax;
+        private int queriesReported;
+
+        private EndpointStats(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        private synchronized void add(long latencyMicros, boolean error, int queries) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyMicros;
+            if (error) {
+                errors++;
+            }
+            // -1 when the response carried no count (e.g. an async controller)
+            if (queries >= 0) {
+                queriesReported++;
+                queriesTotal += queries;
+                queriesMax = Math.max(queriesMax, queries);
+            }
+        }
+
+        private synchronized Summary summarize() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new Summary(endpoint, count, errors,
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 95),
+                    percentile(sorted, 99), count == 0 ? 0 : sorted[count - 1],
+                    queriesReported == 0 ? -1 : (double) queriesTotal / queriesReported,
+                    queriesReported == 0 ? -1 : queriesMax);
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        /** Latencies in microseconds. */
+        public record Summary(String endpoint, int count, int errors, long p50, long p90, long p95, long p99,
+                              long max, double meanQueries, int maxQueries) {
+        }
+    }
+}
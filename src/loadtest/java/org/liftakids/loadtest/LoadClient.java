@@ -0,0 +1,63 @@
+package org.liftakids.loadtest;
+
+import org.liftakids.monitoring.SqlStatsFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Thin HTTP client for journeys. Every call is recorded under its endpoint template (e.g.
+ * {@code GET /api/students/{id}}) rather than the concrete URL, so percentiles aggregate per route.
+ */
+public class LoadClient {
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final Duration thinkTime;
+
+    public LoadClient(HttpClient httpClient, String baseUrl, LatencyRecorder recorder, Duration thinkTime) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.thinkTime = thinkTime;
+    }
+
+    public int get(String endpoint, String path, String... headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        return send("GET " + endpoint, builder, headers);
+    }
+
+    public int postJson(String endpoint, String path, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        return send("POST " + endpoint, builder);
+    }
+
+    private int send(String endpoint, HttpRequest.Builder builder, String... headers) {
+        for (int i = 0; i + 1 < headers.length; i += 2) {
+            builder.header(headers[i], headers[i + 1]);
+        }
+        HttpRequest request = builder.timeout(Duration.ofSeconds(30)).build();
+        long started = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            long micros = (System.nanoTime() - started) / 1_000;
+            int queries = response.headers().firstValue(SqlStatsFilter.HEADER).map(Integer::parseInt).orElse(-1);
+            recorder.record(endpoint, micros, response.statusCode() >= 500, queries);
+            LoadDriver.sleep(thinkTime.toMillis());
+            return response.statusCode();
+        } catch (IOException e) {
+            recorder.record(endpoint, (System.nanoTime() - started) / 1_000, true, -1);
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+}
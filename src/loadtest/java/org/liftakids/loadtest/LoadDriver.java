@@ -0,0 +1,75 @@
+package org.liftakids.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-model driver: a fixed number of virtual users, each running weighted journeys back to back
+ * with think time between requests, started evenly over the ramp-up period.
+ */
+@Slf4j
+public class LoadDriver {
+
+    private final LoadTestSettings settings;
+    private final String baseUrl;
+    private final DatasetSeeder.Dataset dataset;
+
+    public LoadDriver(LoadTestSettings settings, String baseUrl, DatasetSeeder.Dataset dataset) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+    }
+
+    public LatencyRecorder run() throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(4))
+                .build();
+        LoadClient client = new LoadClient(httpClient, baseUrl, recorder, settings.thinkTime());
+        List<Journeys.Weighted> journeys = Journeys.all();
+        AtomicLong completed = new AtomicLong();
+
+        long deadline = System.nanoTime() + settings.rampUp().toNanos() + settings.duration().toNanos();
+        long stagger = settings.users() > 1 ? settings.rampUp().toMillis() / (settings.users() - 1) : 0;
+        ExecutorService users = Executors.newFixedThreadPool(settings.users());
+        for (int user = 0; user < settings.users(); user++) {
+            Random random = new Random(settings.seed() + user);
+            long startDelay = stagger * user;
+            users.submit(() -> {
+                sleep(startDelay);
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    Journeys.pick(journeys, random).journey().run(client, dataset, random);
+                    completed.incrementAndGet();
+                }
+            });
+        }
+        users.shutdown();
+        long timeoutSeconds = settings.rampUp().plus(settings.duration()).toSeconds() + 60;
+        if (!users.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+            users.shutdownNow();
+        }
+        log.info("{} journeys completed by {} users", completed.get(), settings.users());
+        return recorder;
+    }
+
+    static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.liftakids.loadtest;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * Replaces the external integrations (R2, SMTP) with in-process fakes. Only active under the
+ * profile {@link LoadTestMain} starts with.
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    @Bean
+    public InMemoryObjectStore inMemoryObjectStore() {
+        return new InMemoryObjectStore();
+    }
+
+    @Bean
+    @Primary
+    public S3Client inMemoryS3Client(InMemoryObjectStore store) {
+        return new InMemoryS3Client(store);
+    }
+
+    @Bean
+    @Primary
+    public S3AsyncClient inMemoryS3AsyncClient(InMemoryObjectStore store) {
+        return new InMemoryS3AsyncClient(store);
+    }
+
+    @Bean
+    @Primary
+    public CountingMailSender countingMailSender() {
+        return new CountingMailSender();
+    }
+}
@@ -0,0 +1,106 @@
+package org.liftakids.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.LiftAKidsApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Boots the application against a disposable MySQL (Testcontainers, or {@code -Dloadtest.jdbc-url}
+ * for an existing local server), seeds it, drives the journeys and prints per-endpoint latency
+ * percentiles and statement counts. Never point it at a shared database: the schema is recreated.
+ * <p>
+ * {@code mvn -P loadtest compile exec:java -Dloadtest.users=50 -Dloadtest.duration-seconds=120}
+ * <p>
+ * {@code -Dloadtest.replica=true} turns on read replica routing, through a second pool on the same database
+ * unless {@code -Dloadtest.replica-jdbc-url} names a real replica; the heartbeat then reports zero lag and the
+ * liftakids.datasource.reads counters show the split.
+ */
+@Slf4j
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        MySQLContainer<?> mysql = null;
+        String jdbcUrl = settings.jdbcUrl();
+        String username = settings.jdbcUsername();
+        String password = settings.jdbcPassword();
+        if (jdbcUrl == null) {
+            mysql = new MySQLContainer<>("mysql:8.0").withDatabaseName("liftakids_loadtest");
+            mysql.start();
+            jdbcUrl = mysql.getJdbcUrl();
+            username = mysql.getUsername();
+            password = mysql.getPassword();
+        }
+
+        String replicaUrl = settings.replicaJdbcUrl() != null ? settings.replicaJdbcUrl() : jdbcUrl;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LiftAKidsApplication.class, LoadTestConfig.class)
+                .profiles("loadtest")
+                .properties(
+                        "spring.datasource.url=" + jdbcUrl,
+                        "spring.datasource.username=" + username,
+                        "spring.datasource.password=" + password,
+                        "app.datasource.replica.enabled=" + settings.replica(),
+                        "app.datasource.replica.url=" + replicaUrl)
+                .run(args)) {
+
+            DatasetSeeder.Dataset dataset = new DatasetSeeder(context, settings.seed()).seed(settings.volumes());
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+            LatencyRecorder recorder = new LoadDriver(settings, "http://localhost:" + port + contextPath, dataset).run();
+
+            List<LatencyRecorder.EndpointStats.Summary> summaries = recorder.summaries();
+            printReport(summaries);
+            writeCsv(Path.of(settings.reportFile()), summaries);
+            log.info("Emails built (not sent): {}, objects stored: {}",
+                    context.getBean(CountingMailSender.class).sentCount(),
+                    context.getBean(InMemoryObjectStore.class).size());
+        } finally {
+            if (mysql != null) {
+                mysql.stop();
+            }
+        }
+    }
+
+    private static void printReport(List<LatencyRecorder.EndpointStats.Summary> summaries) {
+        String format = "%-58s %7s %6s %9s %9s %9s %9s %9s %8s %7s%n";
+        StringBuilder report = new StringBuilder(System.lineSeparator());
+        report.append(String.format(Locale.ROOT, format,
+                "endpoint", "count", "5xx", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms", "sql avg", "sql max"));
+        for (LatencyRecorder.EndpointStats.Summary s : summaries) {
+            report.append(String.format(Locale.ROOT, format, s.endpoint(), s.count(), s.errors(),
+                    millis(s.p50()), millis(s.p90()), millis(s.p95()), millis(s.p99()), millis(s.max()),
+                    s.meanQueries() < 0 ? "-" : String.format(Locale.ROOT, "%.1f", s.meanQueries()),
+                    s.maxQueries() < 0 ? "-" : Integer.toString(s.maxQueries())));
+        }
+        log.info(report.toString());
+    }
+
+    private static void writeCsv(Path file, List<LatencyRecorder.EndpointStats.Summary> summaries) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("endpoint,count,errors,p50_us,p90_us,p95_us,p99_us,max_us,sql_mean,sql_max");
+            for (LatencyRecorder.EndpointStats.Summary s : summaries) {
+                out.printf(Locale.ROOT, "\"%s\",%d,%d,%d,%d,%d,%d,%d,%.2f,%d%n", s.endpoint(), s.count(), s.errors(),
+                        s.p50(), s.p90(), s.p95(), s.p99(), s.max(), s.meanQueries(), s.maxQueries());
+            }
+        }
+        log.info("Report written to {}", file.toAbsolutePath());
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.1f", micros / 1000.0);
+    }
+}
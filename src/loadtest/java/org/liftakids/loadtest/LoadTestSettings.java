@@ -0,0 +1,65 @@
+package org.liftakids.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Run configuration, read from {@code -Dloadtest.*} system properties so a run can be reproduced
+ * from its command line alone.
+ */
+public record LoadTestSettings(
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        boolean replica,
+        String replicaJdbcUrl,
+        int users,
+        Duration duration,
+        Duration rampUp,
+        Duration thinkTime,
+        long seed,
+        String reportFile,
+        DatasetVolumes volumes) {
+
+    public record DatasetVolumes(
+            int divisions,
+            int districtsPerDivision,
+            int thanasPerDistrict,
+            int unionsPerThana,
+            int institutions,
+            int studentsPerInstitution,
+            int donors,
+            int sponsorships,
+            int paymentsPerSponsorship,
+            int notificationsPerDonor) {
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.jdbc-url"),
+                System.getProperty("loadtest.jdbc-username", "root"),
+                System.getProperty("loadtest.jdbc-password", ""),
+                Boolean.getBoolean("loadtest.replica"),
+                System.getProperty("loadtest.replica-jdbc-url"),
+                intProperty("loadtest.users", 20),
+                Duration.ofSeconds(intProperty("loadtest.duration-seconds", 60)),
+                Duration.ofSeconds(intProperty("loadtest.ramp-up-seconds", 10)),
+                Duration.ofMillis(intProperty("loadtest.think-time-ms", 200)),
+                Long.getLong("loadtest.seed", 42L),
+                System.getProperty("loadtest.report", "target/loadtest-report.csv"),
+                new DatasetVolumes(
+                        intProperty("loadtest.divisions", 8),
+                        intProperty("loadtest.districts-per-division", 8),
+                        intProperty("loadtest.thanas-per-district", 8),
+                        intProperty("loadtest.unions-per-thana", 9),
+                        intProperty("loadtest.institutions", 200),
+                        intProperty("loadtest.students-per-institution", 25),
+                        intProperty("loadtest.donors", 1000),
+                        intProperty("loadtest.sponsorships", 3000),
+                        intProperty("loadtest.payments-per-sponsorship", 12),
+                        intProperty("loadtest.notifications-per-donor", 10)));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger(name, defaultValue);
+    }
+}
@@ -0,0 +1,67 @@
+package org.liftakids.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.liftakids.monitoring.DomainMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the route's bulkhead permits for the whole request, the multipart body read included, and answers 503 with
+ * Retry-After when none frees up in time. Async handlers release the permit when the servlet thread
+ * returns, which is when their JDBC work is done.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final BulkheadRegistry registry;
+    private final DomainMetrics domainMetrics;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        List<Bulkhead> bulkheads = "OPTIONS".equals(request.getMethod())
+                ? List.of() : registry.find(request.getMethod(), path);
+        int entered = 0;
+        try {
+            for (Bulkhead bulkhead : bulkheads) {
+                if (!bulkhead.tryEnter()) {
+                    reject(bulkhead, response);
+                    return;
+                }
+                entered++;
+            }
+            chain.doFilter(request, response);
+        } finally {
+            for (int i = entered - 1; i >= 0; i--) {
+                bulkheads.get(i).exit();
+            }
+        }
+    }
+
+    private void reject(Bulkhead bulkhead, HttpServletResponse response) throws IOException {
+        domainMetrics.admissionRejected(bulkhead.name());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of(
+                "success", false,
+                "message", "Server is busy, please retry shortly"));
+    }
+}
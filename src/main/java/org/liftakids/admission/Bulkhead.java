@@ -0,0 +1,50 @@
+package org.liftakids.admission;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps how many requests of one kind run at once. Callers that cannot get a permit within {@code maxWait}
+ * are turned away instead of queueing on a thread or a JDBC connection. A plain {@link Semaphore} parks
+ * virtual threads without pinning their carrier.
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final int permits;
+    private final Duration maxWait;
+    private final Semaphore semaphore;
+
+    public Bulkhead(String name, int permits, Duration maxWait) {
+        this.name = name;
+        this.permits = Math.max(permits, 1);
+        this.maxWait = maxWait;
+        this.semaphore = new Semaphore(this.permits, true);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int permits() {
+        return permits;
+    }
+
+    public int inUse() {
+        return permits - semaphore.availablePermits();
+    }
+
+    public boolean tryEnter() {
+        try {
+            return semaphore.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void exit() {
+        semaphore.release();
+    }
+}
@@ -0,0 +1,95 @@
+package org.liftakids.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Assigns every API request to its bulkheads, first match wins. Every request that touches the database holds
+ * a permit of the "db" bulkhead, sized to the Hikari pool minus a reserve for scheduled jobs and workers. Slow
+ * I/O (uploads to R2, OCR intake, SMTP) also does JDBC work, so it additionally holds a permit of a small
+ * dedicated bulkhead, taken first, which keeps it from occupying all of the db permits.
+ */
+@Component
+@Slf4j
+public class BulkheadRegistry {
+
+    private final List<Route> routes = new ArrayList<>();
+    private final List<Bulkhead> bulkheads = new ArrayList<>();
+
+    public BulkheadRegistry(MeterRegistry meterRegistry,
+                            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int jdbcPoolSize,
+                            @Value("${app.admission.db-reserved-connections:2}") int reservedConnections,
+                            @Value("${app.admission.upload-permits:4}") int uploadPermits,
+                            @Value("${app.admission.ocr-permits:2}") int ocrPermits,
+                            @Value("${app.admission.email-permits:2}") int emailPermits,
+                            @Value("${app.admission.max-wait:2s}") Duration maxWait) {
+        Bulkhead uploads = bulkhead("uploads", uploadPermits, maxWait);
+        Bulkhead ocr = bulkhead("ocr", ocrPermits, maxWait);
+        Bulkhead email = bulkhead("email", emailPermits, maxWait);
+        Bulkhead db = bulkhead("db", jdbcPoolSize - reservedConnections, maxWait);
+
+        route("POST", "/api/students/addStudent", uploads, db);
+        route("PUT", "/api/students/updateStudent/{studentId}", uploads, db);
+        route("POST", "/api/upload-receipt", uploads, db);
+        route("POST", "/api/uploads/**", uploads, db);
+
+        route("POST", "/api/results/upload", ocr, db);
+
+        route("POST", "/api/admin/email/**", email, db);
+        route("POST", "/api/contact/submit", email, db);
+        route("POST", "/api/contact/messages/{id}/reply", email, db);
+        route("POST", "/api/contact/test-email", email, db);
+
+        // Served from the local disk cache, and health checks must answer under load
+        route(null, "/api/assets/**");
+        route(null, "/api/health/**");
+        route(null, "/api/**", db);
+
+        for (Bulkhead bulkhead : bulkheads) {
+            Gauge.builder("liftakids.bulkhead.in_use", bulkhead, Bulkhead::inUse)
+                    .description("Requests currently holding a bulkhead permit")
+                    .tag("bulkhead", bulkhead.name())
+                    .register(meterRegistry);
+            Gauge.builder("liftakids.bulkhead.permits", bulkhead, Bulkhead::permits)
+                    .tag("bulkhead", bulkhead.name())
+                    .register(meterRegistry);
+        }
+        log.info("Admission control: db={} permits, of which uploads={} ocr={} email={}, max wait {}",
+                db.permits(), uploads.permits(), ocr.permits(), email.permits(), maxWait);
+    }
+
+    private Bulkhead bulkhead(String name, int permits, Duration maxWait) {
+        Bulkhead bulkhead = new Bulkhead(name, permits, maxWait);
+        bulkheads.add(bulkhead);
+        return bulkhead;
+    }
+
+    // A null method matches any method; no bulkheads exempts the path. Bulkheads are entered in the given order
+    private void route(String method, String pattern, Bulkhead... bulkheads) {
+        routes.add(new Route(method, PathPatternParser.defaultInstance.parse(pattern), Arrays.asList(bulkheads)));
+    }
+
+    public List<Bulkhead> find(String method, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (Route route : routes) {
+            if ((route.method() == null || route.method().equals(method)) && route.pattern().matches(container)) {
+                return route.bulkheads();
+            }
+        }
+        return List.of();
+    }
+
+    private record Route(String method, PathPattern pattern, List<Bulkhead> bulkheads) {
+    }
+}
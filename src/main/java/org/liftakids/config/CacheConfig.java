@@ -0,0 +1,10 @@
+package org.liftakids.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Cache names and Caffeine spec are set in application.properties (spring.cache.*)
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
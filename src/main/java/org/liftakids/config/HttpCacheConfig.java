@@ -0,0 +1,22 @@
+package org.liftakids.config;
+
+import lombok.RequiredArgsConstructor;
+import org.liftakids.httpcache.ConditionalRequestInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// ETag/Cache-Control for the endpoints listed in CachePolicyRegistry; compression is server.compression.*
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.http-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class HttpCacheConfig implements WebMvcConfigurer {
+
+    private final ConditionalRequestInterceptor conditionalRequestInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalRequestInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,103 @@
+package org.liftakids.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.datasource.PrimaryCacheFillAspect;
+import org.liftakids.datasource.ReadYourWritesFilter;
+import org.liftakids.datasource.ReplicaFallbackDataSource;
+import org.liftakids.datasource.ReplicaLagMonitor;
+import org.liftakids.datasource.WriteTrackingDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to a replica pool and everything else to the primary.
+ * The application sees one DataSource: a lazy proxy that picks its target when the first statement runs, by
+ * which time the transaction manager has marked the connection read-only. Both Hikari pools stay beans, so
+ * each gets its own hikaricp_* metrics under its pool name. Reads that feed a cache or an ETag are kept on the
+ * primary (see {@link PrimaryCacheFillAspect} and {@code ConditionalRequestInterceptor}).
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${app.datasource.replica.password:${spring.datasource.password}}") String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primary, replica, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        DataSource routing = routing(primary,
+                new ReplicaFallbackDataSource(primary, replica, replicaLagMonitor, meterRegistry), window);
+        log.info("Read-only transactions routed to the replica pool, read-your-writes window {}", window);
+        return routing;
+    }
+
+    public static LazyConnectionDataSourceProxy routing(DataSource primary, DataSource readOnly, Duration window) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primary, window));
+        // Known defaults (Hikari and MySQL's), otherwise the proxy opens a probe connection through
+        // WriteTrackingDataSource on first use and pins that thread to the primary
+        routing.setDefaultAutoCommit(true);
+        routing.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        routing.setReadOnlyDataSource(readOnly);
+        return routing;
+    }
+
+    @Bean
+    public PrimaryCacheFillAspect primaryCacheFillAspect() {
+        return new PrimaryCacheFillAspect();
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,82 @@
+package org.liftakids.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache regions. Every region is created here with its own size and TTL and handed to
+ * Hibernate as a ready CacheManager; missing_cache_strategy=fail turns a region name on an entity that is not
+ * listed here into a startup error instead of a silently unbounded cache.
+ */
+@Configuration
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    public static final String LOCATIONS = "locations";
+    public static final String INSTITUTIONS = "institutions";
+    public static final String STATIC_PAGES = "static-pages";
+    public static final String ADMINS = "admins";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(MeterRegistry meterRegistry,
+                                              @Value("${app.l2-cache.locations.max-size:20000}") long locationsSize,
+                                              @Value("${app.l2-cache.locations.ttl:24h}") Duration locationsTtl,
+                                              @Value("${app.l2-cache.institutions.max-size:2000}") long institutionsSize,
+                                              @Value("${app.l2-cache.institutions.ttl:10m}") Duration institutionsTtl,
+                                              @Value("${app.l2-cache.static-pages.max-size:200}") long pagesSize,
+                                              @Value("${app.l2-cache.static-pages.ttl:1h}") Duration pagesTtl,
+                                              @Value("${app.l2-cache.admins.max-size:200}") long adminsSize,
+                                              @Value("${app.l2-cache.admins.ttl:10m}") Duration adminsTtl,
+                                              @Value("${app.l2-cache.queries.max-size:5000}") long queriesSize,
+                                              @Value("${app.l2-cache.queries.ttl:1h}") Duration queriesTtl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("liftakids-hibernate"), getClass().getClassLoader());
+
+        region(cacheManager, meterRegistry, LOCATIONS, locationsSize, locationsTtl);
+        region(cacheManager, meterRegistry, INSTITUTIONS, institutionsSize, institutionsTtl);
+        region(cacheManager, meterRegistry, STATIC_PAGES, pagesSize, pagesTtl);
+        region(cacheManager, meterRegistry, ADMINS, adminsSize, adminsTtl);
+        region(cacheManager, meterRegistry, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, queriesSize, queriesTtl);
+        // Never bounded or expired: a missing timestamp makes Hibernate treat every cached query on that table as fresh
+        region(cacheManager, meterRegistry, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, -1, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void region(CacheManager cacheManager, MeterRegistry meterRegistry,
+                               String name, long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate already stores disassembled state, the JCache default would serialize a copy on every put and get
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (maxSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(name, configuration),
+                Tags.of("cache.manager", "hibernate"));
+        log.debug("L2 cache region {}: max {} entries, ttl {}", name, maxSize > 0 ? maxSize : "unbounded", ttl);
+    }
+}
@@ -0,0 +1,32 @@
+package org.liftakids.config;
+
+import org.liftakids.monitoring.SqlCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// Replaces spring.jpa.show-sql: statements are counted per request/job instead of printed
+@Configuration
+@ConditionalOnProperty(name = "app.sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationConfig {
+
+    // static so the post-processor is registered before the DataSource bean is created.
+    // Only the bean the application uses: with replica routing the pools behind it are beans too,
+    // and wrapping both levels would count every statement twice.
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof SqlCountingDataSource)) {
+                    return new SqlCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -3,8 +3,10 @@ package org.liftakids.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.liftakids.dto.admin.*;
+import org.liftakids.dto.storage.StorageGcReportDto;
 import org.liftakids.repositories.AdminRepository;
 import org.liftakids.service.AdminService;
+import org.liftakids.service.StorageGcService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +20,17 @@ public class AdminController {
 
     private final AdminService adminService;
     private final AdminRepository adminRepository;
+    private final StorageGcService storageGcService;
+    // Runs the storage orphan GC now (honours app.storage.gc.dry-run)
+    @PostMapping("/storage/gc")
+    public ResponseEntity<StorageGcReportDto> runStorageGc() {
+        StorageGcReportDto report = storageGcService.collectOrphans();
+        if (report == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(report);
+    }
+
     // Authentication
     @PostMapping("/login")
     public ResponseEntity<AuthResponseDTO> login(@Valid @RequestBody AdminLoginDTO loginDTO) {
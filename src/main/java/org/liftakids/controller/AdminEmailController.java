@@ -1,17 +1,23 @@
 package org.liftakids.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.liftakids.dto.email.EmailCampaignDto;
+import org.liftakids.dto.email.EmailCampaignRequestDto;
+import org.liftakids.entity.enm.EmailCampaignAudience;
+import org.liftakids.exception.BusinessException;
+import org.liftakids.service.EmailCampaignService;
 import org.liftakids.service.Util.EmailService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +30,7 @@ public class AdminEmailController {
     private String appName;
     private static final Logger log = LoggerFactory.getLogger(EmailService.class);
     private final EmailService emailService;
+    private final EmailCampaignService emailCampaignService;
 
     @PostMapping("/send")
     public ResponseEntity<?> sendCustomEmail(@RequestBody Map<String, String> emailRequest) {
@@ -153,6 +160,7 @@ public class AdminEmailController {
         }
     }
 
+    // Explicit recipient list; runs as an EMAIL_LIST campaign so the request returns immediately
     @PostMapping("/send-bulk")
     public ResponseEntity<?> sendBulkEmail(@RequestBody Map<String, Object> bulkRequest) {
         try {
@@ -165,36 +173,59 @@ public class AdminEmailController {
                 return ResponseEntity.badRequest()
                         .body(Map.of("success", false, "message", "Recipient emails are required"));
             }
-
-            int successCount = 0;
-            int failureCount = 0;
-            List<Map<String, String>> results = new ArrayList<>();
-
-            for (String toEmail : toEmails) {
-                boolean sent = emailService.sendCustomEmail(toEmail.trim(), subject, message, senderName);
-                if (sent) {
-                    successCount++;
-                    results.add(Map.of("email", toEmail, "status", "success"));
-                } else {
-                    failureCount++;
-                    results.add(Map.of("email", toEmail, "status", "failed"));
-                }
+            if (subject == null || subject.trim().isEmpty() || message == null || message.trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("success", false, "message", "Email subject and message are required"));
             }
 
-            return ResponseEntity.ok(Map.of(
+            EmailCampaignRequestDto request = new EmailCampaignRequestDto();
+            request.setAudience(EmailCampaignAudience.EMAIL_LIST);
+            request.setToEmails(toEmails);
+            request.setSubject(subject);
+            request.setMessage(message);
+            request.setSenderName(senderName);
+            EmailCampaignDto campaign = emailCampaignService.startCampaign(request, senderName);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
                     "success", true,
-                    "message", String.format("Bulk email sent: %d success, %d failed", successCount, failureCount),
-                    "results", results,
-                    "successCount", successCount,
-                    "failureCount", failureCount
+                    "message", "Bulk email queued for " + campaign.getTotalRecipients() + " recipients",
+                    "campaignId", campaign.getId(),
+                    "campaign", campaign
             ));
 
+        } catch (BusinessException e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("success", false, "message", "Error sending bulk email: " + e.getMessage()));
         }
     }
 
+    // Recipients selected by query (all donors, donors of an institution, approved institutions) or a list;
+    // poll /campaigns/{id} for progress
+    @PostMapping("/campaigns")
+    public ResponseEntity<EmailCampaignDto> startCampaign(@Valid @RequestBody EmailCampaignRequestDto request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(emailCampaignService.startCampaign(request, request.getSenderName()));
+    }
+
+    @GetMapping("/campaigns")
+    public ResponseEntity<Page<EmailCampaignDto>> getCampaigns(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(emailCampaignService.getCampaigns(page, size));
+    }
+
+    @GetMapping("/campaigns/{id}")
+    public ResponseEntity<EmailCampaignDto> getCampaign(@PathVariable Long id) {
+        return ResponseEntity.ok(emailCampaignService.getCampaign(id));
+    }
+
+    @PostMapping("/campaigns/{id}/cancel")
+    public ResponseEntity<EmailCampaignDto> cancelCampaign(@PathVariable Long id) {
+        return ResponseEntity.ok(emailCampaignService.cancelCampaign(id));
+    }
+
     // ✅ Email template sending
     @PostMapping("/send-template")
     public ResponseEntity<?> sendTemplateEmail(@RequestBody Map<String, String> templateRequest) {
@@ -0,0 +1,197 @@
+package org.liftakids.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.liftakids.exception.ResourceNotFoundException;
+import org.liftakids.service.Util.AssetDiskCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Serves storage objects through the local disk cache with Range, ETag and conditional GET support.
+ * Uses Tomcat sendfile when the connector supports it, otherwise FileChannel.transferTo.
+ */
+@RestController
+@RequestMapping("/api/assets")
+@RequiredArgsConstructor
+public class AssetController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final AssetDiskCache assetDiskCache;
+
+    @Value("${app.assets.prefixes:students/,receipts/}")
+    private List<String> prefixes;
+
+    @Value("${app.assets.public-max-age:86400}")
+    private long publicMaxAge;
+
+    @Value("${app.assets.private-max-age:300}")
+    private long privateMaxAge;
+
+    @GetMapping("/{*key}")
+    public void getAsset(@PathVariable String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String objectKey = key.startsWith("/") ? key.substring(1) : key;
+        if (!isServable(objectKey)) {
+            throw new ResourceNotFoundException("Asset not found: " + objectKey);
+        }
+
+        // The lease keeps eviction from deleting the file mid-response; sendfile after return is covered by the evict grace
+        try (AssetDiskCache.Lease lease = assetDiskCache.get(objectKey)) {
+            serve(objectKey, lease.asset(), request, response);
+        }
+    }
+
+    private void serve(String objectKey, AssetDiskCache.CachedAsset asset,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long length = asset.size();
+
+        response.setHeader(HttpHeaders.ETAG, asset.eTag());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, objectKey.startsWith("receipts/")
+                ? "private, max-age=" + privateMaxAge
+                : "public, max-age=" + publicMaxAge);
+        if (asset.lastModified() != null) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, asset.lastModified().toEpochMilli());
+        }
+
+        if (notModified(request, asset)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        boolean rangeApplies = range != null && (ifRange == null || ifRange.equals(asset.eTag()));
+
+        if (rangeApplies) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        response.setContentType(asset.contentType() != null ? asset.contentType() : "application/octet-stream");
+        response.setContentLengthLong(end - start + 1);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat writes the file with sendfile after the handler returns, no copy through the JVM
+            request.setAttribute(SENDFILE_FILENAME, asset.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(asset.file(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = end - start + 1;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    private boolean isServable(String key) {
+        if (key.isEmpty() || key.contains("..")) {
+            return false;
+        }
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean notModified(HttpServletRequest request, AssetDiskCache.CachedAsset asset) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(asset.eTag())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince > 0 && asset.lastModified() != null
+                && asset.lastModified().toEpochMilli() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * Returns {start, end} for a single satisfiable range, an empty array when the header should be
+     * ignored (multiple ranges or malformed), or null when the range cannot be satisfied.
+     */
+    private long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.contains(",")) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
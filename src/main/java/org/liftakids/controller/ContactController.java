@@ -1,16 +1,23 @@
 package org.liftakids.controller;
 
 import jakarta.validation.Valid;
+import org.liftakids.dto.contact.ContactInboxFilter;
+import org.liftakids.dto.contact.ContactInboxSliceDTO;
+import org.liftakids.dto.contact.ContactMessageSummaryDTO;
 import org.liftakids.dto.contact.ContactReplyDTO;
 import org.liftakids.dto.contact.ContactRequestDTO;
 import org.liftakids.entity.ContactMessage;
+import org.liftakids.service.CommunicationStatsService;
 import org.liftakids.service.ContactService;
 import org.liftakids.service.Util.EmailService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +32,9 @@ public class ContactController {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private CommunicationStatsService communicationStatsService;
+
     /**
      * Submit contact form
      */
@@ -70,27 +80,31 @@ public class ContactController {
     }
 
 
-    // Get all contact messages with pagination and sorting
+    // Get contact messages (without bodies) with pagination, sorting and filters
     @GetMapping("/messages")
     public ResponseEntity<Map<String, Object>> getAllMessages(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "submittedAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) Boolean responded,
+            @RequestParam(required = false) Boolean read,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
 
         try {
-            List<ContactMessage> messages = contactService.getAllMessages();
-
-            // Simple pagination (for now - you can implement proper pagination later)
-            int start = page * size;
-            int end = Math.min(start + size, messages.size());
-            List<ContactMessage> paginatedMessages = messages.subList(start, end);
+            ContactInboxFilter filter = ContactInboxFilter.builder()
+                    .responded(responded).read(read).email(email).search(search).from(from).to(to)
+                    .build();
+            Page<ContactMessageSummaryDTO> messages = contactService.searchMessages(filter, page, size, sortBy, sortDir);
 
             Map<String, Object> response = new HashMap<>();
-            response.put("messages", paginatedMessages);
-            response.put("currentPage", page);
-            response.put("totalItems", messages.size());
-            response.put("totalPages", (int) Math.ceil((double) messages.size() / size));
+            response.put("messages", messages.getContent());
+            response.put("currentPage", messages.getNumber());
+            response.put("totalItems", messages.getTotalElements());
+            response.put("totalPages", messages.getTotalPages());
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -99,6 +113,20 @@ public class ContactController {
         }
     }
 
+    // Infinite-scroll inbox, newest first; pass the returned nextCursor to get the next slice
+    @GetMapping("/messages/feed")
+    public ResponseEntity<ContactInboxSliceDTO> getMessageFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Boolean responded,
+            @RequestParam(required = false) Boolean read,
+            @RequestParam(required = false) String search) {
+        ContactInboxFilter filter = ContactInboxFilter.builder()
+                .responded(responded).read(read).search(search)
+                .build();
+        return ResponseEntity.ok(contactService.getMessagesBefore(filter, cursor, size));
+    }
+
     // Mark as responded (admin)
 //    @PutMapping("/messages/{id}/responded")
 //    public ResponseEntity<?> markAsResponded(@PathVariable Long id) {
@@ -159,9 +187,11 @@ public class ContactController {
                 .orElse(ResponseEntity.notFound().build());
     }
     @GetMapping("/messages/unread")
-    public ResponseEntity<List<ContactMessage>> getUnrespondedMessages() {
-        List<ContactMessage> messages = contactService.getUnrespondedMessages();
-        return ResponseEntity.ok(messages);
+    public ResponseEntity<Page<ContactMessageSummaryDTO>> getUnrespondedMessages(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        ContactInboxFilter filter = ContactInboxFilter.builder().responded(false).build();
+        return ResponseEntity.ok(contactService.searchMessages(filter, page, size, "createdAt", "desc"));
     }
     // Mark as read
     @PutMapping("/messages/{id}/read")
@@ -207,36 +237,28 @@ public class ContactController {
     }
     // Get responded messages (for admin)
     @GetMapping("/messages/read")
-    public ResponseEntity<List<ContactMessage>> getRespondedMessages() {
-        List<ContactMessage> messages = contactService.getRespondedMessages();
-        return ResponseEntity.ok(messages);
+    public ResponseEntity<Page<ContactMessageSummaryDTO>> getRespondedMessages(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        ContactInboxFilter filter = ContactInboxFilter.builder().responded(true).build();
+        return ResponseEntity.ok(contactService.searchMessages(filter, page, size, "repliedAt", "desc"));
     }
 
     // Get message history by email (for admin - to see all messages from a user)
     @GetMapping("/messages/history/{email}")
-    public ResponseEntity<List<ContactMessage>> getMessageHistory(@PathVariable String email) {
-        List<ContactMessage> history = contactService.getMessageHistory(email);
-        return ResponseEntity.ok(history);
+    public ResponseEntity<Page<ContactMessageSummaryDTO>> getMessageHistory(
+            @PathVariable String email,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        ContactInboxFilter filter = ContactInboxFilter.builder().email(email).build();
+        return ResponseEntity.ok(contactService.searchMessages(filter, page, size, "createdAt", "desc"));
     }
 
-     // Get statistics
+    // Get statistics from the daily rollups, one entry per day shown
     @GetMapping("/messages/stats")
-    public ResponseEntity<?> getMessageStats() {
+    public ResponseEntity<?> getMessageStats(@RequestParam(defaultValue = "30") int days) {
         try {
-            List<ContactMessage> allMessages = contactService.getAllMessages();
-            List<ContactMessage> unresponded = contactService.getUnrespondedMessages();
-            List<ContactMessage> responded = contactService.getRespondedMessages();
-            List<ContactMessage> todayMessages = contactService.getTodayMessages();
-
-            Map<String, Object> stats = new HashMap<>();
-            stats.put("totalMessages", allMessages.size());
-            stats.put("unrespondedCount", unresponded.size());
-            stats.put("respondedCount", responded.size());
-            stats.put("todayMessages", todayMessages.size());
-            stats.put("responseRate", allMessages.isEmpty() ? 0 :
-                    (double) responded.size() / allMessages.size() * 100);
-
-            return ResponseEntity.ok(stats);
+            return ResponseEntity.ok(communicationStatsService.getContactStats(days));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Failed to get statistics: " + e.getMessage()));
@@ -0,0 +1,22 @@
+package org.liftakids.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.liftakids.dto.dashboard.DashboardStatsDto;
+import org.liftakids.service.DashboardStatsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardStatsService dashboardStatsService;
+
+    @GetMapping("/stats")
+    public ResponseEntity<DashboardStatsDto> getStats() {
+        return ResponseEntity.ok(dashboardStatsService.getStats());
+    }
+}
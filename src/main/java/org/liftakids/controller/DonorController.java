@@ -116,9 +116,8 @@ public class DonorController {
 
     // Get all donors (for dropdown)
     @GetMapping("/alldonor/institutions")
-    public ResponseEntity<List<Donor>> getAllDonorsInstitution() {
-        List<Donor> donors = donorRepository.findAll();
-        return ResponseEntity.ok(donors);
+    public ResponseEntity<List<DonorResponseDto>> getAllDonorsInstitution() {
+        return ResponseEntity.ok(donorRepository.findAllDonorSummaries());
     }
 
     // Get donors by institution (existing)
@@ -4,6 +4,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.liftakids.dto.institute.*;
 import org.liftakids.dto.student.StudentResponseDto;
+import org.liftakids.entity.InstitutionType;
+import org.liftakids.entity.enm.InstitutionStatus;
 import org.liftakids.exception.ErrorResponse;
 import org.liftakids.exception.ResourceNotFoundException;
 import org.liftakids.service.InstitutionService;
@@ -119,6 +121,20 @@ public class InstitutionController {
     public ResponseEntity<List<InstitutionResponseDto>> getApprovedInstitutions() {
         return ResponseEntity.ok(institutionService.getApprovedInstitutions());
     }
+
+    @GetMapping("/approved/paged")
+    public ResponseEntity<Page<InstitutionDirectoryDto>> getApprovedInstitutionsPage(
+            @PageableDefault(size = 20, sort = "institutionName", direction = Sort.Direction.ASC) Pageable pageable) {
+        return ResponseEntity.ok(institutionService.getApprovedInstitutions(pageable));
+    }
+
+    @GetMapping("/directory")
+    public ResponseEntity<Page<InstitutionDirectoryDto>> getInstitutionDirectory(
+            @RequestParam(required = false) InstitutionStatus status,
+            @RequestParam(required = false) InstitutionType type,
+            @PageableDefault(size = 20, sort = "institutionName", direction = Sort.Direction.ASC) Pageable pageable) {
+        return ResponseEntity.ok(institutionService.getInstitutionDirectory(status, type, pageable));
+    }
     
     @PatchMapping("/{institutionId}/status")
     public ResponseEntity<InstitutionResponseDto> updateInstitutionStatus(
@@ -164,6 +180,13 @@ public class InstitutionController {
         return ResponseEntity.ok(institutionService.getInstitutionsByType(type));
     }
 
+    @GetMapping("/type/{type}/paged")
+    public ResponseEntity<Page<InstitutionDirectoryDto>> getByTypePage(
+            @PathVariable String type,
+            @PageableDefault(size = 20, sort = "institutionName", direction = Sort.Direction.ASC) Pageable pageable) {
+        return ResponseEntity.ok(institutionService.getInstitutionsByType(type, pageable));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<InstitutionResponseDto> getInstitutionByIdOrName(@RequestParam String value) {
         InstitutionResponseDto response = institutionService.getByIdOrName(value);
@@ -180,6 +203,12 @@ public class InstitutionController {
         List<InstitutionResponseDto> institutions = institutionService.getAllInstitutionsList();
         return ResponseEntity.ok(institutions);
     }
+
+    @GetMapping("/all/paged")
+    public ResponseEntity<Page<InstitutionDirectoryDto>> getAllInstitutionsPage(
+            @PageableDefault(size = 20, sort = "institutionName", direction = Sort.Direction.ASC) Pageable pageable) {
+        return ResponseEntity.ok(institutionService.getAllInstitutionsList(pageable));
+    }
     @GetMapping("/{institutionId}/students-with-sponsors")
     public ResponseEntity<Page<StudentResponseDto>> getAllStudentsWithSponsorsByInstitution(
             @PathVariable Long institutionId,
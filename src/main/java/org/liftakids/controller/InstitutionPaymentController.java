@@ -19,6 +19,8 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api")
@@ -85,17 +87,23 @@ public class InstitutionPaymentController {
     }
 
     @PostMapping("/upload-receipt")
-    public ResponseEntity<?> uploadReceipt(@RequestParam("file") MultipartFile file,
-                                           @RequestParam(value = "folder", required = false) String folder) {
+    public CompletableFuture<ResponseEntity<?>> uploadReceipt(@RequestParam("file") MultipartFile file,
+                                                              @RequestParam(value = "folder", required = false) String folder) {
         try {
-            String fileUrl = fileStorageService.uploadFile(file, folder != null ? folder : "receipts");
-            return ResponseEntity.ok(Map.of("fileUrl", fileUrl));
+            // The request thread is released while the parts are in flight
+            return fileStorageService.uploadFileAsync(file, folder != null ? folder : "receipts")
+                    .<ResponseEntity<?>>thenApply(fileUrl -> ResponseEntity.ok(Map.of("fileUrl", fileUrl)))
+                    .exceptionally(ex -> uploadFailed(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex));
         } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Map.of("message", "File upload failed: " + e.getMessage()));
+            return CompletableFuture.completedFuture(uploadFailed(e));
         }
     }
 
+    private ResponseEntity<?> uploadFailed(Throwable e) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("message", "File upload failed: " + e.getMessage()));
+    }
+
     @GetMapping("/completed-payments")
     public ResponseEntity<?> getCompletedPaymentsByInstitution(
             @RequestParam Long institutionId) {
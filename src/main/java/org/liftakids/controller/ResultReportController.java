@@ -1,10 +1,12 @@
 package org.liftakids.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.liftakids.dto.resultReport.OcrJobResponseDto;
 import org.liftakids.dto.resultReport.ResultReportRequestDto;
 import org.liftakids.dto.resultReport.ResultReportResponseDto;
 import org.liftakids.service.ResultReportService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -20,7 +22,7 @@ public class ResultReportController {
     private final ResultReportService resultService;
 
     @PostMapping("/upload")
-    public ResponseEntity<ResultReportResponseDto> uploadResult(
+    public ResponseEntity<OcrJobResponseDto> uploadResult(
             @RequestParam("studentId") Long studentId,
             @RequestParam("resultImage") MultipartFile resultImage) {
 
@@ -28,7 +30,13 @@ public class ResultReportController {
         dto.setStudentId(studentId);
         dto.setResultImage(resultImage);
 
-        return ResponseEntity.ok(resultService.uploadResult(dto));
+        // OCR runs in the background; poll /jobs/{jobId} for the parsed report
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(resultService.uploadResult(dto));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<OcrJobResponseDto> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(resultService.getJob(jobId));
     }
 
     @GetMapping("/student/{studentId}")
@@ -1,16 +1,24 @@
 package org.liftakids.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.liftakids.dto.email.SentEmailArchiveReportDto;
+import org.liftakids.dto.email.SentEmailSummaryDto;
 import org.liftakids.entity.SentEmail;
+import org.liftakids.service.CommunicationStatsService;
+import org.liftakids.service.SentEmailArchiveService;
 import org.liftakids.service.SentEmailService;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -20,12 +28,20 @@ import java.util.Map;
 public class SentEmailController {
 
     private final SentEmailService sentEmailService;
+    private final CommunicationStatsService communicationStatsService;
+    private final SentEmailArchiveService sentEmailArchiveService;
 
-    // Get all sent emails
+    // Audit log: sent emails without bodies, newest first
     @GetMapping
-    public ResponseEntity<?> getAllSentEmails() {
+    public ResponseEntity<?> getAllSentEmails(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String recipient,
+            @RequestParam(required = false) Boolean success,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
         try {
-            List<SentEmail> sentEmails = sentEmailService.getAllSentEmails();
+            Page<SentEmailSummaryDto> sentEmails = sentEmailService.searchSentEmails(recipient, success, from, to, page, size);
             return ResponseEntity.ok(sentEmails);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -51,9 +67,12 @@ public class SentEmailController {
 
     // Get sent emails by recipient
     @GetMapping("/recipient/{email}")
-    public ResponseEntity<?> getSentEmailsByRecipient(@PathVariable String email) {
+    public ResponseEntity<?> getSentEmailsByRecipient(
+            @PathVariable String email,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            List<SentEmail> sentEmails = sentEmailService.getSentEmailsByRecipient(email);
+            Page<SentEmailSummaryDto> sentEmails = sentEmailService.searchSentEmails(email, null, null, null, page, size);
             return ResponseEntity.ok(sentEmails);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -65,7 +84,7 @@ public class SentEmailController {
     @GetMapping("/recent")
     public ResponseEntity<?> getRecentSentEmails() {
         try {
-            List<SentEmail> recentEmails = sentEmailService.getRecentSentEmails();
+            List<SentEmailSummaryDto> recentEmails = sentEmailService.getRecentSentEmails();
             return ResponseEntity.ok(recentEmails);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -73,23 +92,30 @@ public class SentEmailController {
         }
     }
 
-    // Get sent email statistics
+    // Get sent email statistics from the daily rollups, recent emails without bodies
     @GetMapping("/stats")
-    public ResponseEntity<?> getSentEmailStats() {
+    public ResponseEntity<?> getSentEmailStats(@RequestParam(defaultValue = "30") int days) {
         try {
-            long totalSent = sentEmailService.getTotalSentEmailsCount();
-            long todaySent = sentEmailService.getTodaySentEmailsCount();
-            List<SentEmail> recentEmails = sentEmailService.getRecentSentEmails();
-
-            Map<String, Object> stats = new HashMap<>();
-            stats.put("totalSent", totalSent);
-            stats.put("todaySent", todaySent);
-            stats.put("recentEmails", recentEmails);
-
-            return ResponseEntity.ok(stats);
+            return ResponseEntity.ok(communicationStatsService.getSentEmailStats(days));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Failed to fetch email statistics: " + e.getMessage()));
         }
     }
+
+    // Archived emails of a recipient, read from the newest matching segments
+    @GetMapping("/archive/recipient/{email}")
+    public ResponseEntity<List<SentEmailSummaryDto>> getArchivedByRecipient(@PathVariable String email) {
+        return ResponseEntity.ok(sentEmailArchiveService.findArchivedByRecipient(email));
+    }
+
+    // Runs the archival job now
+    @PostMapping("/archive")
+    public ResponseEntity<SentEmailArchiveReportDto> archiveOldEmails() {
+        SentEmailArchiveReportDto report = sentEmailArchiveService.archiveOldEmails();
+        if (report == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.ok(report);
+    }
 }
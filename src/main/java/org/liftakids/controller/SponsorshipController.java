@@ -10,7 +10,7 @@ import org.liftakids.exception.ResourceNotFoundException;
 import org.liftakids.repositories.SponsorshipRepository;
 import org.liftakids.service.PaymentService;
 import org.liftakids.service.SponsorshipService;
-import org.modelmapper.ModelMapper;
+import org.liftakids.mapper.SponsorshipMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -32,7 +32,7 @@ public class SponsorshipController {
     private final SponsorshipService sponsorshipService;
     private final PaymentService paymentService;
     private final SponsorshipRepository sponsorshipRepository;
-    private final ModelMapper modelMapper;
+    private final SponsorshipMapper sponsorshipMapper;
 
     @PostMapping
     public ResponseEntity<SponsorshipResponseDto> createSponsorship(
@@ -53,7 +53,7 @@ public class SponsorshipController {
     public ResponseEntity<SponsorshipResponseDto> checkSponsorshipExists(@PathVariable Long id) {
         Optional<Sponsorship> sponsorship = sponsorshipRepository.findById(id);
         if (sponsorship.isPresent()) {
-            SponsorshipResponseDto response = modelMapper.map(sponsorship.get(), SponsorshipResponseDto.class);
+            SponsorshipResponseDto response = sponsorshipMapper.toResponseDto(sponsorship.get());
             return ResponseEntity.ok(response);
         } else {
             return ResponseEntity.notFound().build();
@@ -72,7 +72,7 @@ public class SponsorshipController {
 //        }
 //
 //        List<SponsorshipResponseDto> response = sponsorships.stream()
-//                .map(sponsorship -> modelMapper.map(sponsorship, SponsorshipResponseDto.class))
+//                .map(sponsorship -> sponsorshipMapper.toResponseDto(sponsorship))
 //                .collect(Collectors.toList());
 //
 //        return ResponseEntity.ok(response);
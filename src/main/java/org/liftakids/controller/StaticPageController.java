@@ -5,14 +5,19 @@ import org.liftakids.dto.pages.StaticPageRequestDTO;
 import org.liftakids.dto.pages.StaticPageResponseDTO;
 import org.liftakids.entity.StaticPage;
 import org.liftakids.service.StaticPageService;
-import org.modelmapper.ModelMapper;
+import org.liftakids.mapper.ContentMapper;
+import org.liftakids.service.Util.StaticPageResponseCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,14 +32,26 @@ public class StaticPageController {
     private StaticPageService pageService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ContentMapper contentMapper;
 
-    // Get published page by slug (for public)
+    @Autowired
+    private StaticPageResponseCache pageResponseCache;
+
+    @Value("${app.http-cache.page-max-age:1h}")
+    private Duration pageMaxAge;
+
+    // Get published page by slug (for public), served from pre-serialized JSON.
+    // Spring answers If-None-Match/If-Modified-Since with 304 from the ETag and Last-Modified set here.
     @GetMapping("/{slug}")
-    public ResponseEntity<StaticPageResponseDTO> getPageBySlug(@PathVariable String slug) {
-        return pageService.getPageBySlug(slug)
-                .map(this::convertToDto)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<byte[]> getPageBySlug(@PathVariable String slug) {
+        return pageResponseCache.get(slug)
+                .map(page -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .eTag(page.etag())
+                        .lastModified(page.lastModified())
+                        .cacheControl(CacheControl.maxAge(pageMaxAge).cachePublic()
+                                .staleWhileRevalidate(Duration.ofDays(1)))
+                        .body(page.body()))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -87,11 +104,11 @@ public class StaticPageController {
 
     // DTO conversion methods
     private StaticPageResponseDTO convertToDto(StaticPage page) {
-        return modelMapper.map(page, StaticPageResponseDTO.class);
+        return contentMapper.toResponseDto(page);
     }
 
     private StaticPage convertToEntity(StaticPageRequestDTO pageRequest) {
-        return modelMapper.map(pageRequest, StaticPage.class);
+        return contentMapper.toEntity(pageRequest);
     }
 
     // Create new custom page
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.liftakids.dto.student.StudentRequestDto;
 import org.liftakids.dto.student.StudentResponseDto;
 import org.liftakids.dto.student.StudentUpdateRequestDTO;
+import org.liftakids.entity.FinancialRank;
 import org.liftakids.entity.Sponsorship;
 import org.liftakids.entity.SponsorshipStatus;
 import org.liftakids.entity.Student;
@@ -193,6 +194,13 @@ public ResponseEntity<StudentResponseDto> createStudent(
             @RequestParam(value = "limit", defaultValue = "4") int limit) {
         return ResponseEntity.ok(studentService.getTopUnsponsoredUrgentStudents(limit));
     }
+    @GetMapping("/discover")
+    public ResponseEntity<Page<StudentResponseDto>> discoverStudents(
+            @RequestParam(required = false) FinancialRank financialRank,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size) {
+        return ResponseEntity.ok(studentService.discoverStudents(financialRank, PageRequest.of(page, size)));
+    }
     @GetMapping("/{studentId}/pending-sponsorships")
     public ResponseEntity<List<StudentResponseDto>> getPendingSponsorships(
             @PathVariable Long studentId,
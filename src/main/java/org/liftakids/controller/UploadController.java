@@ -0,0 +1,31 @@
+package org.liftakids.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.liftakids.dto.upload.PresignedUploadRequestDto;
+import org.liftakids.dto.upload.PresignedUploadResponseDto;
+import org.liftakids.dto.upload.UploadCompletionRequestDto;
+import org.liftakids.dto.upload.UploadCompletionResponseDto;
+import org.liftakids.service.PresignedUploadService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+public class UploadController {
+
+    private final PresignedUploadService presignedUploadService;
+
+    // Step 1: get a short-lived URL and PUT the file straight to storage
+    @PostMapping("/presign")
+    public ResponseEntity<PresignedUploadResponseDto> presign(@Valid @RequestBody PresignedUploadRequestDto request) {
+        return ResponseEntity.ok(presignedUploadService.createUpload(request));
+    }
+
+    // Step 2: confirm the upload so it can be verified and linked
+    @PostMapping("/complete")
+    public ResponseEntity<UploadCompletionResponseDto> complete(@Valid @RequestBody UploadCompletionRequestDto request) {
+        return ResponseEntity.ok(presignedUploadService.completeUpload(request));
+    }
+}
@@ -0,0 +1,45 @@
+package org.liftakids.datasource;
+
+import jakarta.persistence.QueryHint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+
+/**
+ * Runs every {@code @Cacheable} method and every repository query marked {@code HINT_CACHEABLE} on the primary.
+ * An entry filled from a replica that is behind keeps serving the old rows to every client for the whole TTL,
+ * long after the replica has caught up; for the Hibernate query cache the write has already bumped the table
+ * timestamp, so the stale result is stored as current.
+ */
+@Aspect
+public class PrimaryCacheFillAspect {
+
+    @Around("@annotation(org.springframework.cache.annotation.Cacheable)")
+    public Object cacheFill(ProceedingJoinPoint joinPoint) throws Throwable {
+        return onPrimary(joinPoint);
+    }
+
+    @Around("@annotation(org.springframework.data.jpa.repository.QueryHints)")
+    public Object cachedQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        QueryHints hints = ((MethodSignature) joinPoint.getSignature()).getMethod().getAnnotation(QueryHints.class);
+        return hints != null && cacheable(hints) ? onPrimary(joinPoint) : joinPoint.proceed();
+    }
+
+    private static Object onPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (ReadYourWrites.Scope ignored = ReadYourWrites.requirePrimary()) {
+            return joinPoint.proceed();
+        }
+    }
+
+    private static boolean cacheable(QueryHints hints) {
+        for (QueryHint hint : hints.value()) {
+            if (HibernateHints.HINT_CACHEABLE.equals(hint.name()) && Boolean.parseBoolean(hint.value())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
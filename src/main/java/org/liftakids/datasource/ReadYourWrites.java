@@ -0,0 +1,51 @@
+package org.liftakids.datasource;
+
+/**
+ * Per-thread deadline until which read-only transactions stay on the primary. Set when the thread takes a
+ * write connection and, across requests, from the cookie {@link ReadYourWritesFilter} hands out after writes.
+ * Reads whose result outlives the request (cache fills, ETags) open a {@link #requirePrimary()} scope instead,
+ * since other clients would be served whatever a lagging replica returned.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Long> PINNED_UNTIL = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void pinUntil(long epochMillis) {
+        Long current = PINNED_UNTIL.get();
+        if (current == null || current < epochMillis) {
+            PINNED_UNTIL.set(epochMillis);
+        }
+    }
+
+    public static boolean pinned() {
+        Long until = PINNED_UNTIL.get();
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    public static Scope requirePrimary() {
+        if (PRIMARY_REQUIRED.get() != null) {
+            return () -> {
+            };
+        }
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        return PRIMARY_REQUIRED::remove;
+    }
+
+    public static boolean primaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static void clear() {
+        PINNED_UNTIL.remove();
+        PRIMARY_REQUIRED.remove();
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,77 @@
+package org.liftakids.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Connections for read-only transactions: the replica, unless the caller recently wrote, the result is about to
+ * be cached or tagged, the replica is lagging or it cannot be reached, in which case the primary serves the read.
+ */
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor monitor;
+
+    private final Counter toReplica;
+    private final Counter pinned;
+    private final Counter required;
+    private final Counter lagging;
+    private final Counter unreachable;
+
+    public ReplicaFallbackDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor monitor,
+                                     MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.monitor = monitor;
+        this.toReplica = counter(meterRegistry, "replica", "replica");
+        this.pinned = counter(meterRegistry, "primary", "read_your_writes");
+        this.required = counter(meterRegistry, "primary", "primary_required");
+        this.lagging = counter(meterRegistry, "primary", "replica_unusable");
+        this.unreachable = counter(meterRegistry, "primary", "connection_failed");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadYourWrites.primaryRequired()) {
+            required.increment();
+            return primary.getConnection();
+        }
+        if (ReadYourWrites.pinned()) {
+            pinned.increment();
+            return primary.getConnection();
+        }
+        if (!monitor.replicaUsable()) {
+            lagging.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            toReplica.increment();
+            return connection;
+        } catch (SQLException e) {
+            monitor.markUnreachable(e);
+            unreachable.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are configured per pool");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String pool, String reason) {
+        return Counter.builder("liftakids.datasource.reads")
+                .description("Read-only transactions by the pool that served them")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,100 @@
+package org.liftakids.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Writes a heartbeat to the primary and reads it back from the replica; the difference is the lag. The replica
+ * is used only while the last probe reached it and saw a heartbeat younger than max-lag. A negative max-lag
+ * skips the heartbeat and only checks the replica answers, for pairs that do not replicate (two H2 databases,
+ * two unlinked containers, or a second pool on the primary).
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int HEARTBEAT_ID = 1;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+
+    private volatile boolean reachable;
+    private volatile long lagMillis = -1;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLag.isNegative() ? -1 : maxLag.toMillis();
+
+        Gauge.builder("liftakids.datasource.replica.lag", this, m -> m.lagMillis < 0 ? Double.NaN : m.lagMillis)
+                .description("Age of the heartbeat last read from the replica")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("liftakids.datasource.replica.usable", this, m -> m.usable ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean replicaUsable() {
+        return usable;
+    }
+
+    /** A failed connection attempt takes the replica out until the next probe succeeds. */
+    public void markUnreachable(Exception e) {
+        reachable = false;
+        update("connection failed: " + e.getMessage());
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.heartbeat-interval:1000}")
+    public void probe() {
+        try {
+            if (maxLagMillis < 0) {
+                replica.execute("SELECT 1");
+                lagMillis = -1;
+            } else {
+                long now = System.currentTimeMillis();
+                beat(now);
+                Long seen = replica.query("SELECT beatMillis FROM replication_heartbeat WHERE id = ?",
+                        rs -> rs.next() ? rs.getLong(1) : null, HEARTBEAT_ID);
+                lagMillis = seen == null ? Long.MAX_VALUE : Math.max(0, now - seen);
+            }
+            reachable = true;
+            update(lagMillis == Long.MAX_VALUE ? "no heartbeat on replica" : "lag " + lagMillis + " ms");
+        } catch (DataAccessException e) {
+            reachable = false;
+            update("probe failed: " + e.getMessage());
+        }
+    }
+
+    private void beat(long now) {
+        if (primary.update("UPDATE replication_heartbeat SET beatMillis = ? WHERE id = ?", now, HEARTBEAT_ID) > 0) {
+            return;
+        }
+        try {
+            primary.update("INSERT INTO replication_heartbeat (id, beatMillis) VALUES (?, ?)", HEARTBEAT_ID, now);
+        } catch (DuplicateKeyException e) {
+            // another instance inserted it first
+        }
+    }
+
+    private void update(String reason) {
+        boolean next = reachable && (maxLagMillis < 0 || lagMillis <= maxLagMillis);
+        if (next != usable) {
+            usable = next;
+            if (next) {
+                log.info("Replica back in rotation ({})", reason);
+            } else {
+                log.warn("Replica out of rotation, reads fall back to the primary ({})", reason);
+            }
+        }
+    }
+}
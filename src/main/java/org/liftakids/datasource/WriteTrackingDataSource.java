@@ -0,0 +1,34 @@
+package org.liftakids.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * The primary as seen by read-write work. Any thread that takes a connection here may have written, so its
+ * read-only transactions are kept on the primary for the window.
+ */
+public class WriteTrackingDataSource extends DelegatingDataSource {
+
+    private final long windowMillis;
+
+    public WriteTrackingDataSource(DataSource primary, Duration window) {
+        super(primary);
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ReadYourWrites.pinUntil(System.currentTimeMillis() + windowMillis);
+        return obtainTargetDataSource().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        ReadYourWrites.pinUntil(System.currentTimeMillis() + windowMillis);
+        return obtainTargetDataSource().getConnection(username, password);
+    }
+}
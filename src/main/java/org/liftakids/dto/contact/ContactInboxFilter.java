@@ -0,0 +1,22 @@
+package org.liftakids.dto.contact;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Optional inbox filters, null means "any"
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactInboxFilter {
+    private Boolean responded;
+    private Boolean read;
+    private String email;
+    private String search;
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
@@ -0,0 +1,17 @@
+package org.liftakids.dto.contact;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// One keyset page of the inbox, newest first; pass nextCursor back to continue
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactInboxSliceDTO {
+    private List<ContactMessageSummaryDTO> messages;
+    private String nextCursor;
+    private boolean hasMore;
+}
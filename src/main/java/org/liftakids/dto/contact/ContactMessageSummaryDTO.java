@@ -0,0 +1,25 @@
+package org.liftakids.dto.contact;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Inbox row without the message and reply bodies, filled by JPQL constructor expressions in
+// ContactRepository; keep the constructor order in sync with the queries there
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactMessageSummaryDTO {
+    private Long id;
+    private String name;
+    private String email;
+    private String phone;
+    private String subject;
+    private Boolean isRead;
+    private Boolean isResponded;
+    private LocalDateTime createdAt;
+    private LocalDateTime repliedAt;
+    private String repliedBy;
+}
@@ -0,0 +1,40 @@
+package org.liftakids.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactStatsDto {
+    private long totalMessages;
+    private long respondedCount;
+    private long unrespondedCount;
+    private double responseRate;
+    private Double averageResponseMinutes;
+
+    private long todayMessages;
+    private long todayUnresponded;
+
+    // Oldest first, one entry per day shown including empty days
+    private List<Day> days;
+
+    private LocalDateTime generatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate date;
+        private long received;
+        private long responded;
+        private Double averageResponseMinutes;
+    }
+}
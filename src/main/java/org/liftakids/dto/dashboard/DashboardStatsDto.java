@@ -0,0 +1,33 @@
+package org.liftakids.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardStatsDto {
+    private long totalInstitutions;
+    private Map<String, Long> institutionsByStatus;
+
+    private long totalStudents;
+    private long sponsoredStudents;
+    private long unsponsoredStudents;
+    private Map<String, Long> studentsByStatus;
+
+    private long totalSponsorships;
+    private Map<String, Long> sponsorshipsByStatus;
+
+    private long totalPayments;
+    private Map<String, Long> paymentsByStatus;
+    private BigDecimal completedPaymentAmount;
+
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,43 @@
+package org.liftakids.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.liftakids.dto.email.SentEmailSummaryDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SentEmailStatsDto {
+    private long totalSent;
+    private long totalFailed;
+    private long todaySent;
+    private long todayFailed;
+
+    // template -> count over the days shown
+    private Map<String, Long> sentByTemplate;
+    private Map<String, Long> failedByTemplate;
+
+    // Oldest first, one entry per day shown including empty days
+    private List<Day> days;
+
+    private List<SentEmailSummaryDto> recentEmails;
+
+    private LocalDateTime generatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate date;
+        private long sent;
+        private long failed;
+    }
+}
@@ -35,4 +35,7 @@ public class DonorRequestDto {
     private DonorType type;
 
     private boolean status = true;
+
+    @Pattern(regexp = "^[a-zA-Z]{2,3}(-[a-zA-Z0-9]{2,8})*$", message = "Invalid language tag")
+    private String preferredLocale;
 }
@@ -19,6 +19,7 @@ public class DonorResponseDto {
     private String address;
     private DonorType type;
     private boolean status;
+    private String preferredLocale;
     private int sponsoredStudentsCount;
     private int totalSponsorshipsCount;
     public static DonorResponseDto fromEntity(Donor donor) {
@@ -30,6 +31,7 @@ public class DonorResponseDto {
                 .address(donor.getAddress())
                 .type(donor.getType())
                 .status(donor.isStatus())
+                .preferredLocale(donor.getPreferredLocale())
                 .sponsoredStudentsCount(donor.getActiveSponsorships().size())
                 .totalSponsorshipsCount(donor.getSponsorships().size())
                 .build();
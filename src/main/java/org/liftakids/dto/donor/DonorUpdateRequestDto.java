@@ -3,6 +3,7 @@ package org.liftakids.dto.donor;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.liftakids.entity.DonorType;
@@ -22,4 +23,7 @@ public class DonorUpdateRequestDto {
     private String phone;
 
     private String address;
+
+    @Pattern(regexp = "^[a-zA-Z]{2,3}(-[a-zA-Z0-9]{2,8})*$", message = "Invalid language tag")
+    private String preferredLocale;
 }
@@ -0,0 +1,15 @@
+package org.liftakids.dto.email;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One campaign recipient; key is the donor/institution id the stream is ordered by
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignRecipientDto {
+    private Long key;
+    private String name;
+    private String email;
+}
@@ -0,0 +1,27 @@
+package org.liftakids.dto.email;
+
+import lombok.Builder;
+import lombok.Data;
+import org.liftakids.entity.enm.EmailCampaignAudience;
+import org.liftakids.entity.enm.EmailCampaignStatus;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class EmailCampaignDto {
+    private Long id;
+    private EmailCampaignAudience audience;
+    private Long institutionId;
+    private String subject;
+    private String senderName;
+    private String createdBy;
+    private EmailCampaignStatus status;
+    private long totalRecipients;
+    private long sentCount;
+    private long failedCount;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,29 @@
+package org.liftakids.dto.email;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.liftakids.entity.enm.EmailCampaignAudience;
+
+import java.util.List;
+
+@Data
+public class EmailCampaignRequestDto {
+    @NotNull
+    private EmailCampaignAudience audience;
+
+    // Required for INSTITUTION_DONORS
+    private Long institutionId;
+
+    // Required for EMAIL_LIST
+    private List<String> toEmails;
+
+    // {{name}}, {{email}}, {{appName}}, {{frontendUrl}} and {{year}} are available in both
+    @NotBlank
+    private String subject;
+
+    @NotBlank
+    private String message;
+
+    private String senderName;
+}
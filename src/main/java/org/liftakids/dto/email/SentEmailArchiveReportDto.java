@@ -0,0 +1,19 @@
+package org.liftakids.dto.email;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SentEmailArchiveReportDto {
+    private LocalDateTime cutoff;
+    private String store;
+    private int segmentsWritten;
+    private long emailsArchived;
+    private long compressedBytes;
+    private long durationMillis;
+}
@@ -0,0 +1,22 @@
+package org.liftakids.dto.email;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Sent email row without the message body
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SentEmailSummaryDto {
+    private Long id;
+    private String toEmail;
+    private String subject;
+    private String senderName;
+    private String template;
+    private LocalDateTime sentAt;
+    private boolean success;
+    private String errorMessage;
+}
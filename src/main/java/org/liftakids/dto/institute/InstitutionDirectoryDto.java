@@ -0,0 +1,36 @@
+package org.liftakids.dto.institute;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.liftakids.entity.InstitutionType;
+import org.liftakids.entity.enm.InstitutionStatus;
+
+import java.time.LocalDateTime;
+
+// Flat directory row filled by a JPQL constructor expression, keep the constructor order in sync with
+// InstitutionRepository.findDirectoryPage
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstitutionDirectoryDto {
+    private Long institutionsId;
+    private String institutionName;
+    private InstitutionType type;
+    private InstitutionStatus status;
+    private Boolean approved;
+    private String email;
+    private String phone;
+    private String teacherName;
+    private String teacherDesignation;
+    private String villageOrHouse;
+    private LocalDateTime registrationDate;
+    private Long divisionId;
+    private String divisionName;
+    private Long districtId;
+    private String districtName;
+    private Long thanaId;
+    private String thanaName;
+    private Long unionOrAreaId;
+    private String unionOrAreaName;
+}
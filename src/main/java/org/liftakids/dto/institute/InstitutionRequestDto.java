@@ -3,6 +3,7 @@ package org.liftakids.dto.institute;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -52,4 +53,7 @@ public class InstitutionRequestDto {
     private String aboutInstitution;
 
     private Boolean approved;
+
+    @Pattern(regexp = "^[a-zA-Z]{2,3}(-[a-zA-Z0-9]{2,8})*$", message = "Invalid language tag")
+    private String preferredLocale;
 }
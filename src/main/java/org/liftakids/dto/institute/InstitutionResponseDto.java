@@ -30,6 +30,7 @@ public class InstitutionResponseDto {
 
     private String teacherDesignation;
     private String aboutInstitution;
+    private String preferredLocale;
     private Boolean approved;
 
 
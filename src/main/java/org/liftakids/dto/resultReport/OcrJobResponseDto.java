@@ -0,0 +1,20 @@
+package org.liftakids.dto.resultReport;
+
+import lombok.Builder;
+import lombok.Data;
+import org.liftakids.entity.enm.OcrJobStatus;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class OcrJobResponseDto {
+    private String jobId;
+    private Long studentId;
+    private OcrJobStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private String errorMessage;
+    // Filled once the job is COMPLETED
+    private ResultReportResponseDto result;
+}
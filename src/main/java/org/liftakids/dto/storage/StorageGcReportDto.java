@@ -0,0 +1,17 @@
+package org.liftakids.dto.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageGcReportDto {
+    private long referencedKeys;
+    private long scannedObjects;
+    private long orphanedObjects;
+    private long deletedObjects;
+    private boolean dryRun;
+    private long durationMillis;
+}
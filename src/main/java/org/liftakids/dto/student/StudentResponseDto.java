@@ -21,6 +21,8 @@ public class StudentResponseDto {
     private String financial_rank;
     private String bio;
     private String photoUrl;
+    private String photoCardUrl;
+    private String photoThumbUrl;
     private boolean sponsored;
 
     private String guardianName;
@@ -0,0 +1,23 @@
+package org.liftakids.dto.upload;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.liftakids.entity.enm.UploadFolder;
+
+@Data
+public class PresignedUploadRequestDto {
+    @NotNull
+    private UploadFolder folder;
+
+    @NotBlank
+    private String fileName;
+
+    @NotBlank
+    private String contentType;
+
+    @NotNull
+    @Positive
+    private Long contentLength;
+}
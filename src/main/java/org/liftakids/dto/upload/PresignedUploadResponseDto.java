@@ -0,0 +1,19 @@
+package org.liftakids.dto.upload;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@Builder
+public class PresignedUploadResponseDto {
+    private String uploadUrl;
+    private String method;
+    // Headers the client must send unchanged, they are part of the signature
+    private Map<String, String> headers;
+    private String key;
+    private String fileUrl;
+    private Instant expiresAt;
+}
@@ -0,0 +1,18 @@
+package org.liftakids.dto.upload;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.liftakids.entity.enm.UploadFolder;
+
+@Data
+public class UploadCompletionRequestDto {
+    @NotNull
+    private UploadFolder folder;
+
+    @NotBlank
+    private String key;
+
+    // Student id for STUDENT_PHOTOS, payment id for RECEIPTS; optional for receipts and documents
+    private Long targetId;
+}
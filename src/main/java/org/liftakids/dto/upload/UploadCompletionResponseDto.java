@@ -0,0 +1,16 @@
+package org.liftakids.dto.upload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadCompletionResponseDto {
+    private String key;
+    private String fileUrl;
+    private String contentType;
+    private Long contentLength;
+    private Long targetId;
+}
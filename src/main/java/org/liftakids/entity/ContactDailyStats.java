@@ -0,0 +1,25 @@
+package org.liftakids.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Per-day contact rollup, keyed by the day the messages were received
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "contact_daily_stats")
+public class ContactDailyStats {
+    @Id
+    private LocalDate statDate;
+
+    private long received;
+
+    // Messages of this day that have been replied to, and the summed time to first reply
+    private long responded;
+    private long responseSecondsTotal;
+}
@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "contact_messages")
+@Table(name = "contact_messages", indexes = {
+        @Index(name = "idx_contact_responded_created", columnList = "isResponded, createdAt, id"),
+        @Index(name = "idx_contact_created", columnList = "createdAt, id"),
+        @Index(name = "idx_contact_email_created", columnList = "email, createdAt")
+})
 public class ContactMessage {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
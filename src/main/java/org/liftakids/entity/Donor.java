@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Where;
+import org.liftakids.httpcache.ResourceVersionListener;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +18,7 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "donors")
 public class Donor {
     @Id
@@ -45,6 +47,10 @@ public class Donor {
     private DonorType type;
     private boolean status = true;
 
+    // Language tag for emails ("en", "bn"); null means app.email.default-locale
+    @Column(name = "preferred_locale", length = 10)
+    private String preferredLocale;
+
     @OneToMany(mappedBy = "donor", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Sponsorship> sponsorships = new ArrayList<>();
 
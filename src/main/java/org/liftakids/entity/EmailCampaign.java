@@ -0,0 +1,80 @@
+package org.liftakids.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.liftakids.entity.enm.EmailCampaignAudience;
+import org.liftakids.entity.enm.EmailCampaignStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "email_campaigns", indexes = {
+        @Index(name = "idx_email_campaign_status", columnList = "status, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailCampaign {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private EmailCampaignAudience audience;
+
+    // Only for INSTITUTION_DONORS
+    private Long institutionId;
+
+    // Subject and message are templates, rendered per recipient
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String message;
+
+    private String senderName;
+
+    private String createdBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailCampaignStatus status = EmailCampaignStatus.QUEUED;
+
+    private long totalRecipients;
+
+    private long sentCount;
+
+    private long failedCount;
+
+    // Resume point: last donor/institution id sent, or list position for EMAIL_LIST
+    private long lastRecipientKey;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    // Only for EMAIL_LIST
+    @ElementCollection
+    @CollectionTable(name = "email_campaign_recipients", joinColumns = @JoinColumn(name = "campaign_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "toEmail", nullable = false)
+    private List<String> recipients = new ArrayList<>();
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
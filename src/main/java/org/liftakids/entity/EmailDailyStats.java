@@ -0,0 +1,31 @@
+package org.liftakids.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Per-day, per-template sent email rollup
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "email_daily_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_email_daily_stats_day_template", columnNames = {"statDate", "template"})
+})
+public class EmailDailyStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false, length = 64)
+    private String template;
+
+    private long sent;
+    private long failed;
+}
@@ -6,17 +6,24 @@ import jakarta.validation.constraints.Email;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.liftakids.entity.address.Districts;
 import org.liftakids.entity.address.Divisions;
 import org.liftakids.entity.address.Thanas;
 import org.liftakids.entity.address.UnionOrArea;
 import org.liftakids.entity.enm.InstitutionStatus;
+import org.liftakids.config.SecondLevelCacheConfig;
+import org.liftakids.httpcache.ResourceVersionListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.INSTITUTIONS)
+@EntityListeners(ResourceVersionListener.class)
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -70,6 +77,10 @@ public class Institutions {
     @Column(nullable = false)
     private String password;
 
+    // Language tag for emails ("en", "bn"); null means app.email.default-locale
+    @Column(name = "preferred_locale", length = 10)
+    private String preferredLocale;
+
     @Column(name = "registration_date")
     private LocalDateTime registrationDate;
 
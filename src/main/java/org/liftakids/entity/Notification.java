@@ -9,9 +9,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.liftakids.entity.enm.NotificationStatus;
 import org.liftakids.entity.enm.NotificationType;
 import org.liftakids.entity.enm.UserType;
+import org.liftakids.monitoring.EntityMetricsListener;
 
 import java.time.LocalDateTime;
 @Entity
+@EntityListeners(EntityMetricsListener.class)
 //@Table(name = "notifications", indexes = {
 //        @Index(name = "idx_notification_recipient", columnList = "userType, userId"),
 //        @Index(name = "idx_notification_status", columnList = "status"),
@@ -0,0 +1,50 @@
+package org.liftakids.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.liftakids.entity.enm.OcrJobStatus;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ocr_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OcrJob {
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OcrJobStatus status = OcrJobStatus.QUEUED;
+
+    private String originalFilename;
+
+    // Set once the parsed report has been saved
+    @Column(name = "result_report_id")
+    private Long resultReportId;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.liftakids.httpcache.ResourceVersionListener;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -12,6 +13,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 
 @Entity
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "payments")
 @Data
 @Builder(builderMethodName = "fullBuilder")
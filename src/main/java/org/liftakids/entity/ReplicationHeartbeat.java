@@ -0,0 +1,26 @@
+package org.liftakids.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single row written to the primary by {@code ReplicaLagMonitor}; how old the copy on the replica is gives the
+ * replication lag without needing REPLICATION CLIENT privileges.
+ */
+@Entity
+@Table(name = "replication_heartbeat")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplicationHeartbeat {
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long beatMillis;
+}
@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "sent_emails")
+@Table(name = "sent_emails", indexes = {
+        @Index(name = "idx_sent_email_sent_at", columnList = "sentAt, id"),
+        @Index(name = "idx_sent_email_to_sent_at", columnList = "toEmail, sentAt")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,6 +41,10 @@ public class SentEmail {
     // Reference to contact message if applicable
     private Long contactMessageId;
 
+    // Which email flow produced it (custom, bulk campaign, ...), used by the daily rollups
+    @Column(length = 64)
+    private String template;
+
     @PrePersist
     protected void onCreate() {
         if (sentAt == null) {
@@ -0,0 +1,54 @@
+package org.liftakids.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+// One gzip JSONL file of archived sent emails; the id range and recipients are the lookup index
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "sent_email_archive_segments", indexes = {
+        @Index(name = "idx_archive_segment_ids", columnList = "firstEmailId, lastEmailId")
+})
+public class SentEmailArchiveSegment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // "local" or "r2"
+    @Column(nullable = false, length = 16)
+    private String store;
+
+    @Column(nullable = false, unique = true)
+    private String storageKey;
+
+    private Long firstEmailId;
+    private Long lastEmailId;
+    private LocalDateTime firstSentAt;
+    private LocalDateTime lastSentAt;
+    private int emailCount;
+    private long compressedBytes;
+
+    private LocalDateTime createdAt;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "sent_email_archive_recipients",
+            joinColumns = @JoinColumn(name = "segment_id"),
+            indexes = @Index(name = "idx_archive_recipient_email", columnList = "toEmail"))
+    @Column(name = "toEmail", nullable = false)
+    private Set<String> recipients = new HashSet<>();
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
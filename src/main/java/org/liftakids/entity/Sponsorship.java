@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.liftakids.httpcache.ResourceVersionListener;
+import org.liftakids.monitoring.EntityMetricsListener;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -15,6 +18,7 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
+@EntityListeners({EntityMetricsListener.class, ResourceVersionListener.class})
 @Table(name = "sponsorships")
 @Data
 @Builder
@@ -70,6 +74,7 @@ public class Sponsorship {
     private SponsorshipStatus status;
 
     @OneToMany(mappedBy = "sponsorship", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<Payment> payments = new ArrayList<>();
 
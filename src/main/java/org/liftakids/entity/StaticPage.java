@@ -4,10 +4,17 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.liftakids.config.SecondLevelCacheConfig;
+import org.liftakids.httpcache.ResourceVersionListener;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.STATIC_PAGES)
+@EntityListeners(ResourceVersionListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.Where;
+import org.liftakids.httpcache.ResourceVersionListener;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -18,6 +19,7 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "student")
 public class Student {
 
@@ -41,6 +43,13 @@ public class Student {
     private String bio;
     private String photoUrl;
 
+    // Resized copies written next to photoUrl, used by list pages and widgets
+    @Column(name = "photo_card_url")
+    private String photoCardUrl;
+
+    @Column(name = "photo_thumb_url")
+    private String photoThumbUrl;
+
 
     private String guardianName;
 
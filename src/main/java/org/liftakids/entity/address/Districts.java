@@ -5,6 +5,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.liftakids.config.SecondLevelCacheConfig;
+import org.liftakids.httpcache.ResourceVersionListener;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -13,6 +17,9 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.LOCATIONS)
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "districts")
 public class Districts {
     @Id
@@ -25,6 +32,7 @@ public class Districts {
     @JoinColumn(name = "division_id", nullable = false)
     private Divisions division;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.LOCATIONS)
     @OneToMany(mappedBy = "district", cascade = CascadeType.ALL,fetch = FetchType.LAZY)
     @JsonIgnore
     private Set<Thanas> thanas = new HashSet<>();
@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.liftakids.config.SecondLevelCacheConfig;
+import org.liftakids.httpcache.ResourceVersionListener;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -13,6 +17,9 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.LOCATIONS)
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "divisions")
 public class Divisions {
     @Id
@@ -22,6 +29,7 @@ public class Divisions {
     @Column(unique = true, nullable = false, length = 15)
     private String divisionName;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.LOCATIONS)
     @OneToMany(mappedBy = "division", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<Districts> districts = new HashSet<>();
 
@@ -5,6 +5,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.liftakids.config.SecondLevelCacheConfig;
+import org.liftakids.httpcache.ResourceVersionListener;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,6 +17,9 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.LOCATIONS)
+@EntityListeners(ResourceVersionListener.class)
 @Table(name = "thanas")
 public class Thanas {
     @Id
@@ -25,6 +32,7 @@ public class Thanas {
     @JsonIgnore
     private Districts district;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.LOCATIONS)
     @OneToMany(mappedBy = "thana", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true  )
     private List<UnionOrArea> unionOrAreas = new ArrayList<>();
 
@@ -0,0 +1,8 @@
+package org.liftakids.entity.enm;
+
+public enum EmailCampaignAudience {
+    ALL_DONORS,
+    INSTITUTION_DONORS,
+    APPROVED_INSTITUTIONS,
+    EMAIL_LIST
+}
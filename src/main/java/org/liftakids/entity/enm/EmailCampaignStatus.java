@@ -0,0 +1,9 @@
+package org.liftakids.entity.enm;
+
+public enum EmailCampaignStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package org.liftakids.entity.enm;
+
+public enum OcrJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,36 @@
+package org.liftakids.entity.enm;
+
+import java.util.Set;
+
+/**
+ * Key namespaces for direct-to-storage uploads, with the content types and size each one accepts.
+ */
+public enum UploadFolder {
+    // Raw camera files land outside students/ so neither the asset proxy nor a listing serves them before they are processed
+    STUDENT_PHOTOS("incoming/students", Set.of("image/jpeg", "image/png", "image/webp"), 5L * 1024 * 1024),
+    RECEIPTS("receipts", Set.of("image/jpeg", "image/png", "application/pdf"), 5L * 1024 * 1024),
+    DOCUMENTS("documents", Set.of("application/pdf", "application/msword",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document"), 10L * 1024 * 1024);
+
+    private final String prefix;
+    private final Set<String> allowedContentTypes;
+    private final long maxSizeBytes;
+
+    UploadFolder(String prefix, Set<String> allowedContentTypes, long maxSizeBytes) {
+        this.prefix = prefix;
+        this.allowedContentTypes = allowedContentTypes;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public Set<String> getAllowedContentTypes() {
+        return allowedContentTypes;
+    }
+
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+}
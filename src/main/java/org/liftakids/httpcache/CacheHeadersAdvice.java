@@ -0,0 +1,45 @@
+package org.liftakids.httpcache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Adds the headers computed by ConditionalRequestInterceptor to 2xx bodies; errors must not be cached
+@ControllerAdvice
+public class CacheHeadersAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        Object headers = httpRequest.getAttribute(ConditionalRequestInterceptor.HEADERS_ATTRIBUTE);
+        HttpServletResponse httpResponse = servletResponse.getServletResponse();
+        int status = httpResponse.getStatus();
+        if (headers instanceof ConditionalRequestInterceptor.CacheHeaders cacheHeaders && status >= 200 && status < 300
+                && !response.getHeaders().containsKey(HttpHeaders.CACHE_CONTROL)) {
+            response.getHeaders().setETag(cacheHeaders.etag());
+            response.getHeaders().setCacheControl(cacheHeaders.cacheControl());
+            response.getHeaders().setLastModified(cacheHeaders.lastModified());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,40 @@
+package org.liftakids.httpcache;
+
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How one endpoint is cached: the resource groups its response depends on, how long clients may reuse it
+ * without asking, and optionally a per-entity timestamp looked up from the path variables.
+ * A zero max age means "no-cache": clients keep the body but revalidate with If-None-Match every time.
+ */
+public record CachePolicy(String name, List<String> groups, Duration maxAge, boolean shared,
+                          EntityTimestamp entityTimestamp) {
+
+    @FunctionalInterface
+    public interface EntityTimestamp {
+        // Empty when the entity does not exist; the request then runs without conditional handling
+        Optional<Instant> lookup(Map<String, String> pathVariables);
+    }
+
+    public static CachePolicy of(String name, Duration maxAge, boolean shared, String... groups) {
+        return new CachePolicy(name, List.of(groups), maxAge, shared, null);
+    }
+
+    public CachePolicy withEntityTimestamp(EntityTimestamp lookup) {
+        return new CachePolicy(name, groups, maxAge, shared, lookup);
+    }
+
+    public String cacheControl() {
+        CacheControl cacheControl = maxAge.isZero()
+                ? CacheControl.noCache()
+                : CacheControl.maxAge(maxAge.toSeconds(), TimeUnit.SECONDS);
+        return (shared ? cacheControl.cachePublic() : cacheControl.cachePrivate()).getHeaderValue();
+    }
+}
@@ -0,0 +1,80 @@
+package org.liftakids.httpcache;
+
+import org.liftakids.repositories.StudentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.liftakids.httpcache.ResourceVersions.*;
+
+/**
+ * GET endpoints that get ETag/Cache-Control handling, first match wins so specific patterns go first.
+ * Endpoints not listed here (admin views, statistics, anything per user) are left alone.
+ */
+@Component
+public class CachePolicyRegistry {
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    public CachePolicyRegistry(StudentRepository studentRepository,
+                               @Value("${app.http-cache.reference-max-age:1h}") Duration referenceMaxAge) {
+        // Location tree changes a few times a year
+        CachePolicy locations = CachePolicy.of("locations", referenceMaxAge, true, LOCATIONS);
+        register("/api/divisions/**", locations);
+        register("/api/districts/**", locations);
+        register("/api/thanas/**", locations);
+        register("/api/unions-or-areas/**", locations);
+
+        register("/api/institutions/statistics/**",
+                CachePolicy.of("institution-stats", Duration.ZERO, true, INSTITUTIONS));
+        // Student responses name their sponsors
+        register("/api/institutions/{institutionId}/students-with-sponsors",
+                CachePolicy.of("institution-students", Duration.ZERO, true, INSTITUTIONS, STUDENTS, SPONSORSHIPS, DONORS));
+        register("/api/institutions/**",
+                CachePolicy.of("institutions", Duration.ZERO, true, INSTITUTIONS, LOCATIONS));
+
+        register("/api/students/{id:\\d+}",
+                CachePolicy.of("student", Duration.ZERO, true, INSTITUTIONS, SPONSORSHIPS, DONORS)
+                        .withEntityTimestamp(vars -> studentRepository
+                                .findLastUpdatedDateById(Long.valueOf(vars.get("id")))
+                                .map(updated -> updated.atZone(ZoneId.systemDefault()).toInstant())));
+        register("/api/students/**",
+                CachePolicy.of("students", Duration.ZERO, true, STUDENTS, INSTITUTIONS, SPONSORSHIPS, DONORS));
+
+        register("/api/pages/admin/**", null);
+        register("/api/pages/check-slug/**", null);
+        // Public pages set their own content-hash ETag (StaticPageResponseCache)
+        register("/api/pages/{slug}", null);
+        register("/api/pages/**", CachePolicy.of("pages", Duration.ZERO, true, STATIC_PAGES));
+    }
+
+    // A null policy excludes the pattern from a broader one registered after it
+    private void register(String pattern, CachePolicy policy) {
+        entries.add(new Entry(PathPatternParser.defaultInstance.parse(pattern), policy));
+    }
+
+    public Match find(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (Entry entry : entries) {
+            PathPattern.PathMatchInfo info = entry.pattern().matchAndExtract(container);
+            if (info != null) {
+                return entry.policy() == null ? null : new Match(entry.policy(), info.getUriVariables());
+            }
+        }
+        return null;
+    }
+
+    public record Match(CachePolicy policy, Map<String, String> pathVariables) {
+    }
+
+    private record Entry(PathPattern pattern, CachePolicy policy) {
+    }
+}
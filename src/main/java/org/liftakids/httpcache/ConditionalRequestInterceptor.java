@@ -0,0 +1,124 @@
+package org.liftakids.httpcache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.liftakids.datasource.ReadYourWrites;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Answers conditional GETs for registered endpoints before the controller runs: the weak ETag is built from
+ * the resource group versions (plus the entity timestamp, if the policy has one), so a matching
+ * If-None-Match costs no query beyond that lookup. Otherwise the computed headers are handed to
+ * {@link CacheHeadersAdvice}, which adds them to successful responses only.
+ * With a read replica, a body tagged with the new version must not come from a replica that has not seen the
+ * change yet (clients would keep it until the next change), so the request reads from the primary while any
+ * of its groups changed within max-lag plus one heartbeat.
+ */
+@Component
+public class ConditionalRequestInterceptor implements HandlerInterceptor {
+
+    static final String HEADERS_ATTRIBUTE = ConditionalRequestInterceptor.class.getName() + ".headers";
+
+    private final CachePolicyRegistry registry;
+    private final ResourceVersions resourceVersions;
+    private final long primaryWindowMillis;
+
+    public ConditionalRequestInterceptor(CachePolicyRegistry registry, ResourceVersions resourceVersions,
+                                         @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled,
+                                         @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag,
+                                         @Value("${app.datasource.replica.heartbeat-interval:1000}") long heartbeatMillis) {
+        this.registry = registry;
+        this.resourceVersions = resourceVersions;
+        this.primaryWindowMillis = replicaEnabled ? Math.max(maxLag.toMillis(), 0) + heartbeatMillis : -1;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+        CachePolicyRegistry.Match match = registry.find(request.getRequestURI().substring(request.getContextPath().length()));
+        if (match == null) {
+            return true;
+        }
+        CachePolicy policy = match.policy();
+
+        StringBuilder tag = new StringBuilder(48).append(resourceVersions.epoch());
+        Instant lastModified = Instant.EPOCH;
+        for (String group : policy.groups()) {
+            tag.append('.').append(resourceVersions.version(group));
+            Instant modified = resourceVersions.lastModified(group);
+            if (modified.isAfter(lastModified)) {
+                lastModified = modified;
+            }
+        }
+        if (policy.entityTimestamp() != null) {
+            Optional<Instant> entityModified;
+            try (ReadYourWrites.Scope ignored = ReadYourWrites.requirePrimary()) {
+                entityModified = policy.entityTimestamp().lookup(match.pathVariables());
+            }
+            if (entityModified.isEmpty()) {
+                return true;
+            }
+            tag.append('-').append(Long.toString(entityModified.get().toEpochMilli(), 36));
+            if (entityModified.get().isAfter(lastModified)) {
+                lastModified = entityModified.get();
+            }
+        }
+        CacheHeaders headers = new CacheHeaders("W/\"" + policy.name() + "-" + tag + "\"",
+                policy.cacheControl(), lastModified.toEpochMilli() / 1000 * 1000);
+
+        if (notModified(request, headers)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            headers.applyTo(response);
+            return false;
+        }
+        request.setAttribute(HEADERS_ATTRIBUTE, headers);
+        if (primaryWindowMillis >= 0) {
+            // lastModified is truncated to the second
+            ReadYourWrites.pinUntil(lastModified.toEpochMilli() + 1000 + primaryWindowMillis);
+        }
+        return true;
+    }
+
+    // If-None-Match wins over If-Modified-Since (RFC 9110 13.2.2); ETags are compared weakly
+    private boolean notModified(HttpServletRequest request, CacheHeaders headers) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String ours = stripWeak(headers.etag());
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if (value.equals("*") || stripWeak(value).equals(ours)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return ifModifiedSince >= 0 && headers.lastModified() <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    record CacheHeaders(String etag, String cacheControl, long lastModified) {
+
+        void applyTo(HttpServletResponse response) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+    }
+}
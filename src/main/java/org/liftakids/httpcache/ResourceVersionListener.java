@@ -0,0 +1,57 @@
+package org.liftakids.httpcache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.liftakids.entity.Donor;
+import org.liftakids.entity.Institutions;
+import org.liftakids.entity.Payment;
+import org.liftakids.entity.Sponsorship;
+import org.liftakids.entity.StaticPage;
+import org.liftakids.entity.Student;
+import org.liftakids.entity.address.Districts;
+import org.liftakids.entity.address.Divisions;
+import org.liftakids.entity.address.Thanas;
+import org.liftakids.entity.address.UnionOrArea;
+import org.liftakids.service.Util.AfterCommit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bumps the resource group of every cached entity once its change has committed.
+ * JPQL bulk updates bypass entity callbacks, so the cached entities must be written through the EntityManager.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceVersionListener {
+
+    private final ResourceVersions resourceVersions;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void changed(Object entity) {
+        String group = groupOf(entity);
+        if (group != null) {
+            AfterCommit.run(() -> resourceVersions.bump(group));
+        }
+    }
+
+    private static String groupOf(Object entity) {
+        if (entity instanceof Divisions || entity instanceof Districts
+                || entity instanceof Thanas || entity instanceof UnionOrArea) {
+            return ResourceVersions.LOCATIONS;
+        } else if (entity instanceof Institutions) {
+            return ResourceVersions.INSTITUTIONS;
+        } else if (entity instanceof Student) {
+            return ResourceVersions.STUDENTS;
+        } else if (entity instanceof Sponsorship || entity instanceof Payment) {
+            return ResourceVersions.SPONSORSHIPS;
+        } else if (entity instanceof Donor) {
+            return ResourceVersions.DONORS;
+        } else if (entity instanceof StaticPage) {
+            return ResourceVersions.STATIC_PAGES;
+        }
+        return null;
+    }
+}
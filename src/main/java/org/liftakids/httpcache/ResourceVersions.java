@@ -0,0 +1,62 @@
+package org.liftakids.httpcache;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory change counter per resource group (locations, institutions, ...), bumped after every committed
+ * insert/update/delete of an entity in the group. ETags are built from these counters, so a conditional GET
+ * can be answered without running the query. The startup epoch is part of every tag, which invalidates
+ * tags handed out by a previous process.
+ */
+@Component
+public class ResourceVersions {
+
+    public static final String LOCATIONS = "locations";
+    public static final String INSTITUTIONS = "institutions";
+    public static final String STUDENTS = "students";
+    public static final String SPONSORSHIPS = "sponsorships";
+    public static final String DONORS = "donors";
+    public static final String STATIC_PAGES = "static-pages";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Instant startedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private final Map<String, Version> versions = new ConcurrentHashMap<>();
+
+    public String epoch() {
+        return epoch;
+    }
+
+    public void bump(String group) {
+        versions.computeIfAbsent(group, g -> new Version(startedAt)).bump();
+    }
+
+    public long version(String group) {
+        Version version = versions.get(group);
+        return version == null ? 0 : version.counter;
+    }
+
+    // Unchanged groups report the startup time since nothing older is known
+    public Instant lastModified(String group) {
+        Version version = versions.get(group);
+        return version == null ? startedAt : version.modified;
+    }
+
+    private static final class Version {
+        private volatile long counter;
+        private volatile Instant modified;
+
+        Version(Instant modified) {
+            this.modified = modified;
+        }
+
+        synchronized void bump() {
+            counter++;
+            modified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        }
+    }
+}
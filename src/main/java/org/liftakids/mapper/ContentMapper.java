@@ -0,0 +1,23 @@
+package org.liftakids.mapper;
+
+import org.liftakids.dto.contact.ContactRequestDTO;
+import org.liftakids.dto.pages.StaticPageRequestDTO;
+import org.liftakids.dto.pages.StaticPageResponseDTO;
+import org.liftakids.entity.ContactMessage;
+import org.liftakids.entity.StaticPage;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperSettings.class)
+public interface ContentMapper {
+
+    StaticPageResponseDTO toResponseDto(StaticPage page);
+
+    @Mapping(target = "contactPage", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    StaticPage toEntity(StaticPageRequestDTO request);
+
+    @Mapping(target = "id", ignore = true)
+    ContactMessage toEntity(ContactRequestDTO request);
+}
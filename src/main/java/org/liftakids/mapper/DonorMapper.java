@@ -0,0 +1,21 @@
+package org.liftakids.mapper;
+
+import org.liftakids.dto.donor.DonorRequestDto;
+import org.liftakids.dto.donor.DonorResponseDto;
+import org.liftakids.entity.Donor;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperSettings.class)
+public interface DonorMapper {
+
+    @Mapping(target = "sponsoredStudentsCount", ignore = true)
+    @Mapping(target = "totalSponsorshipsCount", ignore = true)
+    DonorResponseDto toResponseDto(Donor donor);
+
+    @Mapping(target = "donorId", ignore = true)
+    @Mapping(target = "sponsorships", ignore = true)
+    @Mapping(target = "activeSponsorships", ignore = true)
+    @Mapping(target = "notifications", ignore = true)
+    Donor toEntity(DonorRequestDto requestDto);
+}
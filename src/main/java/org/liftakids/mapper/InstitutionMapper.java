@@ -0,0 +1,35 @@
+package org.liftakids.mapper;
+
+import org.liftakids.dto.institute.InstitutionRequestDto;
+import org.liftakids.dto.institute.InstitutionResponseDto;
+import org.liftakids.dto.institute.UpdateInstitutionDto;
+import org.liftakids.entity.Institutions;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+@Mapper(config = MapperSettings.class)
+public interface InstitutionMapper {
+
+    // Reading the id of a lazy association does not initialize it
+    @Mapping(target = "divisionId", source = "division.divisionId")
+    @Mapping(target = "districtId", source = "district.districtId")
+    @Mapping(target = "thanaId", source = "thana.thanaId")
+    @Mapping(target = "unionOrAreaId", source = "unionOrArea.unionOrAreaId")
+    @Mapping(target = "approved", ignore = true)
+    InstitutionResponseDto toResponseDto(Institutions institution);
+
+    @Mapping(target = "institutionsId", ignore = true)
+    @Mapping(target = "isApproved", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "students", ignore = true)
+    Institutions toEntity(InstitutionRequestDto requestDto);
+
+    @Mapping(target = "institutionsId", ignore = true)
+    @Mapping(target = "division", ignore = true)
+    @Mapping(target = "district", ignore = true)
+    @Mapping(target = "thana", ignore = true)
+    @Mapping(target = "unionOrArea", ignore = true)
+    @Mapping(target = "students", ignore = true)
+    void updateEntity(UpdateInstitutionDto requestDto, @MappingTarget Institutions institution);
+}
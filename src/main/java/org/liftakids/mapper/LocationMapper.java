@@ -0,0 +1,60 @@
+package org.liftakids.mapper;
+
+import org.liftakids.dto.district.DistrictDto;
+import org.liftakids.dto.district.DistrictResponseDTO;
+import org.liftakids.dto.divison.DivisionDto;
+import org.liftakids.dto.divison.DivisionResponseDTO;
+import org.liftakids.dto.thana.ThanaDto;
+import org.liftakids.dto.thana.ThanaResponseDTO;
+import org.liftakids.dto.unionOrArea.UnionOrAreaResponseDTO;
+import org.liftakids.entity.address.Districts;
+import org.liftakids.entity.address.Divisions;
+import org.liftakids.entity.address.Thanas;
+import org.liftakids.entity.address.UnionOrArea;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+/**
+ * Division / district / thana / union conversions. Only ids of parent levels are mapped,
+ * names stay with the services that fetch them in bulk.
+ */
+@Mapper(config = MapperSettings.class)
+public interface LocationMapper {
+
+    DivisionDto toDivisionDto(Divisions division);
+
+    @Mapping(target = "divisionId", ignore = true)
+    @Mapping(target = "districts", ignore = true)
+    Divisions toDivision(DivisionDto dto);
+
+    @Mapping(target = "divisionId", ignore = true)
+    @Mapping(target = "districts", ignore = true)
+    void updateDivision(DivisionDto dto, @MappingTarget Divisions division);
+
+    DivisionResponseDTO toDivisionResponse(Divisions division);
+
+    @Mapping(target = "divisionId", source = "division.divisionId")
+    DistrictDto toDistrictDto(Districts district);
+
+    @Mapping(target = "divisionId", source = "division.divisionId")
+    @Mapping(target = "divisionName", ignore = true)
+    DistrictResponseDTO toDistrictResponse(Districts district);
+
+    @Mapping(target = "districtId", source = "district.districtId")
+    ThanaDto toThanaDto(Thanas thana);
+
+    @Mapping(target = "districtId", source = "district.districtId")
+    @Mapping(target = "districtName", ignore = true)
+    @Mapping(target = "divisionId", ignore = true)
+    @Mapping(target = "divisionName", ignore = true)
+    ThanaResponseDTO toThanaResponse(Thanas thana);
+
+    @Mapping(target = "thanaId", source = "thana.thanaId")
+    @Mapping(target = "thanaName", ignore = true)
+    @Mapping(target = "districtId", ignore = true)
+    @Mapping(target = "districtName", ignore = true)
+    @Mapping(target = "divisionId", ignore = true)
+    @Mapping(target = "divisionName", ignore = true)
+    UnionOrAreaResponseDTO toUnionOrAreaResponse(UnionOrArea unionOrArea);
+}
@@ -0,0 +1,20 @@
+package org.liftakids.mapper;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared settings for the generated mappers. Mirrors the old ModelMapper setup: same-name properties only,
+ * unmapped targets left alone (services fill them in), nulls skipped when updating an existing entity,
+ * and DTOs built through their no-arg constructor rather than Lombok builders.
+ */
+@MapperConfig(
+        componentModel = "spring",
+        unmappedTargetPolicy = ReportingPolicy.IGNORE,
+        nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+        builder = @Builder(disableBuilder = true)
+)
+public interface MapperSettings {
+}
@@ -0,0 +1,16 @@
+package org.liftakids.mapper;
+
+import org.liftakids.dto.payment.PaymentResponseDto;
+import org.liftakids.entity.Payment;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperSettings.class)
+public interface PaymentMapper {
+
+    @Mapping(target = "sponsorshipId", source = "sponsorship.id")
+    @Mapping(target = "studentName", ignore = true)
+    @Mapping(target = "donorName", ignore = true)
+    @Mapping(target = "institutionName", ignore = true)
+    PaymentResponseDto toResponseDto(Payment payment);
+}
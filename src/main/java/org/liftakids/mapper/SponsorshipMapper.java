@@ -0,0 +1,19 @@
+package org.liftakids.mapper;
+
+import org.liftakids.dto.sponsorship.SponsorDetailsDto;
+import org.liftakids.dto.sponsorship.SponsorshipResponseDto;
+import org.liftakids.entity.Donor;
+import org.liftakids.entity.Sponsorship;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperSettings.class)
+public interface SponsorshipMapper {
+
+    // Student, donor and institution details are filled in by the callers that need them
+    @Mapping(target = "sponsorDetails", ignore = true)
+    @Mapping(target = "studentStatus", ignore = true)
+    SponsorshipResponseDto toResponseDto(Sponsorship sponsorship);
+
+    SponsorDetailsDto toSponsorDetails(Donor donor);
+}
@@ -0,0 +1,24 @@
+package org.liftakids.mapper;
+
+import org.liftakids.dto.student.StudentRequestDto;
+import org.liftakids.dto.student.StudentResponseDto;
+import org.liftakids.entity.Student;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperSettings.class)
+public interface StudentMapper {
+
+    @Mapping(target = "institutionsId", source = "institution.institutionsId")
+    @Mapping(target = "institutions", ignore = true)
+    @Mapping(target = "sponsors", ignore = true)
+    @Mapping(target = "sponsoredAmount", ignore = true)
+    StudentResponseDto toResponseDto(Student student);
+
+    @Mapping(target = "studentId", ignore = true)
+    @Mapping(target = "institution", ignore = true)
+    @Mapping(target = "photoUrl", ignore = true)
+    @Mapping(target = "photoCardUrl", ignore = true)
+    @Mapping(target = "photoThumbUrl", ignore = true)
+    Student toEntity(StudentRequestDto requestDto);
+}
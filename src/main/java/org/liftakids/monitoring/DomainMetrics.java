@@ -0,0 +1,108 @@
+package org.liftakids.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.liftakids.entity.PaymentMethod;
+import org.liftakids.entity.enm.NotificationType;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Business counters published next to the technical meters (all under {@code liftakids.*}).
+ * Callers record only after the work is durable, typically through {@code AfterCommit}.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void paymentProcessed(PaymentMethod method) {
+        payments(method, "processed").increment();
+    }
+
+    public void paymentFailed(PaymentMethod method) {
+        payments(method, "failed").increment();
+    }
+
+    // Turned away by validation before anything was written, kept apart from failures
+    public void paymentRejected(PaymentMethod method) {
+        payments(method, "rejected").increment();
+    }
+
+    public void sponsorshipCreated() {
+        Counter.builder("liftakids.sponsorships.created")
+                .description("Sponsorships created")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void sponsorshipsExpired(int count) {
+        Counter.builder("liftakids.sponsorships.expired")
+                .description("Pending sponsorships expired without payment")
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    public void notificationCreated(NotificationType type) {
+        Counter.builder("liftakids.notifications.created")
+                .description("In-app notifications created")
+                .tag("type", type != null ? type.name() : "UNKNOWN")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void emailSent() {
+        emails("sent").increment();
+    }
+
+    public void emailFailed() {
+        emails("failed").increment();
+    }
+
+    public void admissionRejected(String bulkhead) {
+        Counter.builder("liftakids.bulkhead.rejected")
+                .description("Requests turned away with 503 because their bulkhead was full")
+                .tag("bulkhead", bulkhead)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void ocrCompleted(long nanos, boolean success) {
+        Timer.builder("liftakids.ocr.duration")
+                .description("Result sheet OCR time on a worker, preprocessing included")
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** @param direction {@code upload} (to the bucket) or {@code download} (from it) */
+    public void storageBytes(String direction, long bytes) {
+        DistributionSummary.builder("liftakids.storage.bytes")
+                .description("Object bytes transferred to or from R2")
+                .baseUnit("bytes")
+                .tag("direction", direction)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    private Counter payments(PaymentMethod method, String outcome) {
+        return Counter.builder("liftakids.payments")
+                .description("Payments by method and outcome")
+                .tag("method", method != null ? method.name() : "UNKNOWN")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter emails(String outcome) {
+        return Counter.builder("liftakids.emails")
+                .description("Emails handed to SMTP")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
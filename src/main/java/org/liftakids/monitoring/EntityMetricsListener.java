@@ -0,0 +1,28 @@
+package org.liftakids.monitoring;
+
+import jakarta.persistence.PostPersist;
+import lombok.RequiredArgsConstructor;
+import org.liftakids.entity.Notification;
+import org.liftakids.entity.Sponsorship;
+import org.liftakids.service.Util.AfterCommit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts sponsorships and notifications when they are inserted, whichever service created them.
+ * Hibernate obtains the listener from Spring, so it can take constructor dependencies.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityMetricsListener {
+
+    private final DomainMetrics domainMetrics;
+
+    @PostPersist
+    public void created(Object entity) {
+        if (entity instanceof Notification notification) {
+            AfterCommit.run(() -> domainMetrics.notificationCreated(notification.getType()));
+        } else if (entity instanceof Sponsorship) {
+            AfterCommit.run(domainMetrics::sponsorshipCreated);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.liftakids.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gives every {@code @Scheduled} run its own SQL capture scope, reported as {@code job Class.method}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ScheduledSqlStatsAspect {
+
+    private final SqlStatsRecorder recorder;
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object capture(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlStatsContext.Scope scope = SqlStatsContext.open();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.close();
+            recorder.record("job", joinPoint.getSignature().getDeclaringType().getSimpleName()
+                    + "." + joinPoint.getSignature().getName(), scope.stats());
+        }
+    }
+}
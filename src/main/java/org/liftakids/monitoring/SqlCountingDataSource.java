@@ -0,0 +1,110 @@
+package org.liftakids.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+
+/**
+ * Wraps the pool so every statement executed on a thread with an open {@link SqlStatsContext}
+ * scope is counted and timed, and every row read through its result sets is counted. Outside a
+ * scope the proxies only pay a ThreadLocal lookup per call.
+ */
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+    public SqlCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private static <T extends Statement> T wrapStatement(Class<T> type, T statement, String preparedSql) {
+        return proxy(type, statement, (proxy, method, args) -> {
+            String name = method.getName();
+            SqlStats stats = SqlStatsContext.current();
+            if (stats == null || !name.startsWith("execute")) {
+                Object result = invoke(statement, method, args);
+                return stats != null && result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+            }
+
+            long started = System.nanoTime();
+            Object result = invoke(statement, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            stats.recordStatement(sql, System.nanoTime() - started);
+
+            if (result instanceof ResultSet resultSet) {
+                return wrapResultSet(resultSet);
+            }
+            if (result instanceof Integer count && count > 0) {
+                stats.addRows(count);
+            } else if (result instanceof Long count && count > 0) {
+                stats.addRows(count);
+            } else if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    stats.addRows(Math.max(0, count));
+                }
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+            if (!"next".equals(method.getName())) {
+                return invoke(resultSet, method, args);
+            }
+            long started = System.nanoTime();
+            Object hasRow = invoke(resultSet, method, args);
+            SqlStats stats = SqlStatsContext.current();
+            if (stats != null) {
+                // Fetching further rows may hit the server, so it counts as JDBC time too
+                stats.addJdbcNanos(System.nanoTime() - started);
+                if (Boolean.TRUE.equals(hasRow)) {
+                    stats.addRows(1);
+                }
+            }
+            return hasRow;
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
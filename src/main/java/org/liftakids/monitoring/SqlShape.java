@@ -0,0 +1,47 @@
+package org.liftakids.monitoring;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a statement to its shape so repeated executions with different parameters group
+ * together: literals become {@code ?}, IN lists collapse, whitespace is normalized.
+ */
+final class SqlShape {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("in\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final int MAX_LENGTH = 300;
+    // Hibernate reuses the same SQL strings, so the regex work is paid once per distinct statement
+    private static final int CACHE_SIZE = 4096;
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlShape() {
+    }
+
+    static String of(String sql) {
+        String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        if (CACHE.size() >= CACHE_SIZE) {
+            CACHE.clear();
+        }
+        String shape = normalize(sql);
+        CACHE.put(sql, shape);
+        return shape;
+    }
+
+    private static String normalize(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return shape.length() > MAX_LENGTH ? shape.substring(0, MAX_LENGTH) : shape;
+    }
+}
@@ -0,0 +1,82 @@
+package org.liftakids.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statements, rows and JDBC time accumulated by one {@link SqlStatsContext} scope.
+ * Owned by a single thread, so not synchronized.
+ */
+public class SqlStats {
+
+    private int statements;
+    private int selects;
+    private int writes;
+    private long rows;
+    private long jdbcNanos;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    void recordStatement(String sql, long nanos) {
+        statements++;
+        jdbcNanos += nanos;
+        if (sql == null) {
+            return;
+        }
+        String shape = SqlShape.of(sql);
+        if (shape.startsWith("select") || shape.startsWith("with")) {
+            selects++;
+        } else {
+            writes++;
+        }
+        shapes.merge(shape, 1, Integer::sum);
+    }
+
+    void addRows(long count) {
+        rows += count;
+    }
+
+    void addJdbcNanos(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    void mergeInto(SqlStats parent) {
+        parent.statements += statements;
+        parent.selects += selects;
+        parent.writes += writes;
+        parent.rows += rows;
+        parent.jdbcNanos += jdbcNanos;
+        shapes.forEach((shape, count) -> parent.shapes.merge(shape, count, Integer::sum));
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getSelects() {
+        return selects;
+    }
+
+    public int getWrites() {
+        return writes;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /** Statement shape (literals stripped) to number of executions. */
+    public Map<String, Integer> getShapes() {
+        return shapes;
+    }
+
+    /** The most executed statement shape, or null if nothing ran. */
+    public Map.Entry<String, Integer> mostRepeated() {
+        return shapes.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
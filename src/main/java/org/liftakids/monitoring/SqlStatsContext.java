@@ -0,0 +1,54 @@
+package org.liftakids.monitoring;
+
+/**
+ * Thread-bound capture scopes for {@link SqlStats}. The instrumented DataSource records into the
+ * innermost open scope; closing a nested scope folds its numbers into the enclosing one, so a
+ * test capture inside a request still counts toward the request.
+ */
+public final class SqlStatsContext {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatsContext() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /** The innermost open scope on this thread, or null when statements are not being captured. */
+    static SqlStats current() {
+        Scope scope = CURRENT.get();
+        return scope != null ? scope.stats : null;
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final SqlStats stats = new SqlStats();
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public SqlStats stats() {
+            return stats;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (parent != null) {
+                stats.mergeInto(parent.stats);
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.liftakids.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/sqlstats}: per-route statement averages and the most recent threshold
+ * offenders. {@code DELETE} clears them, e.g. before a measurement run.
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+
+    private final SqlStatsRecorder recorder;
+
+    @ReadOperation
+    public Map<String, Object> sqlStats() {
+        return recorder.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        recorder.reset();
+    }
+}
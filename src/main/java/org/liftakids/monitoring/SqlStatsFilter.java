@@ -0,0 +1,59 @@
+package org.liftakids.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Opens a SQL capture scope around each request and reports it under the matched route template.
+ * With {@code app.sql.response-header=true} (load tests, local debugging) the statement count is
+ * also returned in {@value #HEADER}; that mode buffers the body, so it stays off in production.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private final SqlStatsRecorder recorder;
+    private final boolean responseHeader;
+
+    public SqlStatsFilter(SqlStatsRecorder recorder,
+                          @Value("${app.sql.response-header:false}") boolean responseHeader) {
+        this.recorder = recorder;
+        this.responseHeader = responseHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = responseHeader ? new ContentCachingResponseWrapper(response) : null;
+        SqlStatsContext.Scope scope = SqlStatsContext.open();
+        try {
+            chain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            scope.close();
+            recorder.record("http", routeOf(request), scope.stats());
+            if (wrapper != null) {
+                wrapper.setHeader(HEADER, Integer.toString(scope.stats().getStatements()));
+                wrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // Unmatched paths are grouped so probes and typos can't blow up meter cardinality
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+    }
+}
@@ -0,0 +1,164 @@
+package org.liftakids.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes the SQL footprint of each finished request or scheduled job to Micrometer, keeps
+ * per-endpoint aggregates for the {@code sqlstats} actuator endpoint and flags units of work that
+ * run too many statements, repeat one statement shape (the usual N+1 signature) or spend too long
+ * in JDBC.
+ */
+@Component
+@Slf4j
+public class SqlStatsRecorder {
+
+    private static final int RECENT_OFFENDERS = 50;
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int repeatThreshold;
+    private final long slowJdbcNanos;
+
+    private final Map<String, Aggregate> aggregates = new ConcurrentHashMap<>();
+    private final Deque<Offender> recentOffenders = new ArrayDeque<>();
+
+    public SqlStatsRecorder(MeterRegistry meterRegistry,
+                            @Value("${app.sql.max-statements:30}") int maxStatements,
+                            @Value("${app.sql.repeat-threshold:10}") int repeatThreshold,
+                            @Value("${app.sql.slow-jdbc-ms:500}") long slowJdbcMs) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.repeatThreshold = repeatThreshold;
+        this.slowJdbcNanos = TimeUnit.MILLISECONDS.toNanos(slowJdbcMs);
+    }
+
+    /**
+     * @param kind {@code http} or {@code job}
+     * @param name route template ({@code GET /api/students/{id}}) or {@code Class.method}
+     */
+    public void record(String kind, String name, SqlStats stats) {
+        DistributionSummary.builder("sql.statements")
+                .description("SQL statements per unit of work")
+                .tags("kind", kind, "name", name)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("sql.rows")
+                .description("Rows read or written per unit of work")
+                .tags("kind", kind, "name", name)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("sql.jdbc.time")
+                .description("Time spent in JDBC per unit of work")
+                .tags("kind", kind, "name", name)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        aggregates.computeIfAbsent(kind + " " + name, key -> new Aggregate()).add(stats);
+
+        List<String> reasons = new ArrayList<>(3);
+        if (stats.getStatements() > maxStatements) {
+            reasons.add("statements");
+        }
+        Map.Entry<String, Integer> repeated = stats.mostRepeated();
+        if (repeated != null && repeated.getValue() >= repeatThreshold) {
+            reasons.add("repeated");
+        }
+        if (stats.getJdbcNanos() > slowJdbcNanos) {
+            reasons.add("slow");
+        }
+        if (!reasons.isEmpty()) {
+            flag(kind, name, stats, reasons, repeated);
+        }
+    }
+
+    private void flag(String kind, String name, SqlStats stats, List<String> reasons, Map.Entry<String, Integer> repeated) {
+        for (String reason : reasons) {
+            Counter.builder("sql.flagged")
+                    .description("Units of work over a SQL threshold")
+                    .tags("kind", kind, "name", name, "reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        Offender offender = new Offender(LocalDateTime.now(), kind, name, reasons, stats.getStatements(),
+                stats.getRows(), TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()),
+                repeated != null ? repeated.getKey() : null, repeated != null ? repeated.getValue() : 0);
+        synchronized (recentOffenders) {
+            if (recentOffenders.size() == RECENT_OFFENDERS) {
+                recentOffenders.removeLast();
+            }
+            recentOffenders.addFirst(offender);
+        }
+        log.warn("SQL threshold exceeded {} by {} {}: {} statements, {} rows, {} ms JDBC; most repeated ({}x): {}",
+                reasons, kind, name, offender.statements(), offender.rows(), offender.jdbcMillis(),
+                offender.repeatCount(), offender.repeatedShape());
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> byName = new TreeMap<>();
+        aggregates.forEach((name, aggregate) -> byName.put(name, aggregate.toMap()));
+        List<Offender> offenders;
+        synchronized (recentOffenders) {
+            offenders = new ArrayList<>(recentOffenders);
+        }
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("thresholds", Map.of(
+                "maxStatements", maxStatements,
+                "repeatThreshold", repeatThreshold,
+                "slowJdbcMs", TimeUnit.NANOSECONDS.toMillis(slowJdbcNanos)));
+        snapshot.put("endpoints", byName);
+        snapshot.put("recentOffenders", offenders);
+        return snapshot;
+    }
+
+    public void reset() {
+        aggregates.clear();
+        synchronized (recentOffenders) {
+            recentOffenders.clear();
+        }
+    }
+
+    public record Offender(LocalDateTime at, String kind, String name, List<String> reasons, int statements,
+                           long rows, long jdbcMillis, String repeatedShape, int repeatCount) {
+    }
+
+    private static final class Aggregate {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder jdbcNanos = new LongAdder();
+        private volatile int maxStatements;
+
+        void add(SqlStats stats) {
+            count.increment();
+            statements.add(stats.getStatements());
+            rows.add(stats.getRows());
+            jdbcNanos.add(stats.getJdbcNanos());
+            if (stats.getStatements() > maxStatements) {
+                maxStatements = stats.getStatements();
+            }
+        }
+
+        Map<String, Object> toMap() {
+            long n = Math.max(1, count.sum());
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count.sum());
+            map.put("avgStatements", (double) statements.sum() / n);
+            map.put("maxStatements", maxStatements);
+            map.put("avgRows", (double) rows.sum() / n);
+            map.put("avgJdbcMs", jdbcNanos.sum() / 1_000_000.0 / n);
+            return map;
+        }
+    }
+}
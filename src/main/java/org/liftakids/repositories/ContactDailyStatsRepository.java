@@ -0,0 +1,9 @@
+package org.liftakids.repositories;
+
+import org.liftakids.entity.ContactDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+
+public interface ContactDailyStatsRepository extends JpaRepository<ContactDailyStats, LocalDate> {
+}
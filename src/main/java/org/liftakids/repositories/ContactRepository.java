@@ -1,6 +1,9 @@
 package org.liftakids.repositories;
 
+import org.liftakids.dto.contact.ContactMessageSummaryDTO;
 import org.liftakids.entity.ContactMessage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,17 +13,43 @@ import java.util.List;
 
 public interface ContactRepository extends JpaRepository<ContactMessage, Long> {
 
-    // Find all messages ordered by creation date (newest first)
-    List<ContactMessage> findAllByOrderByCreatedAtDesc();
+    String SUMMARY = "SELECT new org.liftakids.dto.contact.ContactMessageSummaryDTO(" +
+            "c.id, c.name, c.email, c.phone, c.subject, c.isRead, c.isResponded, c.createdAt, c.repliedAt, c.repliedBy) " +
+            "FROM ContactMessage c ";
 
-    // Find unresponded messages ordered by creation date
-    List<ContactMessage> findByIsRespondedFalseOrderByCreatedAtDesc();
+    String FILTER = "WHERE (:responded IS NULL OR c.isResponded = :responded) " +
+            "AND (:read IS NULL OR c.isRead = :read) " +
+            "AND (:email IS NULL OR c.email = :email) " +
+            "AND (:from IS NULL OR c.createdAt >= :from) " +
+            "AND (:to IS NULL OR c.createdAt < :to) " +
+            "AND (:search IS NULL OR LOWER(c.subject) LIKE LOWER(CONCAT('%', :search, '%')) " +
+            "   OR LOWER(c.name) LIKE LOWER(CONCAT('%', :search, '%')) " +
+            "   OR LOWER(c.email) LIKE LOWER(CONCAT('%', :search, '%'))) ";
 
-    // Find responded messages ordered by reply date
-    List<ContactMessage> findByIsRespondedTrueOrderByRepliedAtDesc();
+    // Inbox list: bodies are left out, sort comes from the Pageable
+    @Query(value = SUMMARY + FILTER,
+            countQuery = "SELECT COUNT(c) FROM ContactMessage c " + FILTER)
+    Page<ContactMessageSummaryDTO> searchSummaries(@Param("responded") Boolean responded,
+                                                   @Param("read") Boolean read,
+                                                   @Param("email") String email,
+                                                   @Param("search") String search,
+                                                   @Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to,
+                                                   Pageable pageable);
 
-    // Find messages by email
-    List<ContactMessage> findByEmailOrderByCreatedAtDesc(String email);
+    // Keyset page, newest first; (createdAt, id) of the last row seen is the cursor, null for the first page
+    @Query(SUMMARY + FILTER +
+            "AND (:cursorAt IS NULL OR c.createdAt < :cursorAt OR (c.createdAt = :cursorAt AND c.id < :cursorId)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactMessageSummaryDTO> findSummariesBefore(@Param("responded") Boolean responded,
+                                                       @Param("read") Boolean read,
+                                                       @Param("email") String email,
+                                                       @Param("search") String search,
+                                                       @Param("from") LocalDateTime from,
+                                                       @Param("to") LocalDateTime to,
+                                                       @Param("cursorAt") LocalDateTime cursorAt,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable limit);
 
     // Find recent messages
     List<ContactMessage> findTop5ByOrderByCreatedAtDesc();
@@ -29,13 +58,17 @@ public interface ContactRepository extends JpaRepository<ContactMessage, Long> {
     long countByIsRespondedFalse();
     long countByIsRespondedTrue();
 
-    // Find messages by date range
-    List<ContactMessage> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
-
     // Custom query for message statistics
     @Query("SELECT COUNT(c) FROM ContactMessage c WHERE c.createdAt BETWEEN :start AND :end")
     long countByCreatedAtBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     @Query("SELECT COUNT(c) FROM ContactMessage c WHERE c.isResponded = false AND c.createdAt BETWEEN :start AND :end")
     long countUnrespondedByCreatedAtBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // One-off backfill of the daily rollups: [day, count] and [createdAt, repliedAt]
+    @Query("SELECT CAST(c.createdAt AS LocalDate), COUNT(c) FROM ContactMessage c GROUP BY CAST(c.createdAt AS LocalDate)")
+    List<Object[]> countGroupedByCreatedDay();
+
+    @Query("SELECT c.createdAt, c.repliedAt FROM ContactMessage c WHERE c.repliedAt IS NOT NULL")
+    List<Object[]> findReplyTimes();
 }
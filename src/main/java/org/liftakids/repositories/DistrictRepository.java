@@ -1,11 +1,14 @@
 package org.liftakids.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.liftakids.entity.address.Districts;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -16,6 +19,7 @@ public interface DistrictRepository extends JpaRepository<Districts, Long> {
         @EntityGraph(attributePaths = {"division"})
         Optional<Districts> findWithDivisionByDistrictId(Long districtId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT d FROM Districts d WHERE d.division.divisionId = :divisionId")
     List<Districts> findByDivisionId(@Param("divisionId") Long divisionId);
 
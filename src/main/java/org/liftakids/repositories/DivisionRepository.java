@@ -1,12 +1,23 @@
 package org.liftakids.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.liftakids.entity.address.Divisions;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface DivisionRepository extends JpaRepository<Divisions,Long> {
+    // Location lists are cached in the L2 query cache. Only writes through this instance's Hibernate invalidate
+    // them; other instances and direct SQL show up after app.l2-cache.queries.ttl. With a replica the lookups
+    // run on the primary (PrimaryCacheFillAspect), a lagging copy would otherwise be cached as current
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Divisions> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT d FROM Divisions d ORDER BY d.divisionName")
     List<Divisions> findAllBasic();
 }
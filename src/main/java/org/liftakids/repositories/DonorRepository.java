@@ -1,6 +1,9 @@
 package org.liftakids.repositories;
 
+import org.liftakids.dto.donor.DonorResponseDto;
+import org.liftakids.dto.email.CampaignRecipientDto;
 import org.liftakids.entity.Donor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -30,6 +33,32 @@ public interface DonorRepository extends JpaRepository<Donor, Long> {
 
     List<Donor> findAll();
 
+    // Campaign recipient streams: keyset by donorId so each chunk is an index range scan
+    @Query("SELECT new org.liftakids.dto.email.CampaignRecipientDto(d.donorId, d.name, d.email) FROM Donor d " +
+            "WHERE d.email IS NOT NULL AND d.donorId > :afterId ORDER BY d.donorId ASC")
+    List<CampaignRecipientDto> findCampaignRecipients(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(d) FROM Donor d WHERE d.email IS NOT NULL")
+    long countCampaignRecipients();
+
+    // Same join as findDonorsByInstitution
+    @Query("SELECT DISTINCT new org.liftakids.dto.email.CampaignRecipientDto(d.donorId, d.name, d.email) " +
+            "FROM Donor d JOIN Sponsorship s ON d.donorId = s.donor.donorId " +
+            "WHERE s.student.institution.institutionsId = :institutionId AND d.email IS NOT NULL " +
+            "AND d.donorId > :afterId ORDER BY d.donorId ASC")
+    List<CampaignRecipientDto> findCampaignRecipientsByInstitution(@Param("institutionId") Long institutionId,
+                                                                   @Param("afterId") long afterId,
+                                                                   Pageable pageable);
+
+    @Query("SELECT COUNT(DISTINCT d.donorId) FROM Donor d JOIN Sponsorship s ON d.donorId = s.donor.donorId " +
+            "WHERE s.student.institution.institutionsId = :institutionId AND d.email IS NOT NULL")
+    long countCampaignRecipientsByInstitution(@Param("institutionId") Long institutionId);
+
+    // Slim rows for donor dropdowns, no sponsorship collections or password
+    @Query("SELECT new org.liftakids.dto.donor.DonorResponseDto(d.donorId, d.name, d.email, d.phone, d.address, " +
+            "d.type, d.status, d.preferredLocale, 0, 0) FROM Donor d ORDER BY d.name ASC")
+    List<DonorResponseDto> findAllDonorSummaries();
+
     // Optional: Find active donors
 //    @Query("SELECT d FROM Donor d WHERE d.active = true OR d.status = 'ACTIVE'")
 //    List<Donor> findAllActiveDonors();
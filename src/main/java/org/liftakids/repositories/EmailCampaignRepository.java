@@ -0,0 +1,52 @@
+package org.liftakids.repositories;
+
+import org.liftakids.entity.EmailCampaign;
+import org.liftakids.entity.enm.EmailCampaignStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmailCampaignRepository extends JpaRepository<EmailCampaign, Long> {
+
+    Page<EmailCampaign> findAllByOrderByIdDesc(Pageable pageable);
+
+    List<EmailCampaign> findByStatusInOrderByIdAsc(Collection<EmailCampaignStatus> statuses);
+
+    // Checked between chunks so a cancel from another request stops the worker
+    @Query("SELECT c.status FROM EmailCampaign c WHERE c.id = :id")
+    EmailCampaignStatus findStatusById(@Param("id") Long id);
+
+    // Status changes are conditional updates so the worker and a cancel request never overwrite each other
+    @Modifying
+    @Query("UPDATE EmailCampaign c SET c.status = :to, c.startedAt = COALESCE(c.startedAt, :at) " +
+            "WHERE c.id = :id AND c.status IN :from")
+    int start(@Param("id") Long id,
+              @Param("from") Collection<EmailCampaignStatus> from,
+              @Param("to") EmailCampaignStatus to,
+              @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("UPDATE EmailCampaign c SET c.status = :to, c.finishedAt = :at, " +
+            "c.lastError = COALESCE(:error, c.lastError) WHERE c.id = :id AND c.status IN :from")
+    int finish(@Param("id") Long id,
+               @Param("from") Collection<EmailCampaignStatus> from,
+               @Param("to") EmailCampaignStatus to,
+               @Param("at") LocalDateTime at,
+               @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE EmailCampaign c SET c.lastRecipientKey = :cursor, c.sentCount = c.sentCount + :sent, " +
+            "c.failedCount = c.failedCount + :failed, c.lastError = COALESCE(:error, c.lastError) WHERE c.id = :id")
+    int recordProgress(@Param("id") Long id,
+                       @Param("cursor") long cursor,
+                       @Param("sent") long sent,
+                       @Param("failed") long failed,
+                       @Param("error") String error);
+}
@@ -0,0 +1,7 @@
+package org.liftakids.repositories;
+
+import org.liftakids.entity.EmailDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EmailDailyStatsRepository extends JpaRepository<EmailDailyStats, Long> {
+}
@@ -1,5 +1,7 @@
 package org.liftakids.repositories;
 
+import org.liftakids.dto.email.CampaignRecipientDto;
+import org.liftakids.dto.institute.InstitutionDirectoryDto;
 import org.liftakids.entity.InstitutionType;
 import org.liftakids.entity.Institutions;
 import org.liftakids.entity.enm.InstitutionStatus;
@@ -31,9 +33,34 @@ public interface InstitutionRepository extends JpaRepository<Institutions, Long>
 //            "LEFT JOIN FETCH i.unionOrArea")
 //    Page<Institutions> findAllWithLocations(Pageable pageable);
 
+    // Public directory: one flat row per institution with the location names joined in, no entity graph
+    @Query(value = "SELECT new org.liftakids.dto.institute.InstitutionDirectoryDto(" +
+            "i.institutionsId, i.institutionName, i.type, i.status, i.isApproved, i.email, i.phone, " +
+            "i.teacherName, i.teacherDesignation, i.villageOrHouse, i.registrationDate, " +
+            "dv.divisionId, dv.divisionName, ds.districtId, ds.districtName, " +
+            "t.thanaId, t.thanaName, u.unionOrAreaId, u.unionOrAreaName) " +
+            "FROM Institutions i JOIN i.division dv JOIN i.district ds JOIN i.thana t JOIN i.unionOrArea u " +
+            "WHERE (:status IS NULL OR i.status = :status) AND (:type IS NULL OR i.type = :type)",
+            countQuery = "SELECT COUNT(i) FROM Institutions i " +
+                    "WHERE (:status IS NULL OR i.status = :status) AND (:type IS NULL OR i.type = :type)")
+    Page<InstitutionDirectoryDto> findDirectoryPage(@Param("status") InstitutionStatus status,
+                                                    @Param("type") InstitutionType type,
+                                                    Pageable pageable);
+
     List<Institutions> findByStatus(InstitutionStatus status);
+
+    // Campaign recipient stream, keyset by institutionsId
+    @Query("SELECT new org.liftakids.dto.email.CampaignRecipientDto(i.institutionsId, i.institutionName, i.email) " +
+            "FROM Institutions i WHERE i.status = :status AND i.email IS NOT NULL AND i.institutionsId > :afterId " +
+            "ORDER BY i.institutionsId ASC")
+    List<CampaignRecipientDto> findCampaignRecipients(@Param("status") InstitutionStatus status,
+                                                      @Param("afterId") long afterId,
+                                                      Pageable pageable);
+
+    long countByStatusAndEmailIsNotNull(InstitutionStatus status);
+
     boolean existsByEmail(String email);
-    List<Institutions> findByApprovedByTrue();
+    List<Institutions> findByIsApprovedTrue();
 
     List<Institutions> findByType(InstitutionType type);
     Optional<Institutions> findByInstitutionName(String name);
@@ -0,0 +1,7 @@
+package org.liftakids.repositories;
+
+import org.liftakids.entity.OcrJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OcrJobRepository extends JpaRepository<OcrJob, String> {
+}
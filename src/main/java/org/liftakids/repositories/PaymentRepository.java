@@ -1,5 +1,7 @@
 package org.liftakids.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.liftakids.dto.payment.PaymentResponseDto;
 import org.liftakids.entity.Payment;
 import org.liftakids.entity.PaymentStatus;
@@ -9,9 +11,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     List<Payment> findBySponsorshipId(Long sponsorshipId);
@@ -76,9 +80,20 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
             @Param("institutionId") Long institutionId,
             @Param("status") PaymentStatus status);
 
+    // Dashboard counters: [status, count, sum(amount)]
+    @Query("SELECT p.status, COUNT(p), COALESCE(SUM(p.amount), 0) FROM Payment p GROUP BY p.status")
+    List<Object[]> countAndSumGroupedByStatus();
+
     // PaymentRepository.java - query যোগ করুন
     @Query("SELECT p FROM Payment p WHERE p.sponsorship.student.studentId = :studentId AND p.status = :status ORDER BY p.paymentDate DESC")
     List<PaymentResponseDto> findBySponsorshipStudentStudentIdAndStatus(
             @Param("studentId") Long studentId,
             @Param("status") PaymentStatus status);
+
+    // Referenced storage objects for the orphan GC; must be consumed inside a transaction
+    @Query("SELECT p.receiptUrl FROM Payment p WHERE p.receiptUrl IS NOT NULL")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<String> streamReceiptUrls();
+
+    long countByReceiptUrlIsNotNull();
 }
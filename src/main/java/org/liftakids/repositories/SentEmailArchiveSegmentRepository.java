@@ -0,0 +1,19 @@
+package org.liftakids.repositories;
+
+import org.liftakids.entity.SentEmailArchiveSegment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SentEmailArchiveSegmentRepository extends JpaRepository<SentEmailArchiveSegment, Long> {
+
+    @Query("SELECT s FROM SentEmailArchiveSegment s WHERE :emailId BETWEEN s.firstEmailId AND s.lastEmailId")
+    List<SentEmailArchiveSegment> findContaining(@Param("emailId") Long emailId);
+
+    // Newest segments first, so recent history is read before old
+    @Query("SELECT s FROM SentEmailArchiveSegment s JOIN s.recipients r WHERE r = :email ORDER BY s.lastEmailId DESC")
+    List<SentEmailArchiveSegment> findByRecipient(@Param("email") String email, Pageable limit);
+}
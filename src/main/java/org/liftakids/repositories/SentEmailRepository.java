@@ -1,6 +1,9 @@
 package org.liftakids.repositories;
 
+import org.liftakids.dto.email.SentEmailSummaryDto;
 import org.liftakids.entity.SentEmail;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,25 +13,39 @@ import java.util.List;
 
 public interface SentEmailRepository extends JpaRepository<SentEmail, Long> {
 
-    // Find all sent emails ordered by sent date (newest first)
-    List<SentEmail> findAllByOrderBySentAtDesc();
-
-    // Find emails by recipient
-    List<SentEmail> findByToEmailOrderBySentAtDesc(String toEmail);
-
-    // Find emails by date range
-    List<SentEmail> findBySentAtBetweenOrderBySentAtDesc(LocalDateTime start, LocalDateTime end);
-
-    // Find successful emails
-    List<SentEmail> findBySuccessTrueOrderBySentAtDesc();
-
-    // Find failed emails
-    List<SentEmail> findBySuccessFalseOrderBySentAtDesc();
+    // Audit log page without bodies, newest first
+    @Query(value = "SELECT new org.liftakids.dto.email.SentEmailSummaryDto(e.id, e.toEmail, e.subject, e.senderName, " +
+            "e.template, e.sentAt, e.success, e.errorMessage) FROM SentEmail e " +
+            "WHERE (:recipient IS NULL OR e.toEmail = :recipient) " +
+            "AND (:success IS NULL OR e.success = :success) " +
+            "AND (:from IS NULL OR e.sentAt >= :from) " +
+            "AND (:to IS NULL OR e.sentAt < :to) " +
+            "ORDER BY e.sentAt DESC, e.id DESC",
+            countQuery = "SELECT COUNT(e) FROM SentEmail e " +
+                    "WHERE (:recipient IS NULL OR e.toEmail = :recipient) " +
+                    "AND (:success IS NULL OR e.success = :success) " +
+                    "AND (:from IS NULL OR e.sentAt >= :from) " +
+                    "AND (:to IS NULL OR e.sentAt < :to)")
+    Page<SentEmailSummaryDto> searchSummaries(@Param("recipient") String recipient,
+                                              @Param("success") Boolean success,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to,
+                                              Pageable pageable);
+
+    // Archival: oldest rows first, in id order so a segment covers a contiguous id range
+    @Query("SELECT e FROM SentEmail e WHERE e.sentAt < :cutoff ORDER BY e.id")
+    List<SentEmail> findArchivableBefore(@Param("cutoff") LocalDateTime cutoff, Pageable limit);
 
     // Count emails by date range
     @Query("SELECT COUNT(se) FROM SentEmail se WHERE se.sentAt BETWEEN :start AND :end")
     long countBySentAtBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
-    // Find recent emails with limit
-    List<SentEmail> findTop10ByOrderBySentAtDesc();
-}
\ No newline at end of file
+    @Query("SELECT new org.liftakids.dto.email.SentEmailSummaryDto(e.id, e.toEmail, e.subject, e.senderName, " +
+            "e.template, e.sentAt, e.success, e.errorMessage) FROM SentEmail e ORDER BY e.sentAt DESC, e.id DESC")
+    List<SentEmailSummaryDto> findRecentSummaries(Pageable limit);
+
+    // One-off backfill of the daily rollups: [day, template, success, count]
+    @Query("SELECT CAST(e.sentAt AS LocalDate), e.template, e.success, COUNT(e) FROM SentEmail e " +
+            "GROUP BY CAST(e.sentAt AS LocalDate), e.template, e.success")
+    List<Object[]> countGroupedByDayTemplateAndSuccess();
+}
@@ -123,6 +123,15 @@ public interface SponsorshipRepository extends JpaRepository<Sponsorship, Long>
             "WHERE i.institutionsId = :institutionId")
     List<Sponsorship> findByStudentInstitutionId(@Param("institutionId") Long institutionId);
 
+    // Grouped counters: [status, count]
+    @Query("SELECT s.status, COUNT(s) FROM Sponsorship s GROUP BY s.status")
+    List<Object[]> countGroupedByStatus();
+
+    @Query("SELECT s.status, COUNT(s) FROM Sponsorship s " +
+            "WHERE s.student.institution.institutionsId = :institutionId " +
+            "GROUP BY s.status")
+    List<Object[]> countGroupedByStatusForInstitution(@Param("institutionId") Long institutionId);
+
     List<Sponsorship> findByStudentStudentIdAndStatusAndSponsorStartDateAfter(
             Long studentId,
             SponsorshipStatus status,
@@ -1,20 +1,32 @@
 package org.liftakids.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.liftakids.entity.Institutions;
 import org.liftakids.entity.SponsorshipStatus;
 import org.liftakids.entity.Student;
+import org.liftakids.entity.StudentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface StudentRepository extends JpaRepository<Student,Long> {
 
     Page<Student> findByInstitution_InstitutionsId(Long institutionId, Pageable pageable);
 
+    // Validator for conditional GETs of a single student
+    @Query("SELECT s.lastUpdatedDate FROM Student s WHERE s.studentId = :studentId")
+    Optional<LocalDateTime> findLastUpdatedDateById(@Param("studentId") Long studentId);
+
     List<Student> findByInstitution(Institutions institution);
     @Query("SELECT s FROM Student s WHERE " +
             "(:studentName IS NULL OR LOWER(s.studentName) LIKE LOWER(CONCAT('%', :studentName, '%'))) AND " +
@@ -30,9 +42,15 @@ public interface StudentRepository extends JpaRepository<Student,Long> {
     @Query("SELECT s FROM Student s LEFT JOIN FETCH s.currentSponsorships cs LEFT JOIN FETCH cs.donor LEFT JOIN FETCH s.institution")
     List<Student> findAllWithSponsorships();
 
-    @Query(value = "SELECT s FROM Student s LEFT JOIN FETCH s.currentSponsorships cs LEFT JOIN FETCH cs.donor LEFT JOIN FETCH s.institution",
+    // Paging a collection fetch join makes Hibernate paginate in memory (HHH000104),
+    // so the student directory pages ids first and then fetches the graph for that page only.
+    @Query(value = "SELECT s.studentId FROM Student s",
             countQuery = "SELECT COUNT(s) FROM Student s")
-    Page<Student> findAllWithSponsorships(Pageable pageable);
+    Page<Long> findStudentIds(Pageable pageable);
+
+    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.currentSponsorships cs LEFT JOIN FETCH cs.donor " +
+            "LEFT JOIN FETCH s.institution WHERE s.studentId IN :ids")
+    List<Student> findAllWithSponsorshipsByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT s FROM Student s WHERE " +
             "s.institution.institutionsId = :institutionId " +
@@ -54,6 +72,15 @@ public interface StudentRepository extends JpaRepository<Student,Long> {
     @Query(value = "SELECT * FROM student s WHERE s.is_sponsored = false AND s.financial_rank = 'Urgent' AND s.status = 'ACTIVE' ORDER BY s.created_date DESC LIMIT :limit", nativeQuery = true)
     List<Student> findTopUnsponsoredUrgentStudents(@Param("limit") int limit);
 
+    // Dashboard counters: [status, isSponsored, count]
+    @Query("SELECT s.status, s.isSponsored, COUNT(s) FROM Student s GROUP BY s.status, s.isSponsored")
+    List<Object[]> countGroupedByStatusAndSponsored();
+
+    // Candidates for the in-memory ranking feed, see StudentRankingFeedServiceImpl
+    @Query("SELECT DISTINCT s FROM Student s LEFT JOIN FETCH s.institution LEFT JOIN FETCH s.currentSponsorships " +
+            "WHERE s.status = :status")
+    List<Student> findFeedCandidates(@Param("status") StudentStatus status);
+
 //    @Query("SELECT s FROM Student s WHERE s.sponsored = false AND s.financialRank = 'URGENT' AND s.status = 'ACTIVE' ORDER BY s.createdDate DESC")
 //    List<Student> findUnsponsoredUrgentStudents(Pageable pageable);
 
@@ -76,4 +103,11 @@ public interface StudentRepository extends JpaRepository<Student,Long> {
     List<Student> findStudentsWithPendingPaymentSponsorships(
             @Param("status") SponsorshipStatus status);
 
+
+    // Referenced storage objects for the orphan GC; must be consumed inside a transaction
+    @Query("SELECT s.photoUrl, s.photoCardUrl, s.photoThumbUrl FROM Student s WHERE s.photoUrl IS NOT NULL")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Object[]> streamPhotoUrls();
+
+    long countByPhotoUrlIsNotNull();
 }
@@ -1,5 +1,7 @@
 package org.liftakids.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.liftakids.entity.address.Districts;
 import org.liftakids.entity.address.Thanas;
 import org.springframework.data.domain.Page;
@@ -7,6 +9,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -14,6 +17,7 @@ import java.util.Optional;
 
 public interface ThanaRepository extends JpaRepository<Thanas,Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT t FROM Thanas t WHERE t.district.districtId = :districtId")
     List<Thanas> findByDistrictId(Long districtId);
 
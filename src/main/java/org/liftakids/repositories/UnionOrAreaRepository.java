@@ -1,11 +1,14 @@
 package org.liftakids.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.liftakids.entity.address.UnionOrArea;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -17,6 +20,7 @@ public interface UnionOrAreaRepository extends JpaRepository<UnionOrArea, Long>
     @EntityGraph(attributePaths = {"thana", "thana.district", "thana.district.division"})
     List<UnionOrArea> findByThana_ThanaId(Long thanaId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT u FROM UnionOrArea u WHERE u.thana.thanaId = :thanaId")
     List<UnionOrArea> findByThanaId(@Param("thanaId") Long thanaId);
 
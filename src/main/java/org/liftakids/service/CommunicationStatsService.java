@@ -0,0 +1,19 @@
+package org.liftakids.service;
+
+import org.liftakids.dto.dashboard.ContactStatsDto;
+import org.liftakids.dto.dashboard.SentEmailStatsDto;
+import org.liftakids.entity.SentEmail;
+
+import java.time.LocalDateTime;
+
+public interface CommunicationStatsService {
+    void recordContactReceived(LocalDateTime createdAt);
+    void recordContactReplied(LocalDateTime createdAt, LocalDateTime repliedAt);
+    void recordContactDeleted(LocalDateTime createdAt, LocalDateTime repliedAt);
+    void recordEmail(SentEmail sentEmail);
+
+    ContactStatsDto getContactStats(int days);
+    SentEmailStatsDto getSentEmailStats(int days);
+
+    void flush();
+}
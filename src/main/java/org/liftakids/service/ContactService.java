@@ -1,9 +1,13 @@
 package org.liftakids.service;
 
+import org.liftakids.dto.contact.ContactInboxFilter;
+import org.liftakids.dto.contact.ContactInboxSliceDTO;
+import org.liftakids.dto.contact.ContactMessageSummaryDTO;
 import org.liftakids.dto.contact.ContactReplyDTO;
 import org.liftakids.dto.contact.ContactRequestDTO;
 import org.liftakids.entity.ContactMessage;
 import org.liftakids.service.impl.ContactServiceImpl;
+import org.springframework.data.domain.Page;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,23 +17,18 @@ public interface ContactService {
     ContactMessage saveMessage(ContactRequestDTO contactRequest);
  ContactMessage saveMessageEntity(ContactMessage message);
    public void markAsRead(Long id);
-    // Get all messages
-    List<ContactMessage> getAllMessages();
- List<ContactMessage> getTodayMessages();
+    // Inbox page without bodies, sorted and filtered in the database
+    Page<ContactMessageSummaryDTO> searchMessages(ContactInboxFilter filter, int page, int size,
+                                                  String sortBy, String sortDir);
+
+    // Keyset page of the inbox, newest first; cursor is null for the first page
+    ContactInboxSliceDTO getMessagesBefore(ContactInboxFilter filter, String cursor, int size);
     // Get message by ID
     Optional<ContactMessage> getMessageById(Long id);
     long getUnreadCount();
     // Reply to message
     ContactMessage replyToMessage(Long id, ContactReplyDTO replyRequest, String username);
 
-    // Get unresponded messages
-    List<ContactMessage> getUnrespondedMessages();
-
-    // Get responded messages
-    List<ContactMessage> getRespondedMessages();
-
-    // Get message history by email
-    List<ContactMessage> getMessageHistory(String email);
     // Get message statistics
     ContactServiceImpl.MessageStats getMessageStats();
 
@@ -0,0 +1,9 @@
+package org.liftakids.service;
+
+import org.liftakids.dto.dashboard.DashboardStatsDto;
+
+public interface DashboardStatsService {
+    DashboardStatsDto getStats();
+    void markDirty();
+    void refresh();
+}
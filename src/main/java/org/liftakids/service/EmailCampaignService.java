@@ -0,0 +1,12 @@
+package org.liftakids.service;
+
+import org.liftakids.dto.email.EmailCampaignDto;
+import org.liftakids.dto.email.EmailCampaignRequestDto;
+import org.springframework.data.domain.Page;
+
+public interface EmailCampaignService {
+    EmailCampaignDto startCampaign(EmailCampaignRequestDto request, String createdBy);
+    EmailCampaignDto getCampaign(Long id);
+    Page<EmailCampaignDto> getCampaigns(int page, int size);
+    EmailCampaignDto cancelCampaign(Long id);
+}
@@ -1,16 +1,18 @@
 package org.liftakids.service;
 
+import org.liftakids.service.Util.R2UploadEngine;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class FileStorageService {
@@ -18,6 +20,9 @@ public class FileStorageService {
     @Autowired
     private S3Client s3Client;
 
+    @Autowired
+    private R2UploadEngine uploadEngine;
+
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
@@ -25,6 +30,18 @@ public class FileStorageService {
     private String baseUrl;
 
     public String uploadFile(MultipartFile file, String folder) throws IOException {
+        try {
+            return uploadFileAsync(file, folder).join();
+        } catch (CompletionException e) {
+            throw new IOException("Failed to upload file to storage: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Validates and streams the file to R2. The multipart body is fully read before this returns;
+     * the future completes once the storage write has finished.
+     */
+    public CompletableFuture<String> uploadFileAsync(MultipartFile file, String folder) throws IOException {
         // Validate file
         if (file.isEmpty()) {
             throw new IllegalArgumentException("File is empty");
@@ -47,21 +64,10 @@ public class FileStorageService {
         // Generate unique file name
         String fileName = generateFileName(folder, fileExtension);
 
-        // Upload to S3/R2
-        try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileName)
-                    .contentType(file.getContentType())
-                    .contentLength(file.getSize())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
-
-            // Return file URL
-            return baseUrl + "/" + fileName;
-        } catch (Exception e) {
-            throw new IOException("Failed to upload file to storage: " + e.getMessage(), e);
+        // Stream to S3/R2
+        try (InputStream input = file.getInputStream()) {
+            return uploadEngine.upload(fileName, file.getContentType(), input, file.getSize())
+                    .thenApply(ignored -> baseUrl + "/" + fileName);
         }
     }
 
@@ -2,6 +2,8 @@ package org.liftakids.service;
 
 import org.liftakids.dto.institute.*;
 import org.liftakids.dto.student.StudentResponseDto;
+import org.liftakids.entity.InstitutionType;
+import org.liftakids.entity.enm.InstitutionStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -16,6 +18,8 @@ public interface InstitutionService {
     StatusStatisticsDto getStatusStatistics();
     InstitutionResponseDto getInstitutionById(Long id);
     List<InstitutionResponseDto> getAllInstitutionsList();
+    Page<InstitutionDirectoryDto> getAllInstitutionsList(Pageable pageable);
+    Page<InstitutionDirectoryDto> getInstitutionDirectory(InstitutionStatus status, InstitutionType type, Pageable pageable);
     InstitutionResponseDto updateInstitution(Long id, UpdateInstitutionDto requestDto);
 
     void deleteInstitution(Long id);
@@ -23,10 +27,12 @@ public interface InstitutionService {
     InstitutionResponseDto approveInstitution(Long institutionId, Long adminId, String approvalNotes);
 
     List<InstitutionResponseDto> getInstitutionsByType(String type);
+    Page<InstitutionDirectoryDto> getInstitutionsByType(String type, Pageable pageable);
     InstitutionResponseDto getByIdOrName(String value);
     String getInstitutionNameById(Long id);
 
     List<InstitutionResponseDto> getApprovedInstitutions();
+    Page<InstitutionDirectoryDto> getApprovedInstitutions(Pageable pageable);
     InstitutionResponseDto  suspendInstitution(Long institutionId, Long adminId, String suspensionReason);
     InstitutionResponseDto rejectInstitution(Long institutionId, Long adminId, String rejectionReason);
     InstitutionResponseDto  activateInstitution(Long institutionId, Long adminId);
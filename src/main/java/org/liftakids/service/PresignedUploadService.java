@@ -0,0 +1,11 @@
+package org.liftakids.service;
+
+import org.liftakids.dto.upload.PresignedUploadRequestDto;
+import org.liftakids.dto.upload.PresignedUploadResponseDto;
+import org.liftakids.dto.upload.UploadCompletionRequestDto;
+import org.liftakids.dto.upload.UploadCompletionResponseDto;
+
+public interface PresignedUploadService {
+    PresignedUploadResponseDto createUpload(PresignedUploadRequestDto request);
+    UploadCompletionResponseDto completeUpload(UploadCompletionRequestDto request);
+}
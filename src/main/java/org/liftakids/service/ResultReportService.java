@@ -1,12 +1,14 @@
 package org.liftakids.service;
 
+import org.liftakids.dto.resultReport.OcrJobResponseDto;
 import org.liftakids.dto.resultReport.ResultReportRequestDto;
 import org.liftakids.dto.resultReport.ResultReportResponseDto;
 
 import java.util.List;
 
 public interface ResultReportService {
-    ResultReportResponseDto uploadResult(ResultReportRequestDto dto);
+    OcrJobResponseDto uploadResult(ResultReportRequestDto dto);
+    OcrJobResponseDto getJob(String jobId);
     List<ResultReportResponseDto> getResultsByStudentId(Long studentId);
 }
 
@@ -1,5 +1,8 @@
 package org.liftakids.service;
 
+import org.liftakids.service.Util.R2UploadEngine;
+import org.liftakids.service.Util.StorageDeleteQueue;
+import org.liftakids.service.Util.StudentPhotoProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -8,7 +11,11 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class S3Service {
@@ -16,6 +23,15 @@ public class S3Service {
     @Autowired
     private S3Client s3Client;
 
+    @Autowired
+    private R2UploadEngine uploadEngine;
+
+    @Autowired
+    private StudentPhotoProcessor photoProcessor;
+
+    @Autowired
+    private StorageDeleteQueue deleteQueue;
+
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
     @Value("${cloud.r2.public-url}")
@@ -29,20 +45,46 @@ public class S3Service {
         // Generate a unique file name
         String fileName = studentName + "_" + UUID.randomUUID() + ".jpg";
 
-        // Upload the file to R2
-        s3Client.putObject(PutObjectRequest.builder()
-                        .bucket(bucketName)
-                        .key(fileName)
-                        .build(),
-                software.amazon.awssdk.core.sync.RequestBody.fromInputStream(
-                        file.getInputStream(), file.getSize())
-        );
+        // Stream the file to R2
+        try (InputStream input = file.getInputStream()) {
+            uploadEngine.upload(fileName, file.getContentType(), input, file.getSize()).join();
+        } catch (CompletionException e) {
+            throw new IOException("Failed to upload file to storage: " + e.getCause().getMessage(), e.getCause());
+        }
 
         // Return the public R2.dev file URL
         return publicBucketUrl + "/" + fileName;
     }
 
 
+    /**
+     * Decodes the photo once and stores full, card and thumbnail JPEG variants (EXIF stripped).
+     */
+    public StudentPhotoProcessor.Variants uploadStudentPhoto(MultipartFile file, String studentName) throws IOException {
+        if (file == null || file.isEmpty()) {
+            return null;
+        }
+        return photoProcessor.process(file.getBytes(), studentName);
+    }
+
+    /**
+     * Queues the photo and its variants for deletion once the current transaction commits.
+     */
+    public void deleteStudentPhoto(String... variantUrls) {
+        List<String> urls = new ArrayList<>();
+        for (String url : variantUrls) {
+            if (url == null || url.isEmpty()) {
+                continue;
+            }
+            urls.add(url);
+            // WebP siblings exist only when a WebP writer was available at upload time
+            if (url.endsWith(".jpg") && url.contains("/students/")) {
+                urls.add(url.substring(0, url.length() - 4) + ".webp");
+            }
+        }
+        deleteQueue.enqueueUrls(urls.toArray(new String[0]));
+    }
+
     public boolean deleteFile(String fileUrl) {
         if (fileUrl == null || fileUrl.isEmpty()) {
             return false;
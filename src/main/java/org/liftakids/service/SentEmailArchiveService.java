@@ -0,0 +1,14 @@
+package org.liftakids.service;
+
+import org.liftakids.dto.email.SentEmailArchiveReportDto;
+import org.liftakids.dto.email.SentEmailSummaryDto;
+import org.liftakids.entity.SentEmail;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SentEmailArchiveService {
+    SentEmailArchiveReportDto archiveOldEmails();
+    Optional<SentEmail> findArchived(Long id);
+    List<SentEmailSummaryDto> findArchivedByRecipient(String email);
+}
@@ -1,17 +1,19 @@
 package org.liftakids.service;
 
+import org.liftakids.dto.email.SentEmailSummaryDto;
 import org.liftakids.entity.SentEmail;
+import org.springframework.data.domain.Page;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface SentEmailService {
     SentEmail saveSentEmail(SentEmail sentEmail);
-    List<SentEmail> getAllSentEmails();
+    Page<SentEmailSummaryDto> searchSentEmails(String recipient, Boolean success, LocalDateTime from,
+                                               LocalDateTime to, int page, int size);
     Optional<SentEmail> getSentEmailById(Long id);
-    List<SentEmail> getSentEmailsByRecipient(String email);
-    List<SentEmail> getRecentSentEmails();
-    List<SentEmail> getTodaySentEmails();
+    List<SentEmailSummaryDto> getRecentSentEmails();
     long getTotalSentEmailsCount();
     long getTodaySentEmailsCount();
 }
@@ -0,0 +1,7 @@
+package org.liftakids.service;
+
+import org.liftakids.dto.storage.StorageGcReportDto;
+
+public interface StorageGcService {
+    StorageGcReportDto collectOrphans();
+}
@@ -0,0 +1,17 @@
+package org.liftakids.service;
+
+import org.liftakids.dto.student.StudentResponseDto;
+import org.liftakids.entity.FinancialRank;
+import org.liftakids.entity.Student;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface StudentRankingFeedService {
+    List<StudentResponseDto> getTopUnsponsoredUrgentStudents(int limit);
+    Page<StudentResponseDto> discoverStudents(FinancialRank financialRank, Pageable pageable);
+    void refreshStudent(Student student);
+    void removeStudent(Long studentId);
+    void rebuild();
+}
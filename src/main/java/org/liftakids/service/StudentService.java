@@ -3,6 +3,7 @@ package org.liftakids.service;
 import org.liftakids.dto.student.StudentRequestDto;
 import org.liftakids.dto.student.StudentResponseDto;
 import org.liftakids.dto.student.StudentUpdateRequestDTO;
+import org.liftakids.entity.FinancialRank;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
@@ -31,4 +32,5 @@ public interface StudentService {
     List<StudentResponseDto> getStudentPendingSponsorships(Long studentId, LocalDate fromDate);
     public boolean hasPendingSponsorships(Long studentId, LocalDate fromDate);
     List<StudentResponseDto> getTopUnsponsoredUrgentStudents(int limit);
+    Page<StudentResponseDto> discoverStudents(FinancialRank financialRank, Pageable pageable);
 }
@@ -0,0 +1,44 @@
+package org.liftakids.service.Util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Runs in-memory side effects (feeds, counters) only once the surrounding transaction has committed,
+// or immediately when called outside a transaction.
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Runs committed after a commit and rolledBack after a rollback, a failed commit included;
+    // outside a transaction there is nothing left to fail, so committed runs immediately.
+    public static void run(Runnable committed, Runnable rolledBack) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        committed.run();
+                    } else {
+                        rolledBack.run();
+                    }
+                }
+            });
+        } else {
+            committed.run();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package org.liftakids.service.Util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.exception.ResourceNotFoundException;
+import org.liftakids.monitoring.DomainMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through disk cache for storage objects, bounded by total bytes and evicted least-recently-used first.
+ * Objects are streamed from storage straight to a file, never buffered on heap, and concurrent misses for
+ * the same key share one download.
+ * <p>
+ * Callers hold a {@link Lease} while they serve a file. An evicted or invalidated file is deleted only once
+ * its last lease is closed and the grace period has passed; the grace covers Tomcat opening a sendfile
+ * response after the handler (and its lease) has returned. Retired files awaiting deletion are not counted
+ * against the byte budget.
+ */
+@Component
+@Slf4j
+public class AssetDiskCache {
+
+    public record CachedAsset(String key, Path file, long size, String eTag, String contentType, Instant lastModified) {
+    }
+
+    /** Keeps the asset's file on disk until closed. */
+    public final class Lease implements AutoCloseable {
+        private final Entry entry;
+        private boolean closed;
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        public CachedAsset asset() {
+            return entry.asset;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(entry);
+            }
+        }
+    }
+
+    // All mutable fields guarded by the cache monitor
+    private static final class Entry {
+        private final CachedAsset asset;
+        private int leases;
+        private long idleSince;
+        private boolean deleted;
+
+        private Entry(CachedAsset asset) {
+            this.asset = asset;
+        }
+    }
+
+    private final S3Client s3Client;
+    private final DomainMetrics domainMetrics;
+    private final String bucketName;
+    private final Path directory;
+    private final long maxBytes;
+    private final long graceMillis;
+
+    // Access-ordered; guarded by "this"
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    // Evicted entries whose files are still leased or inside the grace period; guarded by "this"
+    private final List<Entry> retired = new ArrayList<>();
+    private final ConcurrentHashMap<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    // File names are unique per download so a re-fetched key never overwrites a file that is being served
+    private final AtomicLong fileSequence = new AtomicLong();
+    private long currentBytes;
+
+    public AssetDiskCache(S3Client s3Client,
+                          DomainMetrics domainMetrics,
+                          @Value("${cloud.aws.s3.bucket}") String bucketName,
+                          @Value("${app.assets.cache-dir:${java.io.tmpdir}/liftakids-assets}") String directory,
+                          @Value("${app.assets.cache-max-bytes:536870912}") long maxBytes,
+                          @Value("${app.assets.evict-grace:30s}") Duration evictGrace) throws IOException {
+        this.s3Client = s3Client;
+        this.domainMetrics = domainMetrics;
+        this.bucketName = bucketName;
+        this.directory = Path.of(directory);
+        this.maxBytes = maxBytes;
+        this.graceMillis = evictGrace.toMillis();
+
+        // Start empty; index is in memory only, so leftovers from a previous run cannot be trusted
+        FileSystemUtils.deleteRecursively(this.directory);
+        Files.createDirectories(this.directory);
+    }
+
+    /** Returns the cached asset, downloading it on a miss. The caller must close the lease once done with the file. */
+    public Lease get(String key) {
+        while (true) {
+            synchronized (this) {
+                Entry cached = entries.get(key);
+                if (cached != null && Files.exists(cached.asset.file())) {
+                    return lease(cached);
+                }
+            }
+
+            CompletableFuture<Entry> download = new CompletableFuture<>();
+            CompletableFuture<Entry> existing = inFlight.putIfAbsent(key, download);
+            if (existing == null) {
+                try {
+                    // Admitted with a lease already held for this caller
+                    Entry entry = fetch(key);
+                    download.complete(entry);
+                    return new Lease(entry);
+                } catch (RuntimeException e) {
+                    download.completeExceptionally(e);
+                    throw e;
+                } finally {
+                    inFlight.remove(key);
+                }
+            }
+
+            Entry shared = join(existing);
+            synchronized (this) {
+                if (!shared.deleted) {
+                    return lease(shared);
+                }
+            }
+            // Evicted and deleted before this caller could pin it; look it up again
+        }
+    }
+
+    public synchronized void invalidate(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            currentBytes -= removed.asset.size();
+            retire(removed);
+        }
+    }
+
+    synchronized long cachedBytes() {
+        return currentBytes;
+    }
+
+    private Entry fetch(String key) {
+        Path target = directory.resolve(fileName(key) + "-" + fileSequence.incrementAndGet());
+        Path temp = directory.resolve(target.getFileName() + ".part");
+        try {
+            GetObjectResponse response = s3Client.getObject(
+                    GetObjectRequest.builder().bucket(bucketName).key(key).build(),
+                    ResponseTransformer.toFile(temp));
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+            CachedAsset asset = new CachedAsset(key, target, Files.size(target), response.eTag(),
+                    response.contentType(), response.lastModified());
+            domainMetrics.storageBytes("download", asset.size());
+            return admit(new Entry(asset));
+        } catch (NoSuchKeyException e) {
+            deleteQuietly(temp);
+            throw new ResourceNotFoundException("Asset not found: " + key);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException("Failed to cache asset " + key, e);
+        }
+    }
+
+    private synchronized Entry admit(Entry entry) {
+        entry.leases = 1;
+        Entry previous = entries.put(entry.asset.key(), entry);
+        if (previous != null) {
+            currentBytes -= previous.asset.size();
+            retire(previous);
+        }
+        currentBytes += entry.asset.size();
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            Entry victim = eldest.next().getValue();
+            if (victim == entry) {
+                // Just admitted and larger than the whole budget; it goes with the next admission
+                continue;
+            }
+            eldest.remove();
+            currentBytes -= victim.asset.size();
+            retire(victim);
+        }
+        return entry;
+    }
+
+    private synchronized Lease lease(Entry entry) {
+        entry.leases++;
+        return new Lease(entry);
+    }
+
+    private synchronized void release(Entry entry) {
+        entry.leases--;
+        if (entry.leases == 0) {
+            entry.idleSince = System.currentTimeMillis();
+        }
+        sweepRetired();
+    }
+
+    // Caller holds the monitor
+    private void retire(Entry entry) {
+        retired.add(entry);
+        sweepRetired();
+    }
+
+    // Caller holds the monitor
+    private void sweepRetired() {
+        long now = System.currentTimeMillis();
+        Iterator<Entry> candidates = retired.iterator();
+        while (candidates.hasNext()) {
+            Entry entry = candidates.next();
+            if (entry.leases == 0 && now - entry.idleSince >= graceMillis) {
+                candidates.remove();
+                entry.deleted = true;
+                deleteQuietly(entry.asset.file());
+            }
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Could not delete cached asset {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Entry join(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private static String fileName(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
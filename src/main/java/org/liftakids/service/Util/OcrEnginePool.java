@@ -0,0 +1,199 @@
+package org.liftakids.service.Util;
+
+import com.recognition.software.jdeskew.ImageDeskew;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.tess4j.Tesseract;
+import net.sourceforge.tess4j.TesseractException;
+import net.sourceforge.tess4j.util.ImageHelper;
+import net.sourceforge.tess4j.util.LoadLibs;
+import org.liftakids.monitoring.DomainMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of configured Tesseract engines with a matching worker pool (one per core by default).
+ * Images are decoded and cleaned up in memory (grayscale, deskew, Otsu binarization) and never written to disk.
+ * Traineddata is extracted once from the classpath so it also works when running from the jar.
+ */
+@Component
+@Slf4j
+public class OcrEnginePool {
+
+    private static final double MIN_DESKEW_ANGLE = 0.05d;
+
+    private final BlockingQueue<Tesseract> engines;
+    private final ThreadPoolExecutor executor;
+    private final DomainMetrics domainMetrics;
+
+    public OcrEnginePool(DomainMetrics domainMetrics,
+                         @Value("${app.ocr.pool-size:0}") int poolSize,
+                         @Value("${app.ocr.queue-capacity:50}") int queueCapacity,
+                         @Value("${app.ocr.language:eng}") String language) {
+        this.domainMetrics = domainMetrics;
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        File tessData = LoadLibs.extractTessResources("tessdata");
+
+        this.engines = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            Tesseract tesseract = new Tesseract();
+            tesseract.setDatapath(tessData.getAbsolutePath());
+            tesseract.setLanguage(language);
+            engines.add(tesseract);
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ocr-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        log.info("OCR engine pool ready: {} engines, queue capacity {}, tessdata {}", size, queueCapacity, tessData);
+    }
+
+    /**
+     * Queues an OCR task; {@code onStart} runs on the worker right before the image is processed.
+     * Throws {@link RejectedExecutionException} when the queue is full.
+     */
+    public CompletableFuture<String> recognize(byte[] imageBytes, Runnable onStart) {
+        return CompletableFuture.supplyAsync(() -> {
+            onStart.run();
+            return doRecognize(imageBytes);
+        }, executor);
+    }
+
+    private String doRecognize(byte[] imageBytes) {
+        long started = System.nanoTime();
+        boolean success = false;
+        Tesseract tesseract = null;
+        try {
+            BufferedImage image = preprocess(decode(imageBytes));
+            tesseract = engines.take();
+            String text = tesseract.doOCR(image);
+            success = true;
+            return text;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException("OCR interrupted", e);
+        } catch (TesseractException e) {
+            throw new CompletionException("Failed to extract text", e);
+        } finally {
+            if (tesseract != null) {
+                engines.offer(tesseract);
+            }
+            domainMetrics.ocrCompleted(System.nanoTime() - started, success);
+        }
+    }
+
+    private BufferedImage decode(byte[] imageBytes) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+            if (image == null) {
+                throw new IllegalArgumentException("Unsupported image format");
+            }
+            return image;
+        } catch (IOException e) {
+            throw new CompletionException("Failed to read image", e);
+        }
+    }
+
+    BufferedImage preprocess(BufferedImage source) {
+        BufferedImage gray = toGrayscale(source);
+
+        double skewAngle = new ImageDeskew(gray).getSkewAngle();
+        if (Math.abs(skewAngle) > MIN_DESKEW_ANGLE) {
+            gray = toGrayscale(ImageHelper.rotateImage(gray, -skewAngle));
+        }
+
+        return binarize(gray);
+    }
+
+    private BufferedImage toGrayscale(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_BYTE_GRAY) {
+            return source;
+        }
+        BufferedImage gray = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = gray.createGraphics();
+        graphics.drawImage(source, 0, 0, null);
+        graphics.dispose();
+        return gray;
+    }
+
+    // Global Otsu threshold, works well for printed result sheets photographed under uneven light
+    private BufferedImage binarize(BufferedImage gray) {
+        WritableRaster raster = gray.getRaster();
+        int width = gray.getWidth();
+        int height = gray.getHeight();
+        int[] pixels = raster.getPixels(0, 0, width, height, (int[]) null);
+
+        int[] histogram = new int[256];
+        for (int pixel : pixels) {
+            histogram[pixel]++;
+        }
+        int threshold = otsuThreshold(histogram, pixels.length);
+
+        BufferedImage binary = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+        WritableRaster out = binary.getRaster();
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            int offset = y * width;
+            for (int x = 0; x < width; x++) {
+                row[x] = pixels[offset + x] > threshold ? 1 : 0;
+            }
+            out.setPixels(0, y, width, 1, row);
+        }
+        return binary;
+    }
+
+    private int otsuThreshold(int[] histogram, int total) {
+        long weightedSum = 0;
+        for (int i = 0; i < 256; i++) {
+            weightedSum += (long) i * histogram[i];
+        }
+
+        long backgroundSum = 0;
+        int backgroundWeight = 0;
+        double bestVariance = -1;
+        int threshold = 127;
+
+        for (int i = 0; i < 256; i++) {
+            backgroundWeight += histogram[i];
+            if (backgroundWeight == 0) {
+                continue;
+            }
+            int foregroundWeight = total - backgroundWeight;
+            if (foregroundWeight == 0) {
+                break;
+            }
+            backgroundSum += (long) i * histogram[i];
+            double backgroundMean = (double) backgroundSum / backgroundWeight;
+            double foregroundMean = (double) (weightedSum - backgroundSum) / foregroundWeight;
+            double variance = (double) backgroundWeight * foregroundWeight
+                    * (backgroundMean - foregroundMean) * (backgroundMean - foregroundMean);
+            if (variance > bestVariance) {
+                bestVariance = variance;
+                threshold = i;
+            }
+        }
+        return threshold;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
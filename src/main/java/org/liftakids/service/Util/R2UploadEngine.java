@@ -0,0 +1,218 @@
+package org.liftakids.service.Util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.monitoring.DomainMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Streams uploads into R2 through the async S3 client.
+ * Bodies larger than one part go through a multipart upload whose parts are sent in parallel;
+ * a shared byte budget bounds how much upload data is held on heap across all requests,
+ * and individual parts are retried on transient failures without restarting the upload.
+ */
+@Component
+@Slf4j
+public class R2UploadEngine {
+
+    // S3/R2 minimum for every part except the last one
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final String bucketName;
+    private final int partSize;
+    private final int maxRetries;
+    private final Semaphore inFlightBytes;
+    private final DomainMetrics domainMetrics;
+
+    public R2UploadEngine(S3AsyncClient s3AsyncClient,
+                          DomainMetrics domainMetrics,
+                          @Value("${cloud.aws.s3.bucket}") String bucketName,
+                          @Value("${app.storage.upload.part-size:5242880}") int partSize,
+                          @Value("${app.storage.upload.max-in-flight-bytes:33554432}") int maxInFlightBytes,
+                          @Value("${app.storage.upload.max-retries:3}") int maxRetries) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.domainMetrics = domainMetrics;
+        this.bucketName = bucketName;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        this.maxRetries = maxRetries;
+        this.inFlightBytes = new Semaphore(Math.max(maxInFlightBytes, this.partSize), true);
+    }
+
+    /**
+     * Reads {@code input} on the calling thread (blocking only while the byte budget is exhausted)
+     * and returns a future that completes once the object is stored. The stream is fully consumed
+     * when this method returns, so callers may release it before the future completes.
+     */
+    public CompletableFuture<Void> upload(String key, String contentType, InputStream input, long contentLength) throws IOException {
+        if (contentLength <= partSize) {
+            return putSingle(key, contentType, input, (int) contentLength);
+        }
+        return putMultipart(key, contentType, input);
+    }
+
+    private CompletableFuture<Void> putSingle(String key, String contentType, InputStream input, int length) throws IOException {
+        acquire(length);
+        byte[] body;
+        try {
+            body = input.readNBytes(length);
+        } catch (IOException | RuntimeException e) {
+            inFlightBytes.release(length);
+            throw e;
+        }
+
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength((long) body.length)
+                .build();
+
+        return withRetry(() -> s3AsyncClient.putObject(request, AsyncRequestBody.fromBytes(body)), key, 1)
+                .whenComplete((response, ex) -> inFlightBytes.release(length))
+                .thenApply(response -> {
+                    domainMetrics.storageBytes("upload", body.length);
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Void> putMultipart(String key, String contentType, InputStream input) throws IOException {
+        String uploadId = s3AsyncClient.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .build())
+                .join()
+                .uploadId();
+
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            while (true) {
+                acquire(partSize);
+                byte[] chunk;
+                try {
+                    chunk = input.readNBytes(partSize);
+                } catch (IOException | RuntimeException e) {
+                    inFlightBytes.release(partSize);
+                    throw e;
+                }
+                if (chunk.length == 0) {
+                    inFlightBytes.release(partSize);
+                    break;
+                }
+                parts.add(uploadPart(key, uploadId, partNumber++, chunk)
+                        .whenComplete((part, ex) -> inFlightBytes.release(partSize)));
+                if (chunk.length < partSize) {
+                    break;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId);
+            throw e;
+        }
+
+        return CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+                .thenCompose(ignored -> {
+                    List<CompletedPart> completed = parts.stream()
+                            .map(CompletableFuture::join)
+                            .sorted(Comparator.comparing(CompletedPart::partNumber))
+                            .toList();
+                    return withRetry(() -> s3AsyncClient.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                            .build()), key, 1);
+                })
+                .whenComplete((response, ex) -> {
+                    if (ex != null) {
+                        abort(key, uploadId);
+                    }
+                })
+                .thenApply(response -> null);
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(String key, String uploadId, int partNumber, byte[] chunk) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) chunk.length)
+                .build();
+
+        return withRetry(() -> s3AsyncClient.uploadPart(request, AsyncRequestBody.fromBytes(chunk)), key, 1)
+                .thenApply(response -> {
+                    domainMetrics.storageBytes("upload", chunk.length);
+                    return CompletedPart.builder()
+                            .partNumber(partNumber)
+                            .eTag(response.eTag())
+                            .build();
+                });
+    }
+
+    private <T> CompletableFuture<T> withRetry(Supplier<CompletableFuture<T>> call, String key, int attempt) {
+        return call.get()
+                .handle((result, ex) -> {
+                    if (ex == null) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (attempt > maxRetries || !isTransient(cause)) {
+                        return CompletableFuture.<T>failedFuture(cause);
+                    }
+                    long backoffMillis = 200L * (1L << (attempt - 1));
+                    log.warn("Retrying upload of {} (attempt {}/{}) after {}ms: {}", key, attempt, maxRetries, backoffMillis, cause.getMessage());
+                    return CompletableFuture.supplyAsync(() -> null,
+                                    CompletableFuture.delayedExecutor(backoffMillis, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> withRetry(call, key, attempt + 1));
+                })
+                .thenCompose(future -> future);
+    }
+
+    private boolean isTransient(Throwable cause) {
+        if (cause instanceof S3Exception s3Exception) {
+            int status = s3Exception.statusCode();
+            return status == 429 || status >= 500;
+        }
+        return cause instanceof SdkClientException || cause instanceof IOException;
+    }
+
+    private void abort(String key, String uploadId) {
+        s3AsyncClient.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build())
+                .whenComplete((response, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to abort multipart upload {} for {}: {}", uploadId, key, ex.getMessage());
+                    }
+                });
+    }
+
+    private void acquire(int bytes) throws IOException {
+        try {
+            inFlightBytes.acquire(bytes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for upload capacity", e);
+        }
+    }
+}
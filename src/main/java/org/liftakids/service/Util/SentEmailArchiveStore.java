@@ -0,0 +1,92 @@
+package org.liftakids.service.Util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Where sent email archive segments live: the storage bucket, or a local directory that must be given explicitly
+ * and should be a mounted volume (the archived rows are deleted from sent_email once their segment is stored).
+ * Segments are built in a temp file first and handed over whole, so a half-written segment is never visible.
+ */
+@Component
+@Slf4j
+public class SentEmailArchiveStore {
+
+    public static final String LOCAL = "local";
+    public static final String R2 = "r2";
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final String target;
+    private final Path localDirectory;
+
+    public SentEmailArchiveStore(S3Client s3Client,
+                                 @Value("${cloud.aws.s3.bucket}") String bucketName,
+                                 @Value("${app.email-archive.target:r2}") String target,
+                                 @Value("${app.email-archive.local-dir:}") String localDirectory) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        if (!R2.equalsIgnoreCase(target) && !LOCAL.equalsIgnoreCase(target)) {
+            throw new IllegalStateException("app.email-archive.target must be r2 or local, was '" + target + "'");
+        }
+        this.target = R2.equalsIgnoreCase(target) ? R2 : LOCAL;
+        this.localDirectory = localDirectory.isBlank() ? null : Path.of(localDirectory);
+        if (LOCAL.equals(this.target) && this.localDirectory == null) {
+            throw new IllegalStateException("app.email-archive.target=local needs app.email-archive.local-dir "
+                    + "pointing at a persistent volume");
+        }
+    }
+
+    // Store new segments are written to
+    public String target() {
+        return target;
+    }
+
+    public Path createTempFile() throws IOException {
+        return Files.createTempFile("sent-emails-", ".jsonl.gz");
+    }
+
+    // Moves the finished temp file to its final place under the given key
+    public void store(String key, Path file) throws IOException {
+        if (R2.equals(target)) {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType("application/gzip")
+                            .build(),
+                    RequestBody.fromFile(file));
+            Files.deleteIfExists(file);
+        } else {
+            Path destination = localDirectory().resolve(key);
+            Files.createDirectories(destination.getParent());
+            Files.move(file, destination, StandardCopyOption.REPLACE_EXISTING);
+        }
+        log.debug("Stored sent email archive segment {} in {}", key, target);
+    }
+
+    public InputStream open(String store, String key) throws IOException {
+        if (R2.equals(store)) {
+            return s3Client.getObject(GetObjectRequest.builder().bucket(bucketName).key(key).build());
+        }
+        return Files.newInputStream(localDirectory().resolve(key));
+    }
+
+    // Segments written locally earlier stay readable only while the directory is still configured
+    private Path localDirectory() throws IOException {
+        if (localDirectory == null) {
+            throw new IOException("Local archive segment requested but app.email-archive.local-dir is not set");
+        }
+        return localDirectory;
+    }
+}
@@ -0,0 +1,137 @@
+package org.liftakids.service.Util;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.monitoring.DomainMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Small fixed set of long-lived SMTP connections for bulk sending. {@code JavaMailSender.send} opens and closes
+ * a connection (TLS handshake + AUTH) per call; here a batch borrows one connection and sends every message
+ * over it. Connections are recycled after a number of messages since most servers cap a session.
+ */
+@Component
+@Slf4j
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final DomainMetrics domainMetrics;
+    private final BlockingQueue<PooledTransport> idle;
+    private final int size;
+    private final int messagesPerConnection;
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+                             DomainMetrics domainMetrics,
+                             @Value("${app.email.campaign.smtp-sessions:2}") int size,
+                             @Value("${app.email.campaign.messages-per-connection:100}") int messagesPerConnection) {
+        this.mailSender = mailSender;
+        this.domainMetrics = domainMetrics;
+        this.size = Math.max(size, 1);
+        this.messagesPerConnection = Math.max(messagesPerConnection, 1);
+        this.idle = new ArrayBlockingQueue<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            idle.add(new PooledTransport());
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public MimeMessage createMimeMessage() {
+        return mailSender.createMimeMessage();
+    }
+
+    /**
+     * Sends the messages over one pooled connection, blocking until one is free.
+     * Returns the error for each message in order, {@code null} where it was accepted.
+     */
+    public List<String> sendBatch(List<MimeMessage> messages) throws InterruptedException {
+        PooledTransport pooled = idle.take();
+        try {
+            List<String> errors = new ArrayList<>(messages.size());
+            for (MimeMessage message : messages) {
+                String error = send(pooled, message);
+                if (error == null) {
+                    domainMetrics.emailSent();
+                } else {
+                    domainMetrics.emailFailed();
+                }
+                errors.add(error);
+            }
+            return errors;
+        } finally {
+            idle.offer(pooled);
+        }
+    }
+
+    // A dropped connection gets one reconnect; a rejected recipient does not
+    private String send(PooledTransport pooled, MimeMessage message) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                Transport transport = pooled.connected();
+                message.saveChanges();
+                transport.sendMessage(message, message.getAllRecipients());
+                pooled.sent++;
+                return null;
+            } catch (SendFailedException e) {
+                return e.getMessage();
+            } catch (MessagingException e) {
+                pooled.close();
+                if (attempt > 0) {
+                    return e.getMessage();
+                }
+                log.debug("SMTP session failed, reconnecting: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        idle.forEach(PooledTransport::close);
+    }
+
+    private final class PooledTransport {
+        private Transport transport;
+        private int sent;
+
+        // isConnected() sends NOOP on SMTP, so idle sessions the server dropped are noticed here
+        Transport connected() throws MessagingException {
+            if (transport != null && (sent >= messagesPerConnection || !transport.isConnected())) {
+                close();
+            }
+            if (transport == null) {
+                String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp";
+                Transport fresh = mailSender.getSession().getTransport(protocol);
+                fresh.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(),
+                        mailSender.getPassword());
+                transport = fresh;
+                sent = 0;
+            }
+            return transport;
+        }
+
+        void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Failed to close SMTP session: {}", e.getMessage());
+            }
+            transport = null;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.liftakids.service.Util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.datasource.ReadYourWrites;
+import org.liftakids.entity.StaticPage;
+import org.liftakids.mapper.ContentMapper;
+import org.liftakids.repositories.StaticPageRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serialized JSON of every published page, keyed by slug. The whole set is loaded in one query (there are a
+ * handful of pages) and dropped whenever a page is saved or deleted; the next request reloads it. Once loaded,
+ * unknown slugs are answered from the snapshot too, so public page views never reach the database.
+ */
+@Component
+@Slf4j
+public class StaticPageResponseCache {
+
+    public record CachedPage(byte[] body, String etag, long lastModified) {
+    }
+
+    private final StaticPageRepository pageRepository;
+    private final ContentMapper contentMapper;
+    private final ObjectMapper objectMapper;
+
+    // Bumped on every invalidation so a load that raced with a save does not install stale pages
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Map<String, CachedPage> pages;
+
+    public StaticPageResponseCache(StaticPageRepository pageRepository,
+                                   ContentMapper contentMapper,
+                                   ObjectMapper objectMapper) {
+        this.pageRepository = pageRepository;
+        this.contentMapper = contentMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        Map<String, CachedPage> loaded = load();
+        log.info("Static page cache warmed with {} pages", loaded.size());
+    }
+
+    public Optional<CachedPage> get(String slug) {
+        Map<String, CachedPage> snapshot = pages;
+        if (snapshot == null) {
+            snapshot = load();
+        }
+        return Optional.ofNullable(snapshot.get(key(slug)));
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        pages = null;
+    }
+
+    // A lock rather than synchronized: the query would pin the carrier of a virtual thread.
+    // Reads the primary: the snapshot is served to everyone until the next save, a lagging replica's copy too
+    private Map<String, CachedPage> load() {
+        loadLock.lock();
+        try (ReadYourWrites.Scope primary = ReadYourWrites.requirePrimary()) {
+            Map<String, CachedPage> current = pages;
+            if (current != null) {
+                return current;
+            }
+            long startedAt = generation.get();
+            Map<String, CachedPage> loaded = new HashMap<>();
+            for (StaticPage page : pageRepository.findByPublishedTrueOrderBySortOrderAsc()) {
+                loaded.put(key(page.getSlug()), serialize(page));
+            }
+            Map<String, CachedPage> snapshot = Map.copyOf(loaded);
+            if (generation.get() == startedAt) {
+                pages = snapshot;
+            }
+            return snapshot;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private CachedPage serialize(StaticPage page) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(contentMapper.toResponseDto(page));
+            // Weak because server.compression changes the bytes on the wire
+            String etag = "W/\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            long lastModified = page.getUpdatedAt() != null
+                    ? page.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : -1;
+            return new CachedPage(body, etag, lastModified);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize page " + page.getSlug(), e);
+        }
+    }
+
+    // MySQL's default collation matched slugs case-insensitively, keep that behaviour
+    private static String key(String slug) {
+        return slug == null ? "" : slug.toLowerCase(Locale.ROOT);
+    }
+}
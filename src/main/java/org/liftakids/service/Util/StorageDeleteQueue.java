@@ -0,0 +1,102 @@
+package org.liftakids.service.Util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Collects storage keys to delete and removes them in batched DeleteObjects calls off the request path.
+ * Keys are only queued once the surrounding transaction commits, so a rollback never loses a file
+ * that is still referenced. Anything lost on shutdown is picked up by the orphan GC.
+ */
+@Component
+@Slf4j
+public class StorageDeleteQueue {
+
+    public static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private final LinkedBlockingQueue<String> pending = new LinkedBlockingQueue<>();
+    private final S3Client s3Client;
+    private final AssetDiskCache assetDiskCache;
+    private final String bucketName;
+    private final String publicUrl;
+
+    public StorageDeleteQueue(S3Client s3Client,
+                              AssetDiskCache assetDiskCache,
+                              @Value("${cloud.aws.s3.bucket}") String bucketName,
+                              @Value("${cloud.r2.public-url}") String publicUrl) {
+        this.s3Client = s3Client;
+        this.assetDiskCache = assetDiskCache;
+        this.bucketName = bucketName;
+        this.publicUrl = publicUrl;
+    }
+
+    public void enqueueUrls(String... urls) {
+        List<String> keys = new ArrayList<>();
+        for (String url : urls) {
+            String key = toKey(url);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        if (!keys.isEmpty()) {
+            AfterCommit.run(() -> pending.addAll(keys));
+        }
+    }
+
+    public String toKey(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        if (url.startsWith(publicUrl + "/")) {
+            return url.substring(publicUrl.length() + 1);
+        }
+        // Anything else is not ours to delete
+        return url.contains("://") ? null : url;
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.delete-queue.interval-ms:5000}")
+    public void drain() {
+        List<String> batch = new ArrayList<>(MAX_KEYS_PER_REQUEST);
+        while (pending.drainTo(batch, MAX_KEYS_PER_REQUEST) > 0) {
+            deleteBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Deletes up to {@link #MAX_KEYS_PER_REQUEST} keys in one request and returns how many were removed.
+     */
+    public int deleteBatch(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        keys.forEach(assetDiskCache::invalidate);
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build());
+            response.errors().forEach(error ->
+                    log.warn("Failed to delete {}: {} {}", error.key(), error.code(), error.message()));
+            return objects.size() - response.errors().size();
+        } catch (RuntimeException e) {
+            log.warn("Batch delete of {} keys failed, leaving them for the orphan GC: {}", objects.size(), e.getMessage());
+            return 0;
+        }
+    }
+}
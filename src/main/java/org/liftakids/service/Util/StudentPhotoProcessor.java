@@ -0,0 +1,201 @@
+package org.liftakids.service.Util;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes an uploaded student photo once and stores re-encoded variants at fixed widths.
+ * Re-encoding from pixels drops EXIF and any other embedded metadata.
+ * Keys are derived from a single prefix: {@code students/<slug>-<uuid>/<variant>.<ext>}.
+ * A WebP copy is written next to each JPEG when an ImageIO WebP writer is on the classpath.
+ */
+@Component
+@Slf4j
+public class StudentPhotoProcessor {
+
+    public static final int FULL_WIDTH = 1280;
+    public static final int CARD_WIDTH = 480;
+    public static final int THUMB_WIDTH = 160;
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private final R2UploadEngine uploadEngine;
+    private final String publicUrl;
+    private final ThreadPoolExecutor executor;
+    private final boolean webpSupported;
+
+    public StudentPhotoProcessor(R2UploadEngine uploadEngine,
+                                 @Value("${cloud.r2.public-url}") String publicUrl,
+                                 @Value("${app.image.pool-size:2}") int poolSize,
+                                 @Value("${app.image.queue-capacity:20}") int queueCapacity) {
+        this.uploadEngine = uploadEngine;
+        this.publicUrl = publicUrl;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.webpSupported = ImageIO.getImageWritersByFormatName("webp").hasNext();
+    }
+
+    public record Variants(String photoUrl, String cardUrl, String thumbUrl) {
+    }
+
+    public Variants process(byte[] imageBytes, String studentName) {
+        String prefix = "students/" + slug(studentName) + "-" + UUID.randomUUID();
+
+        Future<Variants> result;
+        try {
+            result = executor.submit(() -> encodeAndUpload(imageBytes, prefix));
+        } catch (RejectedExecutionException e) {
+            throw new BusinessException("Image processing is busy, please try again later");
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Image processing interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException("Failed to process image: " + cause.getMessage());
+        }
+    }
+
+    private Variants encodeAndUpload(byte[] imageBytes, String prefix) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(imageBytes));
+        if (source == null) {
+            throw new BusinessException("Unsupported image format");
+        }
+
+        BufferedImage full = toRgb(scaleToWidth(source, FULL_WIDTH));
+        BufferedImage card = scaleToWidth(full, CARD_WIDTH);
+        BufferedImage thumb = scaleToWidth(card, THUMB_WIDTH);
+
+        List<CompletableFuture<Void>> uploads = new ArrayList<>();
+        String photoKey = store(uploads, prefix + "/full", full);
+        String cardKey = store(uploads, prefix + "/w" + CARD_WIDTH, card);
+        String thumbKey = store(uploads, prefix + "/w" + THUMB_WIDTH, thumb);
+
+        try {
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            throw new IOException("Failed to upload photo variants: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        return new Variants(publicUrl + "/" + photoKey, publicUrl + "/" + cardKey, publicUrl + "/" + thumbKey);
+    }
+
+    private String store(List<CompletableFuture<Void>> uploads, String baseKey, BufferedImage image) throws IOException {
+        String jpegKey = baseKey + ".jpg";
+        byte[] jpeg = encodeJpeg(image);
+        uploads.add(uploadEngine.upload(jpegKey, "image/jpeg", new ByteArrayInputStream(jpeg), jpeg.length));
+
+        if (webpSupported) {
+            ByteArrayOutputStream webp = new ByteArrayOutputStream();
+            if (ImageIO.write(image, "webp", webp)) {
+                byte[] bytes = webp.toByteArray();
+                uploads.add(uploadEngine.upload(baseKey + ".webp", "image/webp", new ByteArrayInputStream(bytes), bytes.length));
+            }
+        }
+        return jpegKey;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            // No metadata is passed, so EXIF/GPS from the upload is not carried over
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // Halves the image until close to the target width, then does one bilinear pass; keeps quality on large downscales
+    private BufferedImage scaleToWidth(BufferedImage source, int targetWidth) {
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth) {
+            current = resize(current, current.getWidth() / 2);
+        }
+        if (current.getWidth() > targetWidth) {
+            current = resize(current, targetWidth);
+        }
+        return current;
+    }
+
+    private BufferedImage resize(BufferedImage source, int width) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(source, 0, 0, width, height, null);
+        graphics.dispose();
+        return target;
+    }
+
+    // JPEG has no alpha channel; flatten onto white
+    private BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, source.getWidth(), source.getHeight());
+        graphics.drawImage(source, 0, 0, null);
+        graphics.dispose();
+        return rgb;
+    }
+
+    private String slug(String name) {
+        if (name == null || name.isBlank()) {
+            return "student";
+        }
+        String slug = name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+        return slug.isEmpty() ? "student" : slug;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
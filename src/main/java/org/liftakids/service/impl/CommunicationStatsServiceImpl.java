@@ -0,0 +1,352 @@
+package org.liftakids.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.dto.dashboard.ContactStatsDto;
+import org.liftakids.dto.dashboard.SentEmailStatsDto;
+import org.liftakids.dto.email.SentEmailSummaryDto;
+import org.liftakids.entity.ContactDailyStats;
+import org.liftakids.entity.EmailDailyStats;
+import org.liftakids.entity.SentEmail;
+import org.liftakids.repositories.ContactDailyStatsRepository;
+import org.liftakids.repositories.ContactRepository;
+import org.liftakids.repositories.EmailDailyStatsRepository;
+import org.liftakids.repositories.SentEmailRepository;
+import org.liftakids.service.CommunicationStatsService;
+import org.liftakids.service.Util.AfterCommit;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contact and sent email statistics kept as per-day rollups.
+ * Every rollup row is loaded once at startup (backfilled from the source tables the first time) and
+ * then updated in memory as messages arrive, get replied to and emails go out; changed days are
+ * written back every minute and on shutdown. Dashboards read only the days they show.
+ * Contact counts follow deletions, so unresponded messages that were deleted do not stay unresponded;
+ * email counts are events and deleting an email later does not lower them. Assumes a single
+ * application instance writes the rollup tables.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CommunicationStatsServiceImpl implements CommunicationStatsService {
+
+    private static final int MAX_DAYS = 366;
+    private static final int RECENT_EMAILS = 10;
+    private static final String DEFAULT_TEMPLATE = "custom";
+
+    private final ContactDailyStatsRepository contactDailyStatsRepository;
+    private final EmailDailyStatsRepository emailDailyStatsRepository;
+    private final ContactRepository contactRepository;
+    private final SentEmailRepository sentEmailRepository;
+
+    private final Map<LocalDate, ContactDay> contactDays = new ConcurrentHashMap<>();
+    private final Map<EmailKey, EmailDay> emailDays = new ConcurrentHashMap<>();
+    private final Set<LocalDate> dirtyContactDays = ConcurrentHashMap.newKeySet();
+    private final Set<EmailKey> dirtyEmailDays = ConcurrentHashMap.newKeySet();
+    private final Deque<SentEmailSummaryDto> recentEmails = new ArrayDeque<>();
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        List<ContactDailyStats> contactRows = contactDailyStatsRepository.findAll();
+        List<EmailDailyStats> emailRows = emailDailyStatsRepository.findAll();
+        if (contactRows.isEmpty() && emailRows.isEmpty()) {
+            backfill();
+        } else {
+            // merge rather than replace, events recorded before the application was ready are kept
+            contactRows.forEach(row -> contactDay(row.getStatDate()).add(row));
+            emailRows.forEach(row -> emailDays.computeIfAbsent(new EmailKey(row.getStatDate(), row.getTemplate()),
+                    k -> new EmailDay()).add(row));
+        }
+        synchronized (recentEmails) {
+            recentEmails.clear();
+            recentEmails.addAll(sentEmailRepository.findRecentSummaries(PageRequest.of(0, RECENT_EMAILS)));
+        }
+        loaded = true;
+        log.info("Loaded communication rollups: {} contact days, {} email day/template rows",
+                contactDays.size(), emailDays.size());
+    }
+
+    @Override
+    public void recordContactReceived(LocalDateTime createdAt) {
+        LocalDate day = dayOf(createdAt);
+        AfterCommit.run(() -> {
+            contactDay(day).received.incrementAndGet();
+            dirtyContactDays.add(day);
+        });
+    }
+
+    @Override
+    public void recordContactReplied(LocalDateTime createdAt, LocalDateTime repliedAt) {
+        LocalDate day = dayOf(createdAt);
+        long seconds = Math.max(0, Duration.between(createdAt, repliedAt).getSeconds());
+        AfterCommit.run(() -> {
+            ContactDay stats = contactDay(day);
+            stats.responded.incrementAndGet();
+            stats.responseSeconds.addAndGet(seconds);
+            dirtyContactDays.add(day);
+        });
+    }
+
+    // Undoes what recordContactReceived and recordContactReplied counted for the message
+    @Override
+    public void recordContactDeleted(LocalDateTime createdAt, LocalDateTime repliedAt) {
+        LocalDate day = dayOf(createdAt);
+        long seconds = repliedAt == null ? 0 : Math.max(0, Duration.between(createdAt, repliedAt).getSeconds());
+        AfterCommit.run(() -> {
+            ContactDay stats = contactDay(day);
+            stats.received.updateAndGet(count -> Math.max(0, count - 1));
+            if (repliedAt != null) {
+                stats.responded.updateAndGet(count -> Math.max(0, count - 1));
+                stats.responseSeconds.updateAndGet(total -> Math.max(0, total - seconds));
+            }
+            dirtyContactDays.add(day);
+        });
+    }
+
+    @Override
+    public void recordEmail(SentEmail sentEmail) {
+        EmailKey key = new EmailKey(dayOf(sentEmail.getSentAt()), templateOf(sentEmail.getTemplate()));
+        SentEmailSummaryDto summary = new SentEmailSummaryDto(sentEmail.getId(), sentEmail.getToEmail(),
+                sentEmail.getSubject(), sentEmail.getSenderName(), sentEmail.getTemplate(), sentEmail.getSentAt(),
+                sentEmail.isSuccess(), sentEmail.getErrorMessage());
+        AfterCommit.run(() -> {
+            EmailDay stats = emailDays.computeIfAbsent(key, k -> new EmailDay());
+            (summary.isSuccess() ? stats.sent : stats.failed).incrementAndGet();
+            dirtyEmailDays.add(key);
+            synchronized (recentEmails) {
+                recentEmails.addFirst(summary);
+                while (recentEmails.size() > RECENT_EMAILS) {
+                    recentEmails.removeLast();
+                }
+            }
+        });
+    }
+
+    @Override
+    public ContactStatsDto getContactStats(int days) {
+        ensureLoaded();
+        LocalDate today = LocalDate.now();
+        LocalDate first = today.minusDays(clampDays(days) - 1L);
+
+        long total = 0;
+        long responded = 0;
+        long responseSeconds = 0;
+        for (ContactDay stats : contactDays.values()) {
+            total += stats.received.get();
+            responded += stats.responded.get();
+            responseSeconds += stats.responseSeconds.get();
+        }
+
+        List<ContactStatsDto.Day> shown = new ArrayList<>();
+        for (LocalDate day = first; !day.isAfter(today); day = day.plusDays(1)) {
+            ContactDay stats = contactDays.get(day);
+            shown.add(stats == null
+                    ? new ContactStatsDto.Day(day, 0, 0, null)
+                    : new ContactStatsDto.Day(day, stats.received.get(), stats.responded.get(),
+                    averageMinutes(stats.responseSeconds.get(), stats.responded.get())));
+        }
+        ContactStatsDto.Day todayStats = shown.get(shown.size() - 1);
+
+        return ContactStatsDto.builder()
+                .totalMessages(total)
+                .respondedCount(responded)
+                .unrespondedCount(Math.max(0, total - responded))
+                .responseRate(total == 0 ? 0 : (double) responded / total * 100)
+                .averageResponseMinutes(averageMinutes(responseSeconds, responded))
+                .todayMessages(todayStats.getReceived())
+                .todayUnresponded(Math.max(0, todayStats.getReceived() - todayStats.getResponded()))
+                .days(shown)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Override
+    public SentEmailStatsDto getSentEmailStats(int days) {
+        ensureLoaded();
+        LocalDate today = LocalDate.now();
+        LocalDate first = today.minusDays(clampDays(days) - 1L);
+
+        long totalSent = 0;
+        long totalFailed = 0;
+        Map<LocalDate, long[]> perDay = new TreeMap<>();
+        Map<String, Long> sentByTemplate = new LinkedHashMap<>();
+        Map<String, Long> failedByTemplate = new LinkedHashMap<>();
+        for (Map.Entry<EmailKey, EmailDay> entry : emailDays.entrySet()) {
+            long sent = entry.getValue().sent.get();
+            long failed = entry.getValue().failed.get();
+            totalSent += sent;
+            totalFailed += failed;
+
+            LocalDate day = entry.getKey().day();
+            if (day.isBefore(first) || day.isAfter(today)) {
+                continue;
+            }
+            long[] counts = perDay.computeIfAbsent(day, d -> new long[2]);
+            counts[0] += sent;
+            counts[1] += failed;
+            sentByTemplate.merge(entry.getKey().template(), sent, Long::sum);
+            failedByTemplate.merge(entry.getKey().template(), failed, Long::sum);
+        }
+
+        List<SentEmailStatsDto.Day> shown = new ArrayList<>();
+        for (LocalDate day = first; !day.isAfter(today); day = day.plusDays(1)) {
+            long[] counts = perDay.getOrDefault(day, new long[2]);
+            shown.add(new SentEmailStatsDto.Day(day, counts[0], counts[1]));
+        }
+        SentEmailStatsDto.Day todayStats = shown.get(shown.size() - 1);
+
+        List<SentEmailSummaryDto> recent;
+        synchronized (recentEmails) {
+            recent = new ArrayList<>(recentEmails);
+        }
+
+        return SentEmailStatsDto.builder()
+                .totalSent(totalSent)
+                .totalFailed(totalFailed)
+                .todaySent(todayStats.getSent())
+                .todayFailed(todayStats.getFailed())
+                .sentByTemplate(sentByTemplate)
+                .failedByTemplate(failedByTemplate)
+                .days(shown)
+                .recentEmails(recent)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    @PreDestroy
+    @Override
+    public synchronized void flush() {
+        if (!loaded) {
+            return;
+        }
+        List<LocalDate> contactKeys = new ArrayList<>(dirtyContactDays);
+        List<EmailKey> emailKeys = new ArrayList<>(dirtyEmailDays);
+        if (contactKeys.isEmpty() && emailKeys.isEmpty()) {
+            return;
+        }
+        dirtyContactDays.removeAll(contactKeys);
+        dirtyEmailDays.removeAll(emailKeys);
+        try {
+            List<ContactDailyStats> contactRows = new ArrayList<>();
+            for (LocalDate day : contactKeys) {
+                contactRows.add(contactDays.get(day).toEntity(day));
+            }
+            contactDailyStatsRepository.saveAll(contactRows);
+
+            for (EmailKey key : emailKeys) {
+                EmailDay stats = emailDays.get(key);
+                EmailDailyStats saved = emailDailyStatsRepository.save(stats.toEntity(key));
+                stats.id = saved.getId();
+            }
+        } catch (Exception e) {
+            dirtyContactDays.addAll(contactKeys);
+            dirtyEmailDays.addAll(emailKeys);
+            log.error("Failed to persist communication rollups: {}", e.getMessage(), e);
+        }
+    }
+
+    private void backfill() {
+        for (Object[] row : contactRepository.countGroupedByCreatedDay()) {
+            contactDay((LocalDate) row[0]).received.addAndGet(((Number) row[1]).longValue());
+        }
+        for (Object[] row : contactRepository.findReplyTimes()) {
+            LocalDateTime createdAt = (LocalDateTime) row[0];
+            LocalDateTime repliedAt = (LocalDateTime) row[1];
+            ContactDay stats = contactDay(dayOf(createdAt));
+            stats.responded.incrementAndGet();
+            stats.responseSeconds.addAndGet(Math.max(0, Duration.between(createdAt, repliedAt).getSeconds()));
+        }
+        for (Object[] row : sentEmailRepository.countGroupedByDayTemplateAndSuccess()) {
+            EmailKey key = new EmailKey((LocalDate) row[0], templateOf((String) row[1]));
+            EmailDay stats = emailDays.computeIfAbsent(key, k -> new EmailDay());
+            (Boolean.TRUE.equals(row[2]) ? stats.sent : stats.failed).addAndGet(((Number) row[3]).longValue());
+        }
+        dirtyContactDays.addAll(contactDays.keySet());
+        dirtyEmailDays.addAll(emailDays.keySet());
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            load();
+        }
+    }
+
+    private ContactDay contactDay(LocalDate day) {
+        return contactDays.computeIfAbsent(day, d -> new ContactDay());
+    }
+
+    private static LocalDate dayOf(LocalDateTime time) {
+        return (time != null ? time : LocalDateTime.now()).toLocalDate();
+    }
+
+    private static String templateOf(String template) {
+        return template == null || template.isBlank() ? DEFAULT_TEMPLATE : template;
+    }
+
+    private static int clampDays(int days) {
+        return Math.min(Math.max(days, 1), MAX_DAYS);
+    }
+
+    private static Double averageMinutes(long seconds, long count) {
+        return count == 0 ? null : seconds / 60.0 / count;
+    }
+
+    private record EmailKey(LocalDate day, String template) {
+    }
+
+    private static final class ContactDay {
+        final AtomicLong received = new AtomicLong();
+        final AtomicLong responded = new AtomicLong();
+        final AtomicLong responseSeconds = new AtomicLong();
+
+        void add(ContactDailyStats row) {
+            received.addAndGet(row.getReceived());
+            responded.addAndGet(row.getResponded());
+            responseSeconds.addAndGet(row.getResponseSecondsTotal());
+        }
+
+        ContactDailyStats toEntity(LocalDate day) {
+            return new ContactDailyStats(day, received.get(), responded.get(), responseSeconds.get());
+        }
+    }
+
+    private static final class EmailDay {
+        volatile Long id;
+        final AtomicLong sent = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+
+        void add(EmailDailyStats row) {
+            id = row.getId();
+            sent.addAndGet(row.getSent());
+            failed.addAndGet(row.getFailed());
+        }
+
+        EmailDailyStats toEntity(EmailKey key) {
+            return new EmailDailyStats(id, key.day(), key.template(), sent.get(), failed.get());
+        }
+    }
+}
@@ -1,33 +1,59 @@
 package org.liftakids.service.impl;
 
 import jakarta.transaction.Transactional;
+import org.liftakids.dto.contact.ContactInboxFilter;
+import org.liftakids.dto.contact.ContactInboxSliceDTO;
+import org.liftakids.dto.contact.ContactMessageSummaryDTO;
 import org.liftakids.dto.contact.ContactReplyDTO;
 import org.liftakids.dto.contact.ContactRequestDTO;
 import org.liftakids.entity.ContactMessage;
+import org.liftakids.exception.BusinessException;
+import org.liftakids.dto.dashboard.ContactStatsDto;
 import org.liftakids.repositories.ContactRepository;
+import org.liftakids.service.CommunicationStatsService;
 import org.liftakids.service.ContactService;
-import org.modelmapper.ModelMapper;
+import org.liftakids.mapper.ContentMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class ContactServiceImpl implements ContactService {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Request sort keys to entity properties; "submittedAt" is what the admin UI sends by default
+    private static final Map<String, String> SORTABLE = Map.of(
+            "createdAt", "createdAt",
+            "submittedAt", "createdAt",
+            "repliedAt", "repliedAt",
+            "name", "name",
+            "email", "email",
+            "subject", "subject");
+
     @Autowired
     private ContactRepository contactRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ContentMapper contentMapper;
+
+    @Autowired
+    private CommunicationStatsService communicationStatsService;
 
     @Override
     public ContactMessage saveMessage(ContactRequestDTO contactRequest) {
         try {
-            ContactMessage message = modelMapper.map(contactRequest, ContactMessage.class);
+            ContactMessage message = contentMapper.toEntity(contactRequest);
 
             // ✅ Manually set all required fields
             message.setCreatedAt(LocalDateTime.now());
@@ -38,7 +64,9 @@ public class ContactServiceImpl implements ContactService {
             message.setRepliedBy(null);
 
             System.out.println("✅ Saving contact message: " + message);
-            return contactRepository.save(message);
+            ContactMessage saved = contactRepository.save(message);
+            communicationStatsService.recordContactReceived(saved.getCreatedAt());
+            return saved;
 
         } catch (Exception e) {
             System.err.println("❌ Error saving contact message: " + e.getMessage());
@@ -59,7 +87,12 @@ public class ContactServiceImpl implements ContactService {
                 message.setIsResponded(false);
             }
 
-            return contactRepository.save(message);
+            boolean isNew = message.getId() == null;
+            ContactMessage saved = contactRepository.save(message);
+            if (isNew) {
+                communicationStatsService.recordContactReceived(saved.getCreatedAt());
+            }
+            return saved;
 
         } catch (Exception e) {
             System.err.println("❌ Error saving contact message entity: " + e.getMessage());
@@ -68,11 +101,38 @@ public class ContactServiceImpl implements ContactService {
     }
 
     @Override
-    public List<ContactMessage> getAllMessages() {
-        List<ContactMessage> messages = contactRepository.findAllByOrderByCreatedAtDesc();
-        // ✅ Ensure no null Boolean values
-        messages.forEach(this::initializeBooleanFields);
-        return messages;
+    public Page<ContactMessageSummaryDTO> searchMessages(ContactInboxFilter filter, int page, int size,
+                                                         String sortBy, String sortDir) {
+        String property = SORTABLE.getOrDefault(sortBy, "createdAt");
+        Sort.Direction direction = "asc".equalsIgnoreCase(sortDir) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        // id as tie-breaker keeps pages stable when many rows share a timestamp
+        Sort sort = Sort.by(direction, property).and(Sort.by(direction, "id"));
+
+        return contactRepository.searchSummaries(filter.getResponded(), filter.getRead(), filter.getEmail(),
+                blankToNull(filter.getSearch()), filter.getFrom(), filter.getTo(),
+                PageRequest.of(Math.max(page, 0), clampSize(size), sort));
+    }
+
+    @Override
+    public ContactInboxSliceDTO getMessagesBefore(ContactInboxFilter filter, String cursor, int size) {
+        int limit = clampSize(size);
+        LocalDateTime cursorAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorAt = LocalDateTime.parse(parts[0]);
+            cursorId = Long.valueOf(parts[1]);
+        }
+
+        // one extra row tells whether another page exists without a count query
+        List<ContactMessageSummaryDTO> rows = contactRepository.findSummariesBefore(filter.getResponded(),
+                filter.getRead(), filter.getEmail(), blankToNull(filter.getSearch()), filter.getFrom(),
+                filter.getTo(), cursorAt, cursorId, PageRequest.of(0, limit + 1));
+
+        boolean hasMore = rows.size() > limit;
+        List<ContactMessageSummaryDTO> messages = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? encodeCursor(messages.get(messages.size() - 1)) : null;
+        return new ContactInboxSliceDTO(messages, nextCursor, hasMore);
     }
     @Override
     public void markAsRead(Long id) {
@@ -87,6 +147,9 @@ public class ContactServiceImpl implements ContactService {
         ContactMessage message = contactRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Message not found"));
 
+        // Only the first reply counts towards the response statistics
+        boolean firstReply = message.getRepliedAt() == null;
+
         // Save admin reply
         message.setAdminReply(replyRequest.getReplyMessage());
         message.setRepliedAt(LocalDateTime.now());
@@ -94,30 +157,17 @@ public class ContactServiceImpl implements ContactService {
         message.setIsRead(false);
         message.setIsResponded(false);
 
-        return contactRepository.save(message);
+        ContactMessage saved = contactRepository.save(message);
+        if (firstReply) {
+            communicationStatsService.recordContactReplied(saved.getCreatedAt(), saved.getRepliedAt());
+        }
+        return saved;
     }
     @Override
     public Optional<ContactMessage> getMessageById(Long id) {
         return contactRepository.findById(id);
     }
     @Override
-    public List<ContactMessage> getUnrespondedMessages() {
-        List<ContactMessage> messages = contactRepository.findByIsRespondedFalseOrderByCreatedAtDesc();
-        messages.forEach(this::initializeBooleanFields);
-        return messages;
-    }
-    @Override
-    public List<ContactMessage> getRespondedMessages() {
-        List<ContactMessage> messages = contactRepository.findByIsRespondedTrueOrderByRepliedAtDesc();
-        messages.forEach(this::initializeBooleanFields);
-        return messages;
-    }
-    @Override
-    // Get message reply history
-    public List<ContactMessage> getMessageHistory(String email) {
-        return contactRepository.findByEmailOrderByCreatedAtDesc(email);
-    }
-    @Override
     // Get recent messages (for dashboard)
     public List<ContactMessage> getRecentMessages(int limit) {
         return contactRepository.findTop5ByOrderByCreatedAtDesc()
@@ -127,48 +177,43 @@ public class ContactServiceImpl implements ContactService {
     }
     @Override
     public MessageStats getMessageStats() {
-        try {
-            List<ContactMessage> allMessages = getAllMessages();
-            List<ContactMessage> unresponded = getUnrespondedMessages();
-            List<ContactMessage> responded = getRespondedMessages();
+        ContactStatsDto rollup = communicationStatsService.getContactStats(1);
 
-            MessageStats stats = new MessageStats();
-            stats.setTotalMessages(allMessages.size());
-            stats.setUnrespondedCount(unresponded.size());
-            stats.setRespondedCount(responded.size());
-            stats.setResponseRate(allMessages.isEmpty() ? 0 :
-                    (double) responded.size() / allMessages.size() * 100);
-
-            // Today's stats
-            LocalDateTime todayStart = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
-            LocalDateTime todayEnd = LocalDateTime.now().withHour(23).withMinute(59).withSecond(59);
+        MessageStats stats = new MessageStats();
+        stats.setTotalMessages((int) rollup.getTotalMessages());
+        stats.setUnrespondedCount((int) rollup.getUnrespondedCount());
+        stats.setRespondedCount((int) rollup.getRespondedCount());
+        stats.setResponseRate(rollup.getResponseRate());
+        stats.setTodayMessages((int) rollup.getTodayMessages());
+        stats.setTodayUnresponded((int) rollup.getTodayUnresponded());
+        return stats;
+    }
 
-            long todayMessages = contactRepository.countByCreatedAtBetween(todayStart, todayEnd);
-            long todayUnresponded = contactRepository.countUnrespondedByCreatedAtBetween(todayStart, todayEnd);
+    private static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
 
-            stats.setTodayMessages((int) todayMessages);
-            stats.setTodayUnresponded((int) todayUnresponded);
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
 
-            return stats;
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to calculate statistics: " + e.getMessage(), e);
-        }
+    private static String encodeCursor(ContactMessageSummaryDTO last) {
+        String raw = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
-    // Helper method to initialize Boolean fields
-    private ContactMessage initializeBooleanFields(ContactMessage message) {
-        if (message.getIsRead() == null) {
-            message.setIsRead(false);
-        }
-        if (message.getIsResponded() == null) {
-            message.setIsResponded(false);
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid inbox cursor");
         }
-        return message;
-    }
-    // Get today's messages
-    public List<ContactMessage> getTodayMessages() {
-        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfDay = LocalDateTime.now().withHour(23).withMinute(59).withSecond(59);
-        return contactRepository.findByCreatedAtBetween(startOfDay, endOfDay);
     }
     // Get unread messages count
     @Override
@@ -178,10 +223,10 @@ public class ContactServiceImpl implements ContactService {
 
     @Override
     public void deleteMessage(Long id) {
-        if (!contactRepository.existsById(id)) {
-            throw new RuntimeException("Message not found with id: " + id);
-        }
-        contactRepository.deleteById(id);
+        ContactMessage message = contactRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Message not found with id: " + id));
+        contactRepository.delete(message);
+        communicationStatsService.recordContactDeleted(message.getCreatedAt(), message.getRepliedAt());
     }
 
     public static class MessageStats {
@@ -0,0 +1,152 @@
+package org.liftakids.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.datasource.ReadYourWrites;
+import org.liftakids.dto.dashboard.DashboardStatsDto;
+import org.liftakids.entity.PaymentStatus;
+import org.liftakids.repositories.InstitutionRepository;
+import org.liftakids.repositories.PaymentRepository;
+import org.liftakids.repositories.SponsorshipRepository;
+import org.liftakids.repositories.StudentRepository;
+import org.liftakids.service.DashboardStatsService;
+import org.liftakids.service.Util.AfterCommit;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Institution, student, sponsorship and payment counters for the admin dashboard.
+ * Counters are computed with one grouped query per table and kept in memory; services call
+ * {@link #markDirty()} on state transitions and the snapshot is recomputed off the request path
+ * within a few seconds, so reads never touch the database.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DashboardStatsServiceImpl implements DashboardStatsService {
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(10);
+
+    private final InstitutionRepository institutionRepository;
+    private final StudentRepository studentRepository;
+    private final SponsorshipRepository sponsorshipRepository;
+    private final PaymentRepository paymentRepository;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile DashboardStatsDto snapshot;
+
+    @Override
+    public DashboardStatsDto getStats() {
+        DashboardStatsDto current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    @Override
+    public void markDirty() {
+        AfterCommit.run(() -> dirty.set(true));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Override
+    public synchronized void refresh() {
+        dirty.set(false);
+        // Served until the next refresh, so a lagging replica must not fill it
+        try (ReadYourWrites.Scope primary = ReadYourWrites.requirePrimary()) {
+            snapshot = computeStats();
+        } catch (Exception e) {
+            dirty.set(true);
+            log.error("Failed to refresh dashboard statistics: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 5000, initialDelay = 5000)
+    public void refreshIfStale() {
+        DashboardStatsDto current = snapshot;
+        boolean expired = current == null
+                || current.getGeneratedAt().isBefore(LocalDateTime.now().minus(MAX_AGE));
+        if (dirty.get() || expired) {
+            refresh();
+        }
+    }
+
+    private DashboardStatsDto computeStats() {
+        // Institutions: [status -> count]
+        Map<String, Long> institutionsByStatus = new LinkedHashMap<>();
+        for (Map<String, Object> row : institutionRepository.countByStatusGroup()) {
+            institutionsByStatus.merge(String.valueOf(row.get("status")), toLong(row.get("count")), Long::sum);
+        }
+
+        // Students: [status, isSponsored, count]
+        Map<String, Long> studentsByStatus = new LinkedHashMap<>();
+        long sponsored = 0;
+        long unsponsored = 0;
+        for (Object[] row : studentRepository.countGroupedByStatusAndSponsored()) {
+            long count = toLong(row[2]);
+            studentsByStatus.merge(String.valueOf(row[0]), count, Long::sum);
+            if (Boolean.TRUE.equals(row[1])) {
+                sponsored += count;
+            } else {
+                unsponsored += count;
+            }
+        }
+
+        // Sponsorships: [status, count]
+        Map<String, Long> sponsorshipsByStatus = toCountMap(sponsorshipRepository.countGroupedByStatus());
+
+        // Payments: [status, count, sum(amount)]
+        Map<String, Long> paymentsByStatus = new LinkedHashMap<>();
+        BigDecimal completedAmount = BigDecimal.ZERO;
+        for (Object[] row : paymentRepository.countAndSumGroupedByStatus()) {
+            paymentsByStatus.merge(String.valueOf(row[0]), toLong(row[1]), Long::sum);
+            if (row[0] == PaymentStatus.COMPLETED && row[2] != null) {
+                completedAmount = completedAmount.add(new BigDecimal(row[2].toString()));
+            }
+        }
+
+        return DashboardStatsDto.builder()
+                .totalInstitutions(sum(institutionsByStatus))
+                .institutionsByStatus(Collections.unmodifiableMap(institutionsByStatus))
+                .totalStudents(sponsored + unsponsored)
+                .sponsoredStudents(sponsored)
+                .unsponsoredStudents(unsponsored)
+                .studentsByStatus(Collections.unmodifiableMap(studentsByStatus))
+                .totalSponsorships(sum(sponsorshipsByStatus))
+                .sponsorshipsByStatus(Collections.unmodifiableMap(sponsorshipsByStatus))
+                .totalPayments(sum(paymentsByStatus))
+                .paymentsByStatus(Collections.unmodifiableMap(paymentsByStatus))
+                .completedPaymentAmount(completedAmount)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    static Map<String, Long> toCountMap(List<Object[]> rows) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            counts.merge(String.valueOf(row[0]), toLong(row[1]), Long::sum);
+        }
+        return counts;
+    }
+
+    private static long sum(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+}
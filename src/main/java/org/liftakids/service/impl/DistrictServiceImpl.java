@@ -14,7 +14,7 @@ import org.liftakids.repositories.DistrictRepository;
 import org.liftakids.repositories.DivisionRepository;
 import org.liftakids.repositories.ThanaRepository;
 import org.liftakids.service.DistrictService;
-import org.modelmapper.ModelMapper;
+import org.liftakids.mapper.LocationMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,7 +32,7 @@ public class DistrictServiceImpl implements DistrictService {
     private final DistrictRepository districtRepository;
     private final DivisionRepository divisionRepository;
     private final ThanaRepository thanaRepository;
-    private final ModelMapper modelMapper;
+    private final LocationMapper locationMapper;
 
     @Override
     public DistrictDto create(DistrictDto dto) {
@@ -45,7 +45,7 @@ public class DistrictServiceImpl implements DistrictService {
         district.setDivision(division);
         Districts saved = districtRepository.save(district);
 
-        DistrictDto responseDto = modelMapper.map(saved, DistrictDto.class);
+        DistrictDto responseDto = locationMapper.toDistrictDto(saved);
         responseDto.setDivisionId(saved.getDivision().getDivisionId());
 
         return responseDto;
@@ -55,7 +55,7 @@ public class DistrictServiceImpl implements DistrictService {
     public List<DistrictDto> getAll() {
         return districtRepository.findAll().stream()
                 .map(d -> {
-                    DistrictDto dto = modelMapper.map(d, DistrictDto.class);
+                    DistrictDto dto = locationMapper.toDistrictDto(d);
                     dto.setDivisionId(d.getDivision().getDivisionId());
                     return dto;
                 })
@@ -77,7 +77,7 @@ public class DistrictServiceImpl implements DistrictService {
         List<Districts> saved = districtRepository.saveAll(districts);
 
         return saved.stream().map(d -> {
-            DistrictDto dto = modelMapper.map(d, DistrictDto.class);
+            DistrictDto dto = locationMapper.toDistrictDto(d);
             dto.setDivisionId(d.getDivision().getDivisionId());
             return dto;
         }).toList();
@@ -222,7 +222,7 @@ public class DistrictServiceImpl implements DistrictService {
 //    @Override
 //    public Page<DistrictResponseDTO> getAllDistricts(Pageable pageable) {
 //        Page<Districts> districts = districtRepository.findAll(pageable);
-//        return districts.map(district -> modelMapper.map(district, DistrictResponseDTO.class));
+//        return districts.map(district -> locationMapper.toDistrictResponse(district));
 //    }
 
 }
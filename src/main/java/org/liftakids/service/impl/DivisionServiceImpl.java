@@ -16,7 +16,7 @@ import org.liftakids.repositories.DivisionRepository;
 import org.liftakids.repositories.ThanaRepository;
 import org.liftakids.repositories.UnionOrAreaRepository;
 import org.liftakids.service.DivisionService;
-import org.modelmapper.ModelMapper;
+import org.liftakids.mapper.LocationMapper;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.stereotype.Service;
 
@@ -32,15 +32,15 @@ import java.util.stream.Collectors;
 public class DivisionServiceImpl implements DivisionService {
 
     private final DivisionRepository divisionRepository;
-    private final ModelMapper modelMapper;
+    private final LocationMapper locationMapper;
     private final DistrictRepository districtRepository;
     private final ThanaRepository thanaRepository;
     private final UnionOrAreaRepository unionRepository;
 
     @Override
     public DivisionDto create(DivisionDto dto) {
-        Divisions division = modelMapper.map(dto, Divisions.class);
-        return modelMapper.map(divisionRepository.save(division), DivisionDto.class);
+        Divisions division = locationMapper.toDivision(dto);
+        return locationMapper.toDivisionDto(divisionRepository.save(division));
     }
 
     @Override
@@ -130,7 +130,7 @@ public class DivisionServiceImpl implements DivisionService {
         }).toList();
 //        return divisionRepository.findAll()
 //                .stream()
-//                .map(d -> modelMapper.map(d, DivisionResponseDTO.class))
+//                .map(d -> locationMapper.toDivisionResponse(d))
 //                .collect(Collectors.toList());
     }
 
@@ -207,13 +207,13 @@ public class DivisionServiceImpl implements DivisionService {
     @Override
     public List<DivisionDto> createAll(List<DivisionDto> divisionDtos) {
         List<Divisions> divisions = divisionDtos.stream()
-                .map(dto -> modelMapper.map(dto, Divisions.class))
+                .map(dto -> locationMapper.toDivision(dto))
                 .collect(Collectors.toList());
 
         List<Divisions> savedDivisions = divisionRepository.saveAll(divisions);
 
         return savedDivisions.stream()
-                .map(saved -> modelMapper.map(saved, DivisionDto.class))
+                .map(saved -> locationMapper.toDivisionDto(saved))
                 .collect(Collectors.toList());
     }
 
@@ -225,12 +225,12 @@ public class DivisionServiceImpl implements DivisionService {
                 .orElseThrow(() -> new ResourceNotFoundException("Division not found with id: " + divisionId));
 
         // Map the updated data from the request DTO to the existing Division entity
-        modelMapper.map(divisionRequestDTO, existingDivision);
+        locationMapper.updateDivision(divisionRequestDTO, existingDivision);
 
         // Save the updated entity back to the repository
         Divisions updatedDivision = divisionRepository.save(existingDivision);
 
-        // Return the updated entity as a DTO using ModelMapper
-        return modelMapper.map(updatedDivision, DivisionResponseDTO.class);
+        // Return the updated entity as a DTO
+        return locationMapper.toDivisionResponse(updatedDivision);
     }
 }
@@ -9,7 +9,7 @@ import org.liftakids.exception.BusinessException;
 import org.liftakids.exception.ResourceNotFoundException;
 import org.liftakids.repositories.DonorRepository;
 import org.liftakids.service.DonorService;
-import org.modelmapper.ModelMapper;
+import org.liftakids.mapper.DonorMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,13 +25,13 @@ import java.util.stream.Collectors;
 public class DonorServiceImpl implements DonorService {
    // private final PasswordEncoder passwordEncoder;
     private final DonorRepository donorRepository;
-    private final ModelMapper modelMapper;
+    private final DonorMapper donorMapper;
 
     @Override
     public DonorResponseDto createDonor(DonorRequestDto dto) {
-        Donor donor = modelMapper.map(dto, Donor.class);
+        Donor donor = donorMapper.toEntity(dto);
         donor.setDonorId(null); // ensure it's treated as new
-        return modelMapper.map(donorRepository.save(donor), DonorResponseDto.class);
+        return donorMapper.toResponseDto(donorRepository.save(donor));
     }
     @Transactional
     @Override
@@ -79,6 +79,9 @@ public class DonorServiceImpl implements DonorService {
         if (updateRequestDto.getType() != null) {
             donor.setType(updateRequestDto.getType());
         }
+        if (updateRequestDto.getPreferredLocale() != null) {
+            donor.setPreferredLocale(updateRequestDto.getPreferredLocale());
+        }
 
         Donor updatedDonor = donorRepository.save(donor);
         return convertToDto(updatedDonor);
@@ -95,7 +98,7 @@ public class DonorServiceImpl implements DonorService {
     @Override
     public List<DonorResponseDto> getAllDonors() {
         return donorRepository.findAll().stream()
-                .map(donor -> modelMapper.map(donor, DonorResponseDto.class))
+                .map(donor -> donorMapper.toResponseDto(donor))
                 .collect(Collectors.toList());
     }
 
@@ -104,7 +107,7 @@ public class DonorServiceImpl implements DonorService {
     public DonorResponseDto getDonorById(Long donarId) {
         Donor donor = donorRepository.findById(donarId)
                 .orElseThrow(() -> new RuntimeException("Donor not found with id: " + donarId));
-        return modelMapper.map(donor, DonorResponseDto.class);
+        return donorMapper.toResponseDto(donor);
     }
     public void deleteDonor(Long donarId) {
         Donor donor = donorRepository.findById(donarId)
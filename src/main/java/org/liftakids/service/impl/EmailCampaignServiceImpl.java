@@ -0,0 +1,426 @@
+package org.liftakids.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.dto.email.CampaignRecipientDto;
+import org.liftakids.dto.email.EmailCampaignDto;
+import org.liftakids.dto.email.EmailCampaignRequestDto;
+import org.liftakids.entity.EmailCampaign;
+import org.liftakids.entity.SentEmail;
+import org.liftakids.entity.enm.EmailCampaignStatus;
+import org.liftakids.entity.enm.InstitutionStatus;
+import org.liftakids.exception.BusinessException;
+import org.liftakids.exception.ResourceNotFoundException;
+import org.liftakids.repositories.DonorRepository;
+import org.liftakids.repositories.EmailCampaignRepository;
+import org.liftakids.repositories.InstitutionRepository;
+import org.liftakids.repositories.SentEmailRepository;
+import org.liftakids.service.CommunicationStatsService;
+import org.liftakids.service.EmailCampaignService;
+import org.liftakids.service.Util.SmtpTransportPool;
+import org.liftakids.template.EmailTemplates;
+import org.liftakids.template.Template;
+import org.liftakids.template.TemplateParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UnsupportedEncodingException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs bulk email campaigns in the background, one at a time in creation order. Recipients are streamed from
+ * the database in keyset chunks, rendered per recipient and split into one batch per pooled SMTP session.
+ * The cursor and counters are saved after every chunk, so a restart resumes the campaign and resends at most
+ * one chunk.
+ */
+@Service
+@Slf4j
+public class EmailCampaignServiceImpl implements EmailCampaignService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String TEMPLATE = "campaign";
+    private static final Set<EmailCampaignStatus> ACTIVE = EnumSet.of(EmailCampaignStatus.QUEUED, EmailCampaignStatus.RUNNING);
+    private static final Set<EmailCampaignStatus> RUNNING = EnumSet.of(EmailCampaignStatus.RUNNING);
+
+    private final EmailCampaignRepository campaignRepository;
+    private final DonorRepository donorRepository;
+    private final InstitutionRepository institutionRepository;
+    private final SentEmailRepository sentEmailRepository;
+    private final CommunicationStatsService communicationStatsService;
+    private final EmailTemplates emailTemplates;
+    private final SmtpTransportPool transportPool;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor campaignExecutor;
+    private final ExecutorService senderExecutor;
+
+    private final int chunkSize;
+    private final String fromEmail;
+    private final String appName;
+    private final String frontendUrl;
+
+    public EmailCampaignServiceImpl(EmailCampaignRepository campaignRepository,
+                                    DonorRepository donorRepository,
+                                    InstitutionRepository institutionRepository,
+                                    SentEmailRepository sentEmailRepository,
+                                    CommunicationStatsService communicationStatsService,
+                                    EmailTemplates emailTemplates,
+                                    SmtpTransportPool transportPool,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${app.email.campaign.chunk-size:200}") int chunkSize,
+                                    @Value("${app.email.from:contact@liftakid.org}") String fromEmail,
+                                    @Value("${app.name:Lift A Kids}") String appName,
+                                    @Value("${app.frontend-url:https://liftakid.org}") String frontendUrl) {
+        this.campaignRepository = campaignRepository;
+        this.donorRepository = donorRepository;
+        this.institutionRepository = institutionRepository;
+        this.sentEmailRepository = sentEmailRepository;
+        this.communicationStatsService = communicationStatsService;
+        this.emailTemplates = emailTemplates;
+        this.transportPool = transportPool;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.fromEmail = fromEmail;
+        this.appName = appName;
+        this.frontendUrl = frontendUrl;
+
+        this.campaignExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("email-campaign"));
+        this.senderExecutor = Executors.newFixedThreadPool(transportPool.size(), daemonThreads("email-campaign-sender"));
+    }
+
+    @Override
+    public EmailCampaignDto startCampaign(EmailCampaignRequestDto request, String createdBy) {
+        compile(request.getSubject(), request.getMessage());
+
+        EmailCampaign campaign = new EmailCampaign();
+        campaign.setAudience(request.getAudience());
+        campaign.setSubject(request.getSubject().trim());
+        campaign.setMessage(request.getMessage().trim());
+        campaign.setSenderName(request.getSenderName() != null && !request.getSenderName().isBlank()
+                ? request.getSenderName().trim() : null);
+        campaign.setCreatedBy(createdBy);
+        campaign.setStatus(EmailCampaignStatus.QUEUED);
+
+        switch (request.getAudience()) {
+            case ALL_DONORS -> campaign.setTotalRecipients(donorRepository.countCampaignRecipients());
+            case INSTITUTION_DONORS -> {
+                Long institutionId = request.getInstitutionId();
+                if (institutionId == null) {
+                    throw new BusinessException("institutionId is required for INSTITUTION_DONORS campaigns");
+                }
+                if (!institutionRepository.existsById(institutionId)) {
+                    throw new ResourceNotFoundException("Institution not found with id: " + institutionId);
+                }
+                campaign.setInstitutionId(institutionId);
+                campaign.setTotalRecipients(donorRepository.countCampaignRecipientsByInstitution(institutionId));
+            }
+            case APPROVED_INSTITUTIONS -> campaign.setTotalRecipients(
+                    institutionRepository.countByStatusAndEmailIsNotNull(InstitutionStatus.APPROVED));
+            case EMAIL_LIST -> {
+                Set<String> emails = new LinkedHashSet<>();
+                if (request.getToEmails() != null) {
+                    request.getToEmails().stream()
+                            .filter(email -> email != null && !email.isBlank())
+                            .forEach(email -> emails.add(email.trim()));
+                }
+                if (emails.isEmpty()) {
+                    throw new BusinessException("Recipient emails are required");
+                }
+                campaign.setRecipients(new ArrayList<>(emails));
+                campaign.setTotalRecipients(emails.size());
+            }
+        }
+
+        EmailCampaign saved = campaignRepository.save(campaign);
+        submit(saved.getId());
+        log.info("Email campaign {} queued: {} recipients ({})", saved.getId(), saved.getTotalRecipients(),
+                saved.getAudience());
+        return toDto(saved);
+    }
+
+    @Override
+    public EmailCampaignDto getCampaign(Long id) {
+        return toDto(findCampaign(id));
+    }
+
+    @Override
+    public Page<EmailCampaignDto> getCampaigns(int page, int size) {
+        return campaignRepository.findAllByOrderByIdDesc(
+                        PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)))
+                .map(this::toDto);
+    }
+
+    @Override
+    public EmailCampaignDto cancelCampaign(Long id) {
+        EmailCampaign campaign = findCampaign(id);
+        int updated = transactionTemplate.execute(tx -> campaignRepository.finish(id, ACTIVE,
+                EmailCampaignStatus.CANCELLED, LocalDateTime.now(), null));
+        if (updated == 0) {
+            throw new BusinessException("Campaign " + id + " is already " + campaign.getStatus());
+        }
+        return toDto(findCampaign(id));
+    }
+
+    // Picks up campaigns that were queued or mid-send when the application stopped
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeCampaigns() {
+        for (EmailCampaign campaign : campaignRepository.findByStatusInOrderByIdAsc(ACTIVE)) {
+            log.info("Resuming email campaign {} after key {}", campaign.getId(), campaign.getLastRecipientKey());
+            submit(campaign.getId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Interrupted campaigns stay RUNNING and resume on the next start
+        campaignExecutor.shutdownNow();
+        senderExecutor.shutdownNow();
+    }
+
+    private void submit(Long campaignId) {
+        campaignExecutor.execute(() -> run(campaignId));
+    }
+
+    private void run(Long campaignId) {
+        EmailCampaign campaign = transactionTemplate.execute(tx -> {
+            if (campaignRepository.start(campaignId, ACTIVE, EmailCampaignStatus.RUNNING, LocalDateTime.now()) == 0) {
+                return null;
+            }
+            EmailCampaign loaded = campaignRepository.findById(campaignId).orElse(null);
+            if (loaded != null) {
+                loaded.getRecipients().size();
+            }
+            return loaded;
+        });
+        if (campaign == null) {
+            return;
+        }
+
+        try {
+            Template[] templates = compile(campaign.getSubject(), campaign.getMessage());
+            long cursor = campaign.getLastRecipientKey();
+            while (true) {
+                if (campaignRepository.findStatusById(campaignId) != EmailCampaignStatus.RUNNING) {
+                    log.info("Email campaign {} stopped at key {}", campaignId, cursor);
+                    return;
+                }
+                List<CampaignRecipientDto> chunk = nextChunk(campaign, cursor);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                sendChunk(campaign, templates, chunk);
+                cursor = chunk.get(chunk.size() - 1).getKey();
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+            transactionTemplate.executeWithoutResult(tx -> campaignRepository.finish(campaignId, RUNNING,
+                    EmailCampaignStatus.COMPLETED, LocalDateTime.now(), null));
+            log.info("Email campaign {} completed", campaignId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Email campaign {} interrupted, will resume on restart", campaignId);
+        } catch (RuntimeException e) {
+            log.error("Email campaign {} failed", campaignId, e);
+            transactionTemplate.executeWithoutResult(tx -> campaignRepository.finish(campaignId, RUNNING,
+                    EmailCampaignStatus.FAILED, LocalDateTime.now(), truncate(e.getMessage(), 1000)));
+        }
+    }
+
+    private List<CampaignRecipientDto> nextChunk(EmailCampaign campaign, long afterKey) {
+        PageRequest page = PageRequest.of(0, chunkSize);
+        return switch (campaign.getAudience()) {
+            case ALL_DONORS -> donorRepository.findCampaignRecipients(afterKey, page);
+            case INSTITUTION_DONORS -> donorRepository.findCampaignRecipientsByInstitution(
+                    campaign.getInstitutionId(), afterKey, page);
+            case APPROVED_INSTITUTIONS -> institutionRepository.findCampaignRecipients(
+                    InstitutionStatus.APPROVED, afterKey, page);
+            case EMAIL_LIST -> {
+                // Key is the 1-based list position
+                List<String> emails = campaign.getRecipients();
+                int from = (int) Math.min(afterKey, emails.size());
+                int to = Math.min(from + chunkSize, emails.size());
+                List<CampaignRecipientDto> slice = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    slice.add(new CampaignRecipientDto((long) i + 1, null, emails.get(i)));
+                }
+                yield slice;
+            }
+        };
+    }
+
+    void sendChunk(EmailCampaign campaign, Template[] templates, List<CampaignRecipientDto> chunk)
+            throws InterruptedException {
+        String senderName = campaign.getSenderName() != null ? campaign.getSenderName() : appName;
+        int year = LocalDateTime.now().getYear();
+        StringBuilder buffer = new StringBuilder(1024);
+
+        List<SentEmail> records = new ArrayList<>(chunk.size());
+        List<SentEmail> pending = new ArrayList<>(chunk.size());
+        List<MimeMessage> messages = new ArrayList<>(chunk.size());
+        for (CampaignRecipientDto recipient : chunk) {
+            Map<String, Object> model = EmailTemplates.model(
+                    "name", recipient.getName() != null ? recipient.getName() : "",
+                    "email", recipient.getEmail(),
+                    "appName", appName,
+                    "frontendUrl", frontendUrl,
+                    "year", year);
+            String subject = render(templates[0], model, buffer);
+            String text = render(templates[1], model, buffer);
+
+            SentEmail record = new SentEmail();
+            record.setToEmail(recipient.getEmail());
+            record.setSubject(subject);
+            record.setMessage(text);
+            record.setSenderName(senderName);
+            record.setTemplate(TEMPLATE);
+            record.setSentAt(LocalDateTime.now());
+            records.add(record);
+
+            try {
+                String html = emailTemplates.render("custom", EmailTemplates.model(
+                        "subject", subject,
+                        "messageHtml", text.replace("\n", "<br>"),
+                        "appName", appName,
+                        "year", year)).body();
+                messages.add(buildMessage(recipient.getEmail(), senderName, subject, html));
+                pending.add(record);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                record.setSuccess(false);
+                record.setErrorMessage(truncate(e.getMessage(), 255));
+            }
+        }
+
+        // One slice per SMTP session, sent in parallel
+        int sessions = Math.min(transportPool.size(), Math.max(messages.size(), 1));
+        int sliceSize = (messages.size() + sessions - 1) / sessions;
+        List<Future<List<String>>> futures = new ArrayList<>(sessions);
+        for (int from = 0; from < messages.size(); from += sliceSize) {
+            List<MimeMessage> slice = messages.subList(from, Math.min(from + sliceSize, messages.size()));
+            futures.add(senderExecutor.submit(() -> transportPool.sendBatch(slice)));
+        }
+        int index = 0;
+        for (Future<List<String>> future : futures) {
+            List<String> errors;
+            try {
+                errors = future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("SMTP batch failed", e.getCause());
+            }
+            for (String error : errors) {
+                SentEmail record = pending.get(index++);
+                record.setSuccess(error == null);
+                record.setErrorMessage(truncate(error, 255));
+            }
+        }
+
+        long sent = records.stream().filter(SentEmail::isSuccess).count();
+        long failed = records.size() - sent;
+        String lastError = records.stream().filter(r -> !r.isSuccess()).map(SentEmail::getErrorMessage)
+                .reduce((first, second) -> second).orElse(null);
+        long cursor = chunk.get(chunk.size() - 1).getKey();
+        transactionTemplate.executeWithoutResult(tx -> {
+            sentEmailRepository.saveAll(records);
+            records.forEach(communicationStatsService::recordEmail);
+            campaignRepository.recordProgress(campaign.getId(), cursor, sent, failed, lastError);
+        });
+
+        // Every message rejected usually means the SMTP server is unreachable; stop instead of draining the list
+        if (sent == 0 && failed > 0) {
+            throw new IllegalStateException("Every message in the chunk failed: " + lastError);
+        }
+    }
+
+    private MimeMessage buildMessage(String to, String senderName, String subject, String html)
+            throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = transportPool.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(fromEmail, senderName);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setReplyTo(fromEmail);
+        helper.setText(html, true);
+        return message;
+    }
+
+    private String render(Template template, Map<String, Object> model, StringBuilder buffer) {
+        buffer.setLength(0);
+        template.render(model, buffer);
+        return buffer.toString();
+    }
+
+    // The message is admin-written HTML placed raw into the layout, as sendCustomEmail does with {{{messageHtml}}}
+    Template[] compile(String subject, String message) {
+        try {
+            return new Template[]{
+                    TemplateParser.parse(TEMPLATE + "-subject", subject, false),
+                    TemplateParser.parse(TEMPLATE + "-message", message, false)
+            };
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Invalid campaign template: " + e.getMessage());
+        }
+    }
+
+    private EmailCampaign findCampaign(Long id) {
+        return campaignRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Email campaign not found with id: " + id));
+    }
+
+    private EmailCampaignDto toDto(EmailCampaign campaign) {
+        return EmailCampaignDto.builder()
+                .id(campaign.getId())
+                .audience(campaign.getAudience())
+                .institutionId(campaign.getInstitutionId())
+                .subject(campaign.getSubject())
+                .senderName(campaign.getSenderName())
+                .createdBy(campaign.getCreatedBy())
+                .status(campaign.getStatus())
+                .totalRecipients(campaign.getTotalRecipients())
+                .sentCount(campaign.getSentCount())
+                .failedCount(campaign.getFailedCount())
+                .lastError(campaign.getLastError())
+                .createdAt(campaign.getCreatedAt())
+                .startedAt(campaign.getStartedAt())
+                .finishedAt(campaign.getFinishedAt())
+                .build();
+    }
+
+    private static String truncate(String message, int max) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > max ? message.substring(0, max) : message;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,7 +1,6 @@
 package org.liftakids.service.impl;
 
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.liftakids.dto.district.DistrictResponseDTO;
 import org.liftakids.dto.divison.DivisionResponseDTO;
@@ -19,17 +18,23 @@ import org.liftakids.entity.enm.NotificationType;
 import org.liftakids.exception.DataTruncationException;
 import org.liftakids.exception.ResourceNotFoundException;
 import org.liftakids.repositories.*;
+import org.liftakids.service.DashboardStatsService;
 import org.liftakids.service.InstitutionService;
 import org.liftakids.service.NotificationService;
-import org.modelmapper.ModelMapper;
+import org.liftakids.service.Util.AfterCommit;
+import org.liftakids.mapper.InstitutionMapper;
+import org.liftakids.mapper.StudentMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -48,14 +53,20 @@ public class InstitutionServiceImpl implements InstitutionService {
     private final SponsorshipRepository sponsorshipRepository;
      private final AdminRepository adminRepository;
     private final InstitutionRepository institutionRepository;
-    private final ModelMapper modelMapper;
+    private final InstitutionMapper institutionMapper;
+    private final StudentMapper studentMapper;
     private final NotificationService notificationService;
     private final SystemAdminRepository systemAdminRepository;
+    private final DashboardStatsService dashboardStatsService;
+    private final CacheManager cacheManager;
 
     private static final Logger log = LoggerFactory.getLogger(InstitutionServiceImpl.class.getName());
+    static final String DIRECTORY_CACHE = "institutionDirectory";
+
     @Transactional
     @Override
     public InstitutionResponseDto createInstitution(InstitutionRequestDto requestDto) {
+        evictDirectory();
         // Fetch all location entities
         Divisions division = divisionRepository.findById(requestDto.getDivisionId())
                 .orElseThrow(() -> new ResourceNotFoundException("Division not found"));
@@ -70,7 +81,7 @@ public class InstitutionServiceImpl implements InstitutionService {
                 .orElseThrow(() -> new ResourceNotFoundException("Union/Area not found"));
 
         // Map and set all properties
-        Institutions institution = modelMapper.map(requestDto, Institutions.class);
+        Institutions institution = institutionMapper.toEntity(requestDto);
 
         institution.setDivision(division);
         institution.setDistrict(district);
@@ -81,6 +92,7 @@ public class InstitutionServiceImpl implements InstitutionService {
         institution.setStatus(InstitutionStatus.PENDING);
         // Save institution
         Institutions savedInstitution  = institutionRepository.save(institution);
+        dashboardStatsService.markDirty();
 
         notificationService.sendInstitutionRegistrationNotification(savedInstitution );
 
@@ -89,7 +101,7 @@ public class InstitutionServiceImpl implements InstitutionService {
 
 
     private InstitutionResponseDto convertToDto(Institutions institution) {
-        InstitutionResponseDto dto = modelMapper.map(institution, InstitutionResponseDto.class);
+        InstitutionResponseDto dto = institutionMapper.toResponseDto(institution);
 
 
         UnionOrArea unionOrArea = institution.getUnionOrArea();
@@ -127,7 +139,7 @@ public class InstitutionServiceImpl implements InstitutionService {
 
 
     // Filtered (no pagination)
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<InstitutionBasicResponse> getByUnionOrArea(Long unionOrAreaId) {
         return institutionRepository.findByUnionOrAreaId(unionOrAreaId)
@@ -139,11 +151,31 @@ public class InstitutionServiceImpl implements InstitutionService {
     @Override
     public List<InstitutionResponseDto> getAllInstitutionsList() {
         return institutionRepository.findAll().stream()
-                .map(institution -> modelMapper.map(institution, InstitutionResponseDto.class))
+                .map(institutionMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
-   @Transactional
+    @Cacheable(cacheNames = DIRECTORY_CACHE, key = "{'all', #pageable}")
+    @Override
+    public Page<InstitutionDirectoryDto> getAllInstitutionsList(Pageable pageable) {
+        return getInstitutionDirectory(null, null, pageable);
+    }
+
+    // After commit, so a concurrent read cannot re-cache the old rows before the change is visible
+    private void evictDirectory() {
+        AfterCommit.run(() -> cacheManager.getCache(DIRECTORY_CACHE).clear());
+    }
+
+    // Cached per (status, type, page); every institution write below clears it once committed
+    @Cacheable(cacheNames = DIRECTORY_CACHE, key = "{#status, #type, #pageable}")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<InstitutionDirectoryDto> getInstitutionDirectory(InstitutionStatus status, InstitutionType type, Pageable pageable) {
+        validateSortProperties(pageable.getSort());
+        return institutionRepository.findDirectoryPage(status, type, pageable);
+    }
+
+   @Transactional(readOnly = true)
    @Override
     public Page<InstitutionBasicResponse> getAllInstitutions(Pageable pageable) {
         validateSortProperties(pageable.getSort());
@@ -305,13 +337,13 @@ public class InstitutionServiceImpl implements InstitutionService {
 //        Institutions institution = institutionRepository.findById(id)
 //                .orElseThrow(() -> new RuntimeException("Institution not found with id " + id));
 //
-//        return modelMapper.map(institution, InstitutionResponseDto.class);
+//        return institutionMapper.toResponseDto(institution);
 
         Institutions institution = institutionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Institution not found with id " + id));
 
         // Map basic properties
-        InstitutionResponseDto dto = modelMapper.map(institution, InstitutionResponseDto.class);
+        InstitutionResponseDto dto = institutionMapper.toResponseDto(institution);
 
         // Manually set the location IDs
         if (institution.getDivision() != null) {
@@ -335,10 +367,11 @@ public class InstitutionServiceImpl implements InstitutionService {
    @Transactional
     @Override
     public InstitutionResponseDto updateInstitution(Long id, UpdateInstitutionDto requestDto) {
+        evictDirectory();
         Institutions existing = institutionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Institution not found with id " + id));
 
-        modelMapper.map(requestDto, existing);
+        institutionMapper.updateEntity(requestDto, existing);
 
         UnionOrArea unionOrArea = unionOrAreaRepository.findById(requestDto.getUnionOrAreaId())
                 .orElseThrow(() -> new RuntimeException("UnionOrArea not found with id " + requestDto.getUnionOrAreaId()));
@@ -347,7 +380,7 @@ public class InstitutionServiceImpl implements InstitutionService {
         existing.setUpdateDate(LocalDateTime.now());
 
         Institutions updated = institutionRepository.save(existing);
-        return modelMapper.map(updated, InstitutionResponseDto.class);
+        return institutionMapper.toResponseDto(updated);
     }
 
     @Override
@@ -356,29 +389,38 @@ public class InstitutionServiceImpl implements InstitutionService {
             throw new RuntimeException("Institution not found with id " + id);
         }
         institutionRepository.deleteById(id);
+        dashboardStatsService.markDirty();
+        evictDirectory();
     }
 
 //    @Override
 //    public List<InstitutionResponseDto> getApprovedInstitutions() {
-//        return institutionRepository.findByApprovedByTrue()
+//        return institutionRepository.findByIsApprovedTrue()
 //                .stream()
-//                .map(institution -> modelMapper.map(institution, InstitutionResponseDto.class))
+//                .map(institution -> institutionMapper.toResponseDto(institution))
 //                .collect(Collectors.toList());
 //    }
 
     @Override
     public List<InstitutionResponseDto> getInstitutionsByType(String type) {
-        InstitutionType institutionType;
+        return institutionRepository.findByType(parseType(type))
+                .stream()
+                .map(institutionMapper::toResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    @Cacheable(cacheNames = DIRECTORY_CACHE, key = "{'type', #type.toUpperCase(), #pageable}")
+    @Override
+    public Page<InstitutionDirectoryDto> getInstitutionsByType(String type, Pageable pageable) {
+        return getInstitutionDirectory(null, parseType(type), pageable);
+    }
+
+    private static InstitutionType parseType(String type) {
         try {
-            institutionType = InstitutionType.valueOf(type.toUpperCase());
+            return InstitutionType.valueOf(type.toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Invalid Institution type: " + type);
         }
-
-        return institutionRepository.findByType(institutionType)
-                .stream()
-                .map(institution -> modelMapper.map(institution, InstitutionResponseDto.class))
-                .collect(Collectors.toList());
     }
 
     @Override
@@ -395,7 +437,7 @@ public class InstitutionServiceImpl implements InstitutionService {
             institution = institutionRepository.findByInstitutionName(value)
                     .orElseThrow(() -> new RuntimeException("Institution not found with name: " + value));
         }
-        return modelMapper.map(institution, InstitutionResponseDto.class);
+        return institutionMapper.toResponseDto(institution);
     }
 
     @Override
@@ -428,7 +470,7 @@ public class InstitutionServiceImpl implements InstitutionService {
 
 
     private StudentResponseDto convertToStudentResponseDtoWithSponsors(Student student) {
-        StudentResponseDto dto = modelMapper.map(student, StudentResponseDto.class);
+        StudentResponseDto dto = studentMapper.toResponseDto(student);
 
         // Set institution information
         dto.setInstitutionsId(student.getInstitution().getInstitutionsId());
@@ -485,6 +527,7 @@ public class InstitutionServiceImpl implements InstitutionService {
     @Override
     @Transactional
     public InstitutionResponseDto approveInstitution(Long institutionId, Long adminId, String approvalNotes) {
+        evictDirectory();
         log.info("=== APPROVE INSTITUTION START ===");
         log.info("Institution ID: {}, Admin ID: {}", institutionId, adminId);
 
@@ -515,6 +558,7 @@ public class InstitutionServiceImpl implements InstitutionService {
 
         try {
             Institutions savedInstitution = institutionRepository.save(institution);
+            dashboardStatsService.markDirty();
             log.info("✅ Save successful!");
             log.info("Saved institution status: {}", savedInstitution.getStatus());
 
@@ -553,9 +597,16 @@ public List<InstitutionResponseDto> getApprovedInstitutions() {
             .collect(Collectors.toList());
 }
 
+@Cacheable(cacheNames = DIRECTORY_CACHE, key = "{'approved', #pageable}")
+@Override
+public Page<InstitutionDirectoryDto> getApprovedInstitutions(Pageable pageable) {
+    return getInstitutionDirectory(InstitutionStatus.APPROVED, null, pageable);
+}
+
     @Override
     @Transactional
     public InstitutionResponseDto activateInstitution(Long institutionId, Long adminId) {
+        evictDirectory();
         Institutions institution = institutionRepository.findById(institutionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Institution not found"));
 
@@ -566,6 +617,7 @@ public List<InstitutionResponseDto> getApprovedInstitutions() {
         institution.setUpdateDate(LocalDateTime.now());
 
         Institutions savedInstitution = institutionRepository.save(institution);
+        dashboardStatsService.markDirty();
 
         // Send activation notification
         notificationService.createInstitutionNotification(
@@ -586,6 +638,7 @@ public List<InstitutionResponseDto> getApprovedInstitutions() {
     @Override
     @Transactional
     public InstitutionResponseDto rejectInstitution(Long institutionId, Long adminId, String rejectionReason) {
+        evictDirectory();
         // Find institution
         Institutions institution = institutionRepository.findById(institutionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Institution not found with ID: " + institutionId));
@@ -602,6 +655,7 @@ public List<InstitutionResponseDto> getApprovedInstitutions() {
         institution.setUpdateDate(LocalDateTime.now());
 
         Institutions savedInstitution = institutionRepository.save(institution);
+        dashboardStatsService.markDirty();
 
         // Send rejection notification
         notificationService.sendInstitutionRejectedNotification(savedInstitution, admin, rejectionReason);
@@ -619,7 +673,7 @@ public List<InstitutionResponseDto> getApprovedInstitutions() {
     // Helper methods
 
     private InstitutionResponseDto convertToResponseDto(Institutions institution) {
-        InstitutionResponseDto dto = modelMapper.map(institution, InstitutionResponseDto.class);
+        InstitutionResponseDto dto = institutionMapper.toResponseDto(institution);
 
         // Set location IDs
         if (institution.getDivision() != null) {
@@ -646,6 +700,7 @@ public List<InstitutionResponseDto> getApprovedInstitutions() {
     @Override
     @Transactional
     public InstitutionResponseDto suspendInstitution(Long institutionId, Long adminId, String suspensionReason) {
+        evictDirectory();
         // Find institution
         Institutions institution = institutionRepository.findById(institutionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Institution not found with ID: " + institutionId));
@@ -662,6 +717,7 @@ public List<InstitutionResponseDto> getApprovedInstitutions() {
         institution.setUpdateDate(LocalDateTime.now());
 
         Institutions savedInstitution = institutionRepository.save(institution);
+        dashboardStatsService.markDirty();
 
         // Send suspension notification
         notificationService.createInstitutionNotification(
@@ -683,20 +739,21 @@ public List<InstitutionResponseDto> getApprovedInstitutions() {
 
 
         @Override
-        @Transactional()
+        @Transactional(readOnly = true)
         public StatusStatisticsDto getStatusStatistics() {
             log.info("Fetching institution status statistics");
 
             try {
-                // Method 1: Using individual counts (more reliable)
-                Long total = countAllInstitutions();
-               Long approved = institutionRepository.countByStatus(InstitutionStatus.APPROVED);
-               // Long pending = institutionRepository.countByStatus(InstitutionStatus.PENDING);
-                Long rejected = institutionRepository.countByStatus(InstitutionStatus.REJECTED);
-                Long suspended = institutionRepository.countByStatus(InstitutionStatus.SUSPENDED);
-
-                // Method 2: Alternative using isApproved field
-                // Long approved = institutionRepository.countByIsApproved(true);
+                // One grouped query instead of a count per status
+                Map<InstitutionStatus, Long> counts = new EnumMap<>(InstitutionStatus.class);
+                for (Map<String, Object> row : institutionRepository.countByStatusGroup()) {
+                    counts.put((InstitutionStatus) row.get("status"), ((Number) row.get("count")).longValue());
+                }
+
+                Long total = counts.values().stream().mapToLong(Long::longValue).sum();
+                Long approved = counts.getOrDefault(InstitutionStatus.APPROVED, 0L);
+                Long rejected = counts.getOrDefault(InstitutionStatus.REJECTED, 0L);
+                Long suspended = counts.getOrDefault(InstitutionStatus.SUSPENDED, 0L);
                  Long pending = total - approved - rejected - suspended;
 
                 StatusStatisticsDto stats = new StatusStatisticsDto();
@@ -719,11 +776,6 @@ public List<InstitutionResponseDto> getApprovedInstitutions() {
             }
         }
 
-        // Helper method if countAll() doesn't exist
-        private Long countAllInstitutions() {
-            return institutionRepository.count();
-        }
-
 
 
 }
@@ -2,7 +2,6 @@ package org.liftakids.service.impl;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.liftakids.entity.*;
@@ -13,6 +12,7 @@ import org.liftakids.repositories.AdminRepository;
 import org.liftakids.repositories.NotificationRepository;
 import org.liftakids.service.NotificationService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -26,17 +26,20 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final AdminRepository adminRepository;
     // ============= EXISTING DONOR METHODS =============
+    @Transactional(readOnly = true)
     @Override
     public List<Notification> getDonorNotifications(Long donorId) {
         return notificationRepository.findByDonorDonorIdOrderByCreatedAtDesc(donorId);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<Notification> getUnreadNotifications(Long donorId) {
         return notificationRepository.findByDonorDonorIdAndStatusOrderByCreatedAtDesc(
                 donorId, NotificationStatus.UNREAD);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Long getUnreadCount(Long donorId) {
         return notificationRepository.countByDonorDonorIdAndStatus(
@@ -72,17 +75,20 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     // ============= NEW INSTITUTION METHODS =============
+    @Transactional(readOnly = true)
     @Override
     public List<Notification> getInstitutionNotifications(Long institutionsId) {
         return notificationRepository.findByInstitutionInstitutionsIdOrderByCreatedAtDesc(institutionsId);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<Notification> getUnreadNotificationsForInstitution(Long institutionsId) {
         return notificationRepository.findByInstitutionInstitutionsIdAndStatusOrderByCreatedAtDesc(
                 institutionsId, NotificationStatus.UNREAD);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Long getUnreadCountForInstitution(Long institutionId) {
         return notificationRepository.countByInstitutionInstitutionsIdAndStatus(
@@ -659,6 +665,7 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     // ============= USER TYPE BASED METHODS =============
+    @Transactional(readOnly = true)
     @Override
     public List<Notification> getNotificationsByUserType(String userType, Long userId) {
         if ("DONOR".equalsIgnoreCase(userType)) {
@@ -672,6 +679,7 @@ public class NotificationServiceImpl implements NotificationService {
         throw new IllegalArgumentException("Invalid user type: " + userType);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Long getUnreadCountByUserType(String userType, Long userId) {
         if ("DONOR".equalsIgnoreCase(userType)) {
@@ -689,6 +697,7 @@ public class NotificationServiceImpl implements NotificationService {
 
 
     // Admin notifications methods
+    @Transactional(readOnly = true)
     public List<Notification> getAdminNotifications(Long adminId) {
         if (adminId != null) {
             // Get notifications for specific admin
@@ -13,9 +13,12 @@ import org.liftakids.repositories.DonorRepository;
 import org.liftakids.repositories.PaymentRepository;
 import org.liftakids.repositories.SponsorshipRepository;
 import org.liftakids.repositories.StudentRepository;
+import org.liftakids.service.DashboardStatsService;
 import org.liftakids.service.PaymentService;
 import org.liftakids.service.Util.EmailService;
-import org.modelmapper.ModelMapper;
+import org.liftakids.mapper.PaymentMapper;
+import org.liftakids.monitoring.DomainMetrics;
+import org.liftakids.service.Util.AfterCommit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -31,6 +34,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,15 +42,21 @@ import java.util.stream.Collectors;
 public class PaymentServiceImpl implements PaymentService {
     private final PaymentRepository paymentRepository;
     private final SponsorshipRepository sponsorshipRepository;
-    private final ModelMapper modelMapper;
+    private final PaymentMapper paymentMapper;
     private final StudentServiceImpl studentService;
     private final StudentRepository studentRepository;
     private final DonorRepository donorRepository;
     private final EmailService emailService;
+    private final DashboardStatsService dashboardStatsService;
+    private final DomainMetrics domainMetrics;
     private static final Logger log = LoggerFactory.getLogger(PaymentServiceImpl.class);
     @Override
     @Transactional
     public PaymentResponseDto processPayment(PaymentRequestDto request) {
+        return recordOutcome(request.getPaymentMethod(), () -> doProcessPayment(request));
+    }
+
+    private PaymentResponseDto doProcessPayment(PaymentRequestDto request) {
         // Validate request
         if (request.getSponsorshipId() == null || request.getEndDate() == null || request.getAmount() == null) {
             throw new BusinessException("Required payment fields cannot be null");
@@ -65,6 +75,7 @@ public class PaymentServiceImpl implements PaymentService {
         // Save and return
         paymentRepository.save(payment);
         sponsorshipRepository.save(sponsorship);
+        dashboardStatsService.markDirty();
         return convertToDto(payment);
     }
 
@@ -271,7 +282,7 @@ public class PaymentServiceImpl implements PaymentService {
 //    }
 
     private PaymentResponseDto convertToDto(Payment payment) {
-        PaymentResponseDto dto = modelMapper.map(payment, PaymentResponseDto.class);
+        PaymentResponseDto dto = paymentMapper.toResponseDto(payment);
         dto.setSponsorshipId(payment.getSponsorship().getId());
         dto.setStudentName(payment.getSponsorship().getStudent().getStudentName());
         dto.setDonorName(payment.getSponsorship().getDonor().getName());
@@ -380,13 +391,37 @@ public class PaymentServiceImpl implements PaymentService {
         // Save changes
         paymentRepository.save(payment);
         sponsorshipRepository.save(sponsorship);
+        dashboardStatsService.markDirty();
 
         // Send confirmation email
         sendPaymentConfirmationEmail(payment, request.getNotes());
 
+        recordProcessed(payment.getPaymentMethod());
         return convertToDto(payment);
     }
 
+    // Outcomes are counted once the transaction is over: validation rejections separately,
+    // everything else as processed on commit or failed on rollback
+    private PaymentResponseDto recordOutcome(PaymentMethod method, Supplier<PaymentResponseDto> work) {
+        PaymentResponseDto payment;
+        try {
+            payment = work.get();
+        } catch (BusinessException | ResourceNotFoundException | IllegalArgumentException e) {
+            domainMetrics.paymentRejected(method);
+            throw e;
+        } catch (RuntimeException e) {
+            Runnable failed = () -> domainMetrics.paymentFailed(method);
+            AfterCommit.run(failed, failed);
+            throw e;
+        }
+        recordProcessed(method);
+        return payment;
+    }
+
+    private void recordProcessed(PaymentMethod method) {
+        AfterCommit.run(() -> domainMetrics.paymentProcessed(method), () -> domainMetrics.paymentFailed(method));
+    }
+
     // Get payments by student and institution
     @Override
     public List<PaymentResponseDto> getPaymentsByStudentAndInstitution(Long studentId, Long institutionId) {
@@ -488,6 +523,10 @@ public class PaymentServiceImpl implements PaymentService {
     @Override
     @Transactional
     public PaymentResponseDto processInstitutionManualPayment(PaymentRequestDto request) {
+        return recordOutcome(PaymentMethod.MANUAL, () -> doProcessInstitutionManualPayment(request));
+    }
+
+    private PaymentResponseDto doProcessInstitutionManualPayment(PaymentRequestDto request) {
         // Validate required fields
         if (request.getStudentId() == null || request.getDonorId() == null ||
                 request.getStartDate() == null || request.getEndDate() == null ||
@@ -560,6 +599,7 @@ public class PaymentServiceImpl implements PaymentService {
         // Save changes
         paymentRepository.save(payment);
         sponsorshipRepository.save(sponsorship);
+        dashboardStatsService.markDirty();
 
         // Send confirmation email to donor using simple email service
         try {
@@ -569,7 +609,8 @@ public class PaymentServiceImpl implements PaymentService {
                     student.getStudentName(),
                     payment.getAmount(),
                     payment.getPaidPeriod(),
-                    payment.getReceiptNumber()
+                    payment.getReceiptNumber(),
+                    donor.getPreferredLocale()
             );
         } catch (Exception e) {
             log.warn("Failed to send confirmation email, but payment was processed successfully. Error: {}", e.getMessage());
@@ -605,8 +646,8 @@ public class PaymentServiceImpl implements PaymentService {
             paymentRequest.setSponsorshipId(request.getSponsorshipId());
         }
 
-        // Use existing method
-        return processInstitutionManualPayment(paymentRequest);
+        // Same path as processInstitutionManualPayment, counted here since a self-call skips the proxy
+        return recordOutcome(PaymentMethod.MANUAL, () -> doProcessInstitutionManualPayment(paymentRequest));
     }
     private Sponsorship findOrCreateSponsorship(Student student, Donor donor, PaymentRequestDto request) {
         // Try to find existing active sponsorship
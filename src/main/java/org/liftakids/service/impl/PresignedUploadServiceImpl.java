@@ -0,0 +1,205 @@
+package org.liftakids.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.dto.upload.PresignedUploadRequestDto;
+import org.liftakids.dto.upload.PresignedUploadResponseDto;
+import org.liftakids.dto.upload.UploadCompletionRequestDto;
+import org.liftakids.dto.upload.UploadCompletionResponseDto;
+import org.liftakids.entity.Payment;
+import org.liftakids.entity.Student;
+import org.liftakids.entity.enm.UploadFolder;
+import org.liftakids.exception.BusinessException;
+import org.liftakids.exception.ResourceNotFoundException;
+import org.liftakids.repositories.PaymentRepository;
+import org.liftakids.repositories.StudentRepository;
+import org.liftakids.service.PresignedUploadService;
+import org.liftakids.service.S3Service;
+import org.liftakids.service.StudentRankingFeedService;
+import org.liftakids.service.Util.StudentPhotoProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PresignedUploadServiceImpl implements PresignedUploadService {
+
+    private static final Duration URL_TTL = Duration.ofMinutes(10);
+    private static final Pattern KEY_NAME = Pattern.compile("[0-9a-f\\-]{36}\\.[a-z0-9]{2,5}");
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/webp", "webp",
+            "application/pdf", "pdf",
+            "application/msword", "doc",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document", "docx");
+
+    private final S3Presigner s3Presigner;
+    private final S3Client s3Client;
+    private final S3Service s3Service;
+    private final StudentRepository studentRepository;
+    private final PaymentRepository paymentRepository;
+    private final StudentRankingFeedService studentRankingFeedService;
+    private final StudentPhotoProcessor studentPhotoProcessor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${cloud.r2.public-url}")
+    private String publicUrl;
+
+    @Override
+    public PresignedUploadResponseDto createUpload(PresignedUploadRequestDto request) {
+        UploadFolder folder = request.getFolder();
+        String contentType = request.getContentType().toLowerCase();
+
+        if (!folder.getAllowedContentTypes().contains(contentType)) {
+            throw new BusinessException("Content type " + contentType + " is not allowed for " + folder);
+        }
+        if (request.getContentLength() > folder.getMaxSizeBytes()) {
+            throw new BusinessException("File size exceeds " + (folder.getMaxSizeBytes() / (1024 * 1024)) + "MB limit");
+        }
+
+        String key = folder.getPrefix() + "/" + UUID.randomUUID() + "." + EXTENSIONS.get(contentType);
+
+        // Content type and length are signed, so the client cannot upload anything else with this URL
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(request.getContentLength())
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(builder -> builder
+                .signatureDuration(URL_TTL)
+                .putObjectRequest(putObjectRequest));
+
+        return PresignedUploadResponseDto.builder()
+                .uploadUrl(presigned.url().toString())
+                .method("PUT")
+                .headers(Map.of(
+                        "Content-Type", contentType,
+                        "Content-Length", String.valueOf(request.getContentLength())))
+                .key(key)
+                // Student photos are only published once processed, see completeUpload
+                .fileUrl(folder == UploadFolder.STUDENT_PHOTOS ? null : publicUrl + "/" + key)
+                .expiresAt(presigned.expiration())
+                .build();
+    }
+
+    // Not transactional: the S3 calls and image work run without holding a connection, only linking does
+    @Override
+    public UploadCompletionResponseDto completeUpload(UploadCompletionRequestDto request) {
+        UploadFolder folder = request.getFolder();
+        String key = request.getKey();
+
+        // Only keys we issued for this folder can be linked to an entity
+        String prefix = folder.getPrefix() + "/";
+        if (!key.startsWith(prefix) || !KEY_NAME.matcher(key.substring(prefix.length())).matches()) {
+            throw new BusinessException("Invalid upload key for " + folder);
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(builder -> builder.bucket(bucketName).key(key));
+        } catch (NoSuchKeyException e) {
+            throw new ResourceNotFoundException("Uploaded file not found: " + key);
+        }
+
+        String contentType = head.contentType() != null ? head.contentType().toLowerCase() : "";
+        if (!folder.getAllowedContentTypes().contains(contentType) || head.contentLength() > folder.getMaxSizeBytes()) {
+            deleteQuietly(key);
+            throw new BusinessException("Uploaded file does not match the allowed type or size for " + folder);
+        }
+
+        if (folder == UploadFolder.STUDENT_PHOTOS) {
+            StudentPhotoProcessor.Variants variants = linkStudentPhoto(request.getTargetId(), key);
+            String photoKey = variants.photoUrl().substring(publicUrl.length() + 1);
+            return new UploadCompletionResponseDto(photoKey, variants.photoUrl(), "image/jpeg",
+                    head.contentLength(), request.getTargetId());
+        }
+
+        String fileUrl = publicUrl + "/" + key;
+        // Without a payment id the URL is returned and sent along with the payment request
+        if (folder == UploadFolder.RECEIPTS && request.getTargetId() != null) {
+            transactionTemplate.executeWithoutResult(status -> linkReceipt(request.getTargetId(), fileUrl));
+        }
+        // Documents are referenced by URL from the calling form, nothing to link here
+        return new UploadCompletionResponseDto(key, fileUrl, contentType, head.contentLength(), request.getTargetId());
+    }
+
+    // Same pipeline as a server-side upload: re-encoded variants without EXIF/GPS, then the raw object is removed
+    private StudentPhotoProcessor.Variants linkStudentPhoto(Long studentId, String rawKey) {
+        if (studentId == null) {
+            deleteQuietly(rawKey);
+            throw new BusinessException("Student id is required for student photos");
+        }
+        String studentName = studentRepository.findById(studentId)
+                .map(Student::getStudentName)
+                .orElseThrow(() -> {
+                    deleteQuietly(rawKey);
+                    return new ResourceNotFoundException("Student not found with id: " + studentId);
+                });
+
+        StudentPhotoProcessor.Variants variants;
+        try {
+            byte[] raw = s3Client.getObjectAsBytes(builder -> builder.bucket(bucketName).key(rawKey)).asByteArray();
+            variants = studentPhotoProcessor.process(raw, studentName);
+        } finally {
+            deleteQuietly(rawKey);
+        }
+
+        Boolean linked = transactionTemplate.execute(status -> {
+            Student student = studentRepository.findById(studentId).orElse(null);
+            if (student == null) {
+                return false;
+            }
+            if (student.getPhotoUrl() != null) {
+                s3Service.deleteStudentPhoto(student.getPhotoUrl(), student.getPhotoCardUrl(), student.getPhotoThumbUrl());
+            }
+            student.setPhotoUrl(variants.photoUrl());
+            student.setPhotoCardUrl(variants.cardUrl());
+            student.setPhotoThumbUrl(variants.thumbUrl());
+            studentRepository.save(student);
+            studentRankingFeedService.refreshStudent(student);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(linked)) {
+            // Deleted while the photo was processed
+            s3Service.deleteStudentPhoto(variants.photoUrl(), variants.cardUrl(), variants.thumbUrl());
+            throw new ResourceNotFoundException("Student not found with id: " + studentId);
+        }
+        return variants;
+    }
+
+    private void linkReceipt(Long paymentId, String fileUrl) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Payment not found with id: " + paymentId));
+        payment.setReceiptUrl(fileUrl);
+        paymentRepository.save(payment);
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucketName).key(key).build());
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete rejected upload {}: {}", key, e.getMessage());
+        }
+    }
+}
@@ -1,41 +1,138 @@
 package org.liftakids.service.impl;
 
 import lombok.RequiredArgsConstructor;
-import net.sourceforge.tess4j.Tesseract;
-import net.sourceforge.tess4j.TesseractException;
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.dto.resultReport.OcrJobResponseDto;
 import org.liftakids.dto.resultReport.ResultReportRequestDto;
 import org.liftakids.dto.resultReport.ResultReportResponseDto;
 import org.liftakids.dto.resultReport.SubjectMarkDto;
+import org.liftakids.entity.OcrJob;
 import org.liftakids.entity.ResultReport;
 import org.liftakids.entity.Student;
 import org.liftakids.entity.SubjectMark;
+import org.liftakids.entity.enm.OcrJobStatus;
+import org.liftakids.exception.BusinessException;
+import org.liftakids.exception.ResourceNotFoundException;
+import org.liftakids.repositories.OcrJobRepository;
 import org.liftakids.repositories.ResultReportRepository;
 import org.liftakids.repositories.StudentRepository;
 import org.liftakids.repositories.SubjectMarkRepository;
 import org.liftakids.service.ResultReportService;
+import org.liftakids.service.Util.OcrEnginePool;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ResultReportServiceImpl implements ResultReportService {
 
     private final ResultReportRepository resultReportRepository;
     private final SubjectMarkRepository subjectMarkRepository;
     private final StudentRepository studentRepository;
+    private final OcrJobRepository ocrJobRepository;
+    private final OcrEnginePool ocrEnginePool;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
-    public ResultReportResponseDto uploadResult(ResultReportRequestDto dto) {
-        Student student = studentRepository.findById(dto.getStudentId())
-                .orElseThrow(() -> new RuntimeException("Student not found"));
+    public OcrJobResponseDto uploadResult(ResultReportRequestDto dto) {
+        if (!studentRepository.existsById(dto.getStudentId())) {
+            throw new ResourceNotFoundException("Student not found");
+        }
+
+        // Read the upload on the request thread; the multipart temp file is gone once the request ends
+        byte[] imageBytes;
+        try {
+            imageBytes = dto.getResultImage().getBytes();
+        } catch (IOException e) {
+            throw new BusinessException("Failed to read result image");
+        }
+
+        OcrJob job = new OcrJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setStudentId(dto.getStudentId());
+        job.setStatus(OcrJobStatus.QUEUED);
+        job.setOriginalFilename(dto.getResultImage().getOriginalFilename());
+        OcrJob saved = ocrJobRepository.save(job);
+
+        try {
+            ocrEnginePool.recognize(imageBytes, () -> markJob(saved.getId(), OcrJobStatus.RUNNING, null, null))
+                    // On the worker that just finished: a second hand-off to the bounded pool could be rejected
+                    .thenAccept(text -> completeJob(saved.getId(), text))
+                    .exceptionally(ex -> {
+                        failJob(saved.getId(), ex);
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            ocrJobRepository.delete(saved);
+            throw new BusinessException("OCR queue is full, please try again later");
+        }
 
-        String text = extractTextFromImage(dto.getResultImage());
+        return buildJobDto(saved, null);
+    }
+
+    @Override
+    public OcrJobResponseDto getJob(String jobId) {
+        OcrJob job = ocrJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("OCR job not found with id: " + jobId));
+
+        ResultReportResponseDto result = null;
+        if (job.getResultReportId() != null) {
+            result = transactionTemplate.execute(status -> resultReportRepository.findById(job.getResultReportId())
+                    .map(this::buildResponseDto)
+                    .orElse(null));
+        }
+        return buildJobDto(job, result);
+    }
+
+    private void completeJob(String jobId, String text) {
+        Long reportId = transactionTemplate.execute(status -> {
+            OcrJob job = ocrJobRepository.findById(jobId)
+                    .orElseThrow(() -> new ResourceNotFoundException("OCR job not found with id: " + jobId));
+            Student student = studentRepository.findById(job.getStudentId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
+            return saveReport(student, text).getId();
+        });
+
+        markJob(jobId, OcrJobStatus.COMPLETED, reportId, null);
+    }
 
+    private void failJob(String jobId, Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        log.warn("OCR job {} failed: {}", jobId, cause.getMessage());
+        try {
+            markJob(jobId, OcrJobStatus.FAILED, null, cause.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Could not record failure for OCR job {}", jobId, e);
+        }
+    }
+
+    private void markJob(String jobId, OcrJobStatus status, Long reportId, String errorMessage) {
+        transactionTemplate.executeWithoutResult(tx -> ocrJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            if (status == OcrJobStatus.RUNNING) {
+                job.setStartedAt(LocalDateTime.now());
+            } else {
+                job.setCompletedAt(LocalDateTime.now());
+                job.setResultReportId(reportId);
+                if (errorMessage != null) {
+                    job.setErrorMessage(errorMessage.length() > 1000 ? errorMessage.substring(0, 1000) : errorMessage);
+                }
+            }
+            ocrJobRepository.save(job);
+        }));
+    }
+
+    private ResultReport saveReport(Student student, String text) {
         // Parse extracted text
         String exam = extractValue(text, "Exam:");
         String term = extractValue(text, "Term:");
@@ -59,9 +156,7 @@ public class ResultReportServiceImpl implements ResultReportService {
         }
 
         report.setSubjectMarks(subjectMarks);
-        ResultReport saved = resultReportRepository.save(report);
-
-        return buildResponseDto(saved);
+        return resultReportRepository.save(report);
     }
 
     @Override
@@ -76,19 +171,6 @@ public class ResultReportServiceImpl implements ResultReportService {
         return dtos;
     }
 
-    private String extractTextFromImage(org.springframework.web.multipart.MultipartFile file) {
-        try {
-            File tempFile = File.createTempFile("ocr_", "_" + file.getOriginalFilename());
-            file.transferTo(tempFile);
-
-            Tesseract tesseract = new Tesseract();
-            tesseract.setDatapath("src/main/resources/tessdata");
-            return tesseract.doOCR(tempFile);
-        } catch (IOException | TesseractException e) {
-            throw new RuntimeException("Failed to extract text", e);
-        }
-    }
-
     private String extractValue(String text, String key) {
         for (String line : text.split("\n")) {
             if (line.startsWith(key)) {
@@ -120,6 +202,18 @@ public class ResultReportServiceImpl implements ResultReportService {
         return list;
     }
 
+    private OcrJobResponseDto buildJobDto(OcrJob job, ResultReportResponseDto result) {
+        return OcrJobResponseDto.builder()
+                .jobId(job.getId())
+                .studentId(job.getStudentId())
+                .status(job.getStatus())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .errorMessage(job.getErrorMessage())
+                .result(result)
+                .build();
+    }
+
     private ResultReportResponseDto buildResponseDto(ResultReport report) {
         ResultReportResponseDto dto = new ResultReportResponseDto();
         dto.setExamName(report.getExam());
@@ -0,0 +1,228 @@
+package org.liftakids.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.dto.email.SentEmailArchiveReportDto;
+import org.liftakids.dto.email.SentEmailSummaryDto;
+import org.liftakids.entity.SentEmail;
+import org.liftakids.entity.SentEmailArchiveSegment;
+import org.liftakids.repositories.SentEmailArchiveSegmentRepository;
+import org.liftakids.repositories.SentEmailRepository;
+import org.liftakids.service.SentEmailArchiveService;
+import org.liftakids.service.Util.SentEmailArchiveStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Moves sent emails older than the retention period out of the database into gzip JSONL segments,
+ * one email per line, bodies included. Each segment is stored before its rows are deleted, and the
+ * segment row (id range plus distinct recipients) is committed in the same transaction as the delete,
+ * so an email is always either in the table or reachable through the index.
+ */
+@Service
+@Slf4j
+public class SentEmailArchiveServiceImpl implements SentEmailArchiveService {
+
+    private static final String KEY_PREFIX = "archive/sent-emails/";
+    private static final DateTimeFormatter MONTH_PATH = DateTimeFormatter.ofPattern("yyyy/MM");
+
+    private final SentEmailRepository sentEmailRepository;
+    private final SentEmailArchiveSegmentRepository segmentRepository;
+    private final SentEmailArchiveStore archiveStore;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int segmentSize;
+    private final int maxRecipientSegments;
+
+    public SentEmailArchiveServiceImpl(SentEmailRepository sentEmailRepository,
+                                       SentEmailArchiveSegmentRepository segmentRepository,
+                                       SentEmailArchiveStore archiveStore,
+                                       ObjectMapper objectMapper,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${app.email-archive.enabled:true}") boolean enabled,
+                                       @Value("${app.email-archive.retention-days:180}") int retentionDays,
+                                       @Value("${app.email-archive.segment-size:2000}") int segmentSize,
+                                       @Value("${app.email-archive.max-recipient-segments:20}") int maxRecipientSegments) {
+        this.sentEmailRepository = sentEmailRepository;
+        this.segmentRepository = segmentRepository;
+        this.archiveStore = archiveStore;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.segmentSize = segmentSize;
+        this.maxRecipientSegments = maxRecipientSegments;
+    }
+
+    @Scheduled(cron = "${app.email-archive.cron:0 0 5 * * ?}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archiveOldEmails();
+        }
+    }
+
+    @Override
+    public SentEmailArchiveReportDto archiveOldEmails() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Sent email archival already running, skipping");
+            return null;
+        }
+        try {
+            return archive();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private SentEmailArchiveReportDto archive() {
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        SentEmailArchiveReportDto report = new SentEmailArchiveReportDto();
+        report.setCutoff(cutoff);
+        report.setStore(archiveStore.target());
+
+        while (true) {
+            List<SentEmail> batch = sentEmailRepository.findArchivableBefore(cutoff, PageRequest.of(0, segmentSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            SentEmailArchiveSegment segment = writeSegment(batch);
+            List<Long> ids = batch.stream().map(SentEmail::getId).toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                segmentRepository.save(segment);
+                sentEmailRepository.deleteAllByIdInBatch(ids);
+            });
+
+            report.setSegmentsWritten(report.getSegmentsWritten() + 1);
+            report.setEmailsArchived(report.getEmailsArchived() + batch.size());
+            report.setCompressedBytes(report.getCompressedBytes() + segment.getCompressedBytes());
+            if (batch.size() < segmentSize) {
+                break;
+            }
+        }
+
+        report.setDurationMillis(System.currentTimeMillis() - start);
+        log.info("Sent email archival finished: {}", report);
+        return report;
+    }
+
+    private SentEmailArchiveSegment writeSegment(List<SentEmail> batch) {
+        SentEmail first = batch.get(0);
+        SentEmail last = batch.get(batch.size() - 1);
+        // Deterministic key: a run that stored the file but failed to commit simply overwrites it next time
+        String key = KEY_PREFIX + first.getSentAt().format(MONTH_PATH)
+                + "/sent-emails-" + first.getId() + "-" + last.getId() + ".jsonl.gz";
+
+        SentEmailArchiveSegment segment = new SentEmailArchiveSegment();
+        segment.setStore(archiveStore.target());
+        segment.setStorageKey(key);
+        segment.setFirstEmailId(first.getId());
+        segment.setLastEmailId(last.getId());
+        segment.setEmailCount(batch.size());
+
+        Path file = null;
+        try {
+            file = archiveStore.createTempFile();
+            LocalDateTime firstSentAt = first.getSentAt();
+            LocalDateTime lastSentAt = first.getSentAt();
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024)) {
+                for (SentEmail email : batch) {
+                    out.write(objectMapper.writeValueAsBytes(email));
+                    out.write('\n');
+                    segment.getRecipients().add(email.getToEmail());
+                    if (email.getSentAt().isBefore(firstSentAt)) {
+                        firstSentAt = email.getSentAt();
+                    }
+                    if (email.getSentAt().isAfter(lastSentAt)) {
+                        lastSentAt = email.getSentAt();
+                    }
+                }
+            }
+            segment.setFirstSentAt(firstSentAt);
+            segment.setLastSentAt(lastSentAt);
+            segment.setCompressedBytes(Files.size(file));
+            archiveStore.store(key, file);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write sent email archive segment " + key, e);
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ignored) {
+                    // temp file, cleaned up by the OS eventually
+                }
+            }
+        }
+    }
+
+    @Override
+    public Optional<SentEmail> findArchived(Long id) {
+        for (SentEmailArchiveSegment segment : segmentRepository.findContaining(id)) {
+            List<SentEmail> found = scan(segment, email -> id.equals(email.getId()), 1);
+            if (!found.isEmpty()) {
+                return Optional.of(found.get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<SentEmailSummaryDto> findArchivedByRecipient(String email) {
+        List<SentEmailSummaryDto> result = new ArrayList<>();
+        for (SentEmailArchiveSegment segment : segmentRepository.findByRecipient(email,
+                PageRequest.of(0, maxRecipientSegments))) {
+            for (SentEmail archived : scan(segment, e -> email.equals(e.getToEmail()), Integer.MAX_VALUE)) {
+                result.add(new SentEmailSummaryDto(archived.getId(), archived.getToEmail(), archived.getSubject(),
+                        archived.getSenderName(), archived.getTemplate(), archived.getSentAt(),
+                        archived.isSuccess(), archived.getErrorMessage()));
+            }
+        }
+        result.sort((a, b) -> b.getSentAt().compareTo(a.getSentAt()));
+        return result;
+    }
+
+    private List<SentEmail> scan(SentEmailArchiveSegment segment, Predicate<SentEmail> filter, int limit) {
+        List<SentEmail> matches = new ArrayList<>();
+        try (InputStream in = archiveStore.open(segment.getStore(), segment.getStorageKey());
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(new GZIPInputStream(in, 64 * 1024), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null && matches.size() < limit) {
+                SentEmail email = objectMapper.readValue(line, SentEmail.class);
+                if (filter.test(email)) {
+                    matches.add(email);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read sent email archive segment " + segment.getStorageKey(), e);
+        }
+        return matches;
+    }
+}
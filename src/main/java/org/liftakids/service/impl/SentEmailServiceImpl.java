@@ -1,9 +1,14 @@
 package org.liftakids.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.liftakids.dto.email.SentEmailSummaryDto;
 import org.liftakids.entity.SentEmail;
 import org.liftakids.repositories.SentEmailRepository;
+import org.liftakids.service.CommunicationStatsService;
+import org.liftakids.service.SentEmailArchiveService;
 import org.liftakids.service.SentEmailService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -14,32 +19,33 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class SentEmailServiceImpl implements SentEmailService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final SentEmailRepository sentEmailRepository;
+    private final CommunicationStatsService communicationStatsService;
+    private final SentEmailArchiveService sentEmailArchiveService;
 
     public SentEmail saveSentEmail(SentEmail sentEmail) {
-        return sentEmailRepository.save(sentEmail);
+        SentEmail saved = sentEmailRepository.save(sentEmail);
+        communicationStatsService.recordEmail(saved);
+        return saved;
     }
 
-    public List<SentEmail> getAllSentEmails() {
-        return sentEmailRepository.findAllByOrderBySentAtDesc();
+    public Page<SentEmailSummaryDto> searchSentEmails(String recipient, Boolean success, LocalDateTime from,
+                                                      LocalDateTime to, int page, int size) {
+        String email = recipient == null || recipient.isBlank() ? null : recipient.trim();
+        return sentEmailRepository.searchSummaries(email, success, from, to,
+                PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
     }
 
+    // Falls back to the archive for emails that have been moved out of the table
     public Optional<SentEmail> getSentEmailById(Long id) {
-        return sentEmailRepository.findById(id);
-    }
-
-    public List<SentEmail> getSentEmailsByRecipient(String email) {
-        return sentEmailRepository.findByToEmailOrderBySentAtDesc(email);
+        Optional<SentEmail> live = sentEmailRepository.findById(id);
+        return live.isPresent() ? live : sentEmailArchiveService.findArchived(id);
     }
 
-    public List<SentEmail> getRecentSentEmails() {
-        return sentEmailRepository.findTop10ByOrderBySentAtDesc();
-    }
-
-    public List<SentEmail> getTodaySentEmails() {
-        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfDay = LocalDateTime.now().withHour(23).withMinute(59).withSecond(59);
-        return sentEmailRepository.findBySentAtBetweenOrderBySentAtDesc(startOfDay, endOfDay);
+    public List<SentEmailSummaryDto> getRecentSentEmails() {
+        return sentEmailRepository.findRecentSummaries(PageRequest.of(0, 10));
     }
 
     public long getTotalSentEmailsCount() {
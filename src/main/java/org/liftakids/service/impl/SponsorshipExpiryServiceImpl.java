@@ -7,9 +7,12 @@ import org.liftakids.entity.*;
 import org.liftakids.entity.enm.NotificationStatus;
 import org.liftakids.entity.enm.NotificationType;
 import org.liftakids.entity.enm.UserType;
+import org.liftakids.monitoring.DomainMetrics;
 import org.liftakids.repositories.NotificationRepository;
 import org.liftakids.repositories.SponsorshipRepository;
+import org.liftakids.service.DashboardStatsService;
 import org.liftakids.service.SponsorshipExpiryService;
+import org.liftakids.service.Util.AfterCommit;
 import org.liftakids.service.Util.EmailService;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -26,6 +29,8 @@ public class SponsorshipExpiryServiceImpl implements SponsorshipExpiryService {
     private final SponsorshipRepository sponsorshipRepository;
     private final NotificationRepository notificationRepository;
     private final EmailService emailService;
+    private final DashboardStatsService dashboardStatsService;
+    private final DomainMetrics domainMetrics;
 
     @Scheduled(cron = "0 0 2 * * ?") // প্রতিদিন রাত 2টায়
     @Transactional
@@ -74,6 +79,9 @@ public class SponsorshipExpiryServiceImpl implements SponsorshipExpiryService {
                 // Save all changes
                 sponsorshipRepository.saveAll(expired);
                 notificationRepository.saveAll(notifications);
+                dashboardStatsService.markDirty();
+                int expiredCount = expired.size();
+                AfterCommit.run(() -> domainMetrics.sponsorshipsExpired(expiredCount));
 
                 log.info("✅ Successfully processed {} expired sponsorships with notifications",
                         expired.size());
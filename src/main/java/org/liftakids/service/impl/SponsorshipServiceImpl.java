@@ -14,7 +14,7 @@ import org.liftakids.repositories.DonorRepository;
 import org.liftakids.repositories.SponsorshipRepository;
 import org.liftakids.repositories.StudentRepository;
 import org.liftakids.service.SponsorshipService;
-import org.modelmapper.ModelMapper;
+import org.liftakids.mapper.SponsorshipMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -34,7 +34,7 @@ public class SponsorshipServiceImpl implements SponsorshipService {
     private final SponsorshipRepository sponsorshipRepository;
     private final DonorRepository donorRepository;
     private final StudentRepository studentRepository;
-    private final ModelMapper modelMapper;
+    private final SponsorshipMapper sponsorshipMapper;
     private final StudentServiceImpl studentService;
 
     @Override
@@ -57,7 +57,7 @@ public class SponsorshipServiceImpl implements SponsorshipService {
 
         if (existingSponsorship.isPresent()) {
             Sponsorship sponsorship = existingSponsorship.get();
-            SponsorshipResponseDto response = modelMapper.map(sponsorship, SponsorshipResponseDto.class);
+            SponsorshipResponseDto response = sponsorshipMapper.toResponseDto(sponsorship);
             response.setMessage("Sponsorship already exists for this period. You can make additional payments to this sponsorship.");
             return response;
         }
@@ -94,7 +94,7 @@ public class SponsorshipServiceImpl implements SponsorshipService {
         sponsorship.setEndDate(adjustedEndDate);
 
         Sponsorship saved = sponsorshipRepository.save(sponsorship);
-        SponsorshipResponseDto response = modelMapper.map(saved, SponsorshipResponseDto.class);
+        SponsorshipResponseDto response = sponsorshipMapper.toResponseDto(saved);
         response.setMessage("New sponsorship created successfully");
         return response;
     }
@@ -170,14 +170,8 @@ public class SponsorshipServiceImpl implements SponsorshipService {
     @Transactional
     @Override
     public Map<String, Long> getSponsorshipStatusCounts(Long institutionId) {
-        List<Sponsorship> allSponsorships = sponsorshipRepository
-                .findByStudentInstitutionId(institutionId);
-
-        return allSponsorships.stream()
-                .collect(Collectors.groupingBy(
-                        sponsorship -> sponsorship.getStatus().name(),
-                        Collectors.counting()
-                ));
+        return DashboardStatsServiceImpl.toCountMap(
+                sponsorshipRepository.countGroupedByStatusForInstitution(institutionId));
     }
     // Helper methods
 private SponsorshipResponseDto sponsorConvertToDto(Sponsorship sponsorship) {
@@ -259,7 +253,7 @@ private SponsorshipResponseDto sponsorConvertToDto(Sponsorship sponsorship) {
 
 private SponsorshipResponseDto convertToResDto(Sponsorship sponsorship) {
     // Initialize DTO with basic mapping
-    SponsorshipResponseDto dto = modelMapper.map(sponsorship, SponsorshipResponseDto.class);
+    SponsorshipResponseDto dto = sponsorshipMapper.toResponseDto(sponsorship);
 
     // Force initialization of lazy-loaded relationships
     Student student = sponsorship.getStudent();
@@ -345,14 +339,14 @@ private SponsorshipResponseDto convertToResDto(Sponsorship sponsorship) {
     }
 
     private SponsorshipResponseDto convertToDetailedDto(Sponsorship sponsorship) {
-        SponsorshipResponseDto dto = modelMapper.map(sponsorship, SponsorshipResponseDto.class);
+        SponsorshipResponseDto dto = sponsorshipMapper.toResponseDto(sponsorship);
         dto.setSponsored(sponsorship.getStudent().isSponsored());
         dto.setSponsorDetails(mapSponsorDetails(sponsorship.getDonor()));
         return dto;
     }
 
     private SponsorDetailsDto mapSponsorDetails(Donor donor) {
-        return modelMapper.map(donor, SponsorDetailsDto.class);
+        return sponsorshipMapper.toSponsorDetails(donor);
     }
 
     @Transactional
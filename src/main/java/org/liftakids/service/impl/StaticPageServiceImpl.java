@@ -4,6 +4,8 @@ import jakarta.transaction.Transactional;
 import org.liftakids.entity.StaticPage;
 import org.liftakids.repositories.StaticPageRepository;
 import org.liftakids.service.StaticPageService;
+import org.liftakids.service.Util.AfterCommit;
+import org.liftakids.service.Util.StaticPageResponseCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -18,6 +20,9 @@ public class StaticPageServiceImpl implements StaticPageService {
     @Autowired
     private StaticPageRepository pageRepository;
 
+    @Autowired
+    private StaticPageResponseCache pageResponseCache;
+
     @Override
     public Optional<StaticPage> getPageBySlug(String slug) {
         return pageRepository.findBySlugAndPublished(slug, true);
@@ -41,12 +46,15 @@ public class StaticPageServiceImpl implements StaticPageService {
         }
         page.setUpdatedAt(LocalDateTime.now());
 
-        return pageRepository.save(page);
+        StaticPage saved = pageRepository.save(page);
+        AfterCommit.run(pageResponseCache::invalidate);
+        return saved;
     }
 
     @Override
     public void deletePage(Long id) {
         pageRepository.deleteById(id);
+        AfterCommit.run(pageResponseCache::invalidate);
     }
 
     @Override
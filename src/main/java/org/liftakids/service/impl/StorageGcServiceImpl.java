@@ -0,0 +1,182 @@
+package org.liftakids.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.dto.storage.StorageGcReportDto;
+import org.liftakids.repositories.PaymentRepository;
+import org.liftakids.repositories.StudentRepository;
+import org.liftakids.service.StorageGcService;
+import org.liftakids.service.Util.BloomFilter;
+import org.liftakids.service.Util.StorageDeleteQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Finds storage objects no row points at any more (failed transactions, replaced photos whose delete was lost)
+ * and removes them in batches. Referenced keys go into a Bloom filter so memory stays flat while the bucket
+ * is listed page by page; a false positive only means an orphan survives until the next run.
+ * Only objects under the managed prefixes and older than the grace period are considered.
+ */
+@Service
+@Slf4j
+public class StorageGcServiceImpl implements StorageGcService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001d;
+
+    private final S3Client s3Client;
+    private final StorageDeleteQueue deleteQueue;
+    private final StudentRepository studentRepository;
+    private final PaymentRepository paymentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final String bucketName;
+    private final List<String> prefixes;
+    private final boolean includeRootKeys;
+    private final Duration minAge;
+    private final boolean dryRun;
+
+    public StorageGcServiceImpl(S3Client s3Client,
+                                StorageDeleteQueue deleteQueue,
+                                StudentRepository studentRepository,
+                                PaymentRepository paymentRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${cloud.aws.s3.bucket}") String bucketName,
+                                @Value("${app.storage.gc.prefixes:students/,receipts/,incoming/}") List<String> prefixes,
+                                @Value("${app.storage.gc.include-root-keys:true}") boolean includeRootKeys,
+                                @Value("${app.storage.gc.min-age-hours:24}") long minAgeHours,
+                                @Value("${app.storage.gc.dry-run:true}") boolean dryRun) {
+        this.s3Client = s3Client;
+        this.deleteQueue = deleteQueue;
+        this.studentRepository = studentRepository;
+        this.paymentRepository = paymentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.bucketName = bucketName;
+        this.prefixes = prefixes;
+        this.includeRootKeys = includeRootKeys;
+        this.minAge = Duration.ofHours(minAgeHours);
+        this.dryRun = dryRun;
+    }
+
+    @Scheduled(cron = "${app.storage.gc.cron:0 30 4 * * ?}")
+    public void scheduledCollect() {
+        collectOrphans();
+    }
+
+    @Override
+    public StorageGcReportDto collectOrphans() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Storage GC already running, skipping");
+            return null;
+        }
+        try {
+            return collect();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private StorageGcReportDto collect() {
+        long start = System.currentTimeMillis();
+        StorageGcReportDto report = new StorageGcReportDto();
+        report.setDryRun(dryRun);
+
+        BloomFilter referenced = loadReferencedKeys(report);
+        Instant cutoff = Instant.now().minus(minAge);
+
+        List<String> batch = new ArrayList<>(StorageDeleteQueue.MAX_KEYS_PER_REQUEST);
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .maxKeys(StorageDeleteQueue.MAX_KEYS_PER_REQUEST)
+                .build();
+
+        // The paginator fetches the next page only when the current one is exhausted
+        for (S3Object object : s3Client.listObjectsV2Paginator(request).contents()) {
+            report.setScannedObjects(report.getScannedObjects() + 1);
+            if (!isManaged(object.key()) || object.lastModified().isAfter(cutoff)) {
+                continue;
+            }
+            if (referenced.mightContain(object.key())) {
+                continue;
+            }
+            report.setOrphanedObjects(report.getOrphanedObjects() + 1);
+            batch.add(object.key());
+            if (batch.size() == StorageDeleteQueue.MAX_KEYS_PER_REQUEST) {
+                flush(batch, report);
+            }
+        }
+        flush(batch, report);
+
+        report.setDurationMillis(System.currentTimeMillis() - start);
+        log.info("Storage GC finished: {}", report);
+        return report;
+    }
+
+    private BloomFilter loadReferencedKeys(StorageGcReportDto report) {
+        return transactionTemplate.execute(status -> {
+            // Each student photo may have up to six objects (three widths, JPEG + WebP)
+            long expected = studentRepository.countByPhotoUrlIsNotNull() * 6
+                    + paymentRepository.countByReceiptUrlIsNotNull() + 1000;
+            BloomFilter filter = new BloomFilter(expected, FALSE_POSITIVE_RATE);
+
+            try (Stream<Object[]> photos = studentRepository.streamPhotoUrls()) {
+                photos.forEach(row -> {
+                    for (Object url : row) {
+                        addReference(filter, (String) url, report);
+                    }
+                });
+            }
+            try (Stream<String> receipts = paymentRepository.streamReceiptUrls()) {
+                receipts.forEach(url -> addReference(filter, url, report));
+            }
+            return filter;
+        });
+    }
+
+    private void addReference(BloomFilter filter, String url, StorageGcReportDto report) {
+        String key = deleteQueue.toKey(url);
+        if (key == null) {
+            return;
+        }
+        filter.put(key);
+        report.setReferencedKeys(report.getReferencedKeys() + 1);
+        if (key.startsWith("students/") && key.endsWith(".jpg")) {
+            filter.put(key.substring(0, key.length() - 4) + ".webp");
+        }
+    }
+
+    private boolean isManaged(String key) {
+        if (includeRootKeys && key.indexOf('/') < 0) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void flush(List<String> batch, StorageGcReportDto report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (dryRun) {
+            log.info("Storage GC dry run, would delete {} objects, e.g. {}", batch.size(), batch.get(0));
+        } else {
+            report.setDeletedObjects(report.getDeletedObjects() + deleteQueue.deleteBatch(batch));
+        }
+        batch.clear();
+    }
+}
@@ -0,0 +1,221 @@
+package org.liftakids.service.impl;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.liftakids.datasource.ReadYourWrites;
+import org.liftakids.dto.institute.InstitutionResponseDto;
+import org.liftakids.dto.student.StudentResponseDto;
+import org.liftakids.entity.*;
+import org.liftakids.repositories.StudentRepository;
+import org.liftakids.service.StudentRankingFeedService;
+import org.liftakids.service.Util.AfterCommit;
+import org.liftakids.mapper.InstitutionMapper;
+import org.liftakids.mapper.StudentMapper;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory ranking of students that still need sponsorship, used by the homepage
+ * "urgent students" widget and the discover list so those pages never query the student table.
+ * Ordered by financial rank (Urgent first), then by the monthly sponsorship gap, then newest listing first.
+ * Kept up to date by {@link StudentServiceImpl} on student and sponsorship changes and rebuilt periodically as a safety net.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StudentRankingFeedServiceImpl implements StudentRankingFeedService {
+
+    private static final Comparator<RankedStudent> RANKING = Comparator
+            .comparing((RankedStudent r) -> r.financialRank)
+            .thenComparing((RankedStudent r) -> r.sponsorshipGap, Comparator.<BigDecimal>reverseOrder())
+            .thenComparing((RankedStudent r) -> r.createdDate, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing((RankedStudent r) -> r.studentId, Comparator.<Long>reverseOrder());
+
+    private final StudentRepository studentRepository;
+    private final StudentMapper studentMapper;
+    private final InstitutionMapper institutionMapper;
+
+    private final Map<Long, RankedStudent> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<RankedStudent> ranking = new ConcurrentSkipListSet<>(RANKING);
+
+    @Override
+    public List<StudentResponseDto> getTopUnsponsoredUrgentStudents(int limit) {
+        // Sized by what the feed holds, limit comes straight from the request
+        List<StudentResponseDto> result = new ArrayList<>(Math.min(Math.max(0, limit), entries.size()));
+        for (RankedStudent ranked : ranking) {
+            if (result.size() >= limit || ranked.financialRank != FinancialRank.Urgent) {
+                break;
+            }
+            if (!ranked.sponsored) {
+                result.add(ranked.response);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Page<StudentResponseDto> discoverStudents(FinancialRank financialRank, Pageable pageable) {
+        long offset = pageable.getOffset();
+        int size = pageable.getPageSize();
+        List<StudentResponseDto> content = new ArrayList<>((int) Math.max(0, Math.min(size, entries.size() - offset)));
+        long total = 0;
+
+        for (RankedStudent ranked : ranking) {
+            if (financialRank != null && ranked.financialRank != financialRank) {
+                continue;
+            }
+            if (total >= offset && content.size() < size) {
+                content.add(ranked.response);
+            }
+            total++;
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public void refreshStudent(Student student) {
+        if (student == null || student.getStudentId() == null) {
+            return;
+        }
+        // Snapshot now while the entity graph is loaded, publish only once the change is committed.
+        // Lazy associations loaded here end up in the feed, so they are read from the primary as well
+        RankedStudent ranked;
+        try (ReadYourWrites.Scope primary = ReadYourWrites.requirePrimary()) {
+            ranked = isCandidate(student) ? toRankedStudent(student) : null;
+        }
+        Long studentId = student.getStudentId();
+        AfterCommit.run(() -> {
+            if (ranked != null) {
+                put(ranked);
+            } else {
+                remove(studentId);
+            }
+        });
+    }
+
+    @Override
+    public void removeStudent(Long studentId) {
+        AfterCommit.run(() -> remove(studentId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 */30 * * * ?")
+    @Transactional
+    @Override
+    public void rebuild() {
+        try (ReadYourWrites.Scope primary = ReadYourWrites.requirePrimary()) {
+            List<Student> candidates = studentRepository.findFeedCandidates(StudentStatus.ACTIVE);
+            Map<Long, RankedStudent> rebuilt = new HashMap<>();
+            for (Student student : candidates) {
+                if (isCandidate(student)) {
+                    rebuilt.put(student.getStudentId(), toRankedStudent(student));
+                }
+            }
+
+            synchronized (this) {
+                entries.keySet().retainAll(rebuilt.keySet());
+                ranking.removeIf(ranked -> !rebuilt.containsKey(ranked.studentId));
+                rebuilt.values().forEach(this::put);
+            }
+            log.info("Student ranking feed rebuilt with {} candidates", rebuilt.size());
+        } catch (Exception e) {
+            log.error("Failed to rebuild student ranking feed: {}", e.getMessage(), e);
+        }
+    }
+
+    private synchronized void put(RankedStudent ranked) {
+        RankedStudent previous = entries.put(ranked.studentId, ranked);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        ranking.add(ranked);
+    }
+
+    private synchronized void remove(Long studentId) {
+        RankedStudent previous = entries.remove(studentId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+
+    // Active students who are either unsponsored or still below their required monthly support
+    private boolean isCandidate(Student student) {
+        if (student.getStatus() != StudentStatus.ACTIVE || student.getFinancial_rank() == null) {
+            return false;
+        }
+        return !student.isSponsored() || calculateGap(student).compareTo(BigDecimal.ZERO) > 0;
+    }
+
+    private BigDecimal calculateGap(Student student) {
+        BigDecimal sponsored = student.getCurrentSponsorships().stream()
+                .map(Sponsorship::getMonthlyAmount)
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return student.getRequiredMonthlySupport().subtract(sponsored).max(BigDecimal.ZERO);
+    }
+
+    private RankedStudent toRankedStudent(Student student) {
+        return new RankedStudent(
+                student.getStudentId(),
+                student.getFinancial_rank(),
+                calculateGap(student),
+                student.getCreatedDate(),
+                student.isSponsored(),
+                convertToResponse(student));
+    }
+
+    private StudentResponseDto convertToResponse(Student student) {
+        StudentResponseDto dto = studentMapper.toResponseDto(student);
+
+        Institutions institution = student.getInstitution();
+        if (institution != null) {
+            dto.setInstitutionsId(institution.getInstitutionsId());
+            dto.setInstitutionName(institution.getInstitutionName());
+            dto.setInstitutionPhone(institution.getPhone());
+            dto.setInstitutions(institutionMapper.toResponseDto(institution));
+        }
+
+        BigDecimal sponsoredAmount = student.getCurrentSponsorships().stream()
+                .filter(sponsorship -> sponsorship.getStatus() == SponsorshipStatus.COMPLETED)
+                .map(Sponsorship::getTotalPaidAmount)
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        dto.setSponsoredAmount(sponsoredAmount);
+        dto.setFullySponsored(sponsoredAmount.compareTo(student.getRequiredMonthlySupport()) >= 0);
+        dto.setSponsored(student.isSponsored());
+        dto.setSponsors(Collections.emptyList());
+        return dto;
+    }
+
+    private static final class RankedStudent {
+        private final Long studentId;
+        private final FinancialRank financialRank;
+        private final BigDecimal sponsorshipGap;
+        private final LocalDateTime createdDate;
+        private final boolean sponsored;
+        private final StudentResponseDto response;
+
+        private RankedStudent(Long studentId, FinancialRank financialRank, BigDecimal sponsorshipGap,
+                              LocalDateTime createdDate, boolean sponsored, StudentResponseDto response) {
+            this.studentId = studentId;
+            this.financialRank = financialRank;
+            this.sponsorshipGap = sponsorshipGap;
+            this.createdDate = createdDate;
+            this.sponsored = sponsored;
+            this.response = response;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.liftakids.service.impl;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.liftakids.dto.institute.InstitutionResponseDto;
 import org.liftakids.dto.student.StudentRequestDto;
@@ -11,14 +10,20 @@ import org.liftakids.exception.ResourceNotFoundException;
 import org.liftakids.repositories.InstitutionRepository;
 import org.liftakids.repositories.SponsorshipRepository;
 import org.liftakids.repositories.StudentRepository;
+import org.liftakids.service.DashboardStatsService;
 import org.liftakids.service.S3Service;
+import org.liftakids.service.StudentRankingFeedService;
 import org.liftakids.service.StudentService;
-import org.modelmapper.ModelMapper;
+import org.liftakids.service.Util.StudentPhotoProcessor;
+import org.liftakids.mapper.InstitutionMapper;
+import org.liftakids.mapper.StudentMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -33,16 +38,19 @@ public class StudentServiceImpl implements StudentService {
 
     private final StudentRepository studentRepository;
     private final InstitutionRepository institutionRepository;
-    private final ModelMapper modelMapper;
+    private final StudentMapper studentMapper;
+    private final InstitutionMapper institutionMapper;
     private final S3Service s3Service;
     private final SponsorshipRepository sponsorshipRepository;
+    private final StudentRankingFeedService studentRankingFeedService;
+    private final DashboardStatsService dashboardStatsService;
     private final Logger log = LoggerFactory.getLogger(StudentService.class);
 
     @Transactional
     @Override
     public StudentResponseDto createStudent(StudentRequestDto requestDto, MultipartFile image) throws IOException {
 
-        Student student = modelMapper.map(requestDto, Student.class);
+        Student student = studentMapper.toEntity(requestDto);
         student.setSponsored(false);
         Institutions institution = institutionRepository.findById(requestDto.getInstitutionsId())
                 .orElseThrow(() -> new ResourceNotFoundException("Institution not found"));
@@ -51,24 +59,33 @@ public class StudentServiceImpl implements StudentService {
         student.setStudentId(null);
         // Save the image to Cloudflare R2 and get the file URL
         if (!image.isEmpty()) {
-            String photoUrl = s3Service.uploadFile(image, student.getStudentName()); // Use S3Service to upload
-            student.setPhotoUrl(photoUrl); // Set the image URL in the item
+            applyPhoto(student, s3Service.uploadStudentPhoto(image, student.getStudentName()));
         }
 
         Student saved = studentRepository.save(student);
+        studentRankingFeedService.refreshStudent(saved);
+        dashboardStatsService.markDirty();
 
-        StudentResponseDto response = modelMapper.map(saved, StudentResponseDto.class);
+        StudentResponseDto response = studentMapper.toResponseDto(saved);
         response.setInstitutionName(institution.getInstitutionName());
         return response;
 
     }
 
+    private void applyPhoto(Student student, StudentPhotoProcessor.Variants variants) {
+        student.setPhotoUrl(variants.photoUrl());
+        student.setPhotoCardUrl(variants.cardUrl());
+        student.setPhotoThumbUrl(variants.thumbUrl());
+    }
+
     @Transactional
     public void updateStudentSponsorshipStatus(Long studentId) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
         student.updateSponsorshipStatus();
         studentRepository.save(student);
+        studentRankingFeedService.refreshStudent(student);
+        dashboardStatsService.markDirty();
     }
     @Override
     @Transactional
@@ -93,15 +110,16 @@ public class StudentServiceImpl implements StudentService {
         if (image != null && !image.isEmpty()) {
             // Delete old image from Cloudflare R2 if exists
             if (existingStudent.getPhotoUrl() != null) {
-                s3Service.deleteFile(existingStudent.getPhotoUrl());
+                s3Service.deleteStudentPhoto(existingStudent.getPhotoUrl(),
+                        existingStudent.getPhotoCardUrl(), existingStudent.getPhotoThumbUrl());
             }
 
             // Upload new image
-            String photoUrl = s3Service.uploadFile(image, existingStudent.getStudentName());
-            existingStudent.setPhotoUrl(photoUrl);
+            applyPhoto(existingStudent, s3Service.uploadStudentPhoto(image, existingStudent.getStudentName()));
         }
         Student updatedStudent = studentRepository.save(existingStudent );
-        return modelMapper.map(updatedStudent, StudentResponseDto.class);
+        studentRankingFeedService.refreshStudent(updatedStudent);
+        return studentMapper.toResponseDto(updatedStudent);
     }
 
     @Transactional
@@ -110,13 +128,13 @@ public class StudentServiceImpl implements StudentService {
         Student student = studentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
 
-        StudentResponseDto response = modelMapper.map(student, StudentResponseDto.class);
+        StudentResponseDto response = studentMapper.toResponseDto(student);
         response.setInstitutionsId(student.getInstitution().getInstitutionsId());
         response.setSponsored(student.isSponsored());
         response.setInstitutionPhone(student.getInstitution().getPhone());
         response.setInstitutionName(student.getInstitution().getInstitutionName());
         // Also set the complete InstitutionResponseDto
-        InstitutionResponseDto institutionDto = modelMapper.map(student.getInstitution(), InstitutionResponseDto.class);
+        InstitutionResponseDto institutionDto = institutionMapper.toResponseDto(student.getInstitution());
         response.setInstitutions(institutionDto);
       //  response.setFullySponsored(student.isFullySponsored());
         // Calculate sponsorship details
@@ -135,11 +153,11 @@ public class StudentServiceImpl implements StudentService {
     public List<StudentResponseDto> getAllStudents() {
         return studentRepository.findAll().stream()
                 .map(student -> {
-                    StudentResponseDto dto = modelMapper.map(student, StudentResponseDto.class);
+                    StudentResponseDto dto = studentMapper.toResponseDto(student);
                     dto.setInstitutionsId(student.getInstitution().getInstitutionsId());
                     dto.setSponsored(student.isSponsored());
                     // Also set the complete InstitutionResponseDto
-                    InstitutionResponseDto institutionDto = modelMapper.map(student.getInstitution(), InstitutionResponseDto.class);
+                    InstitutionResponseDto institutionDto = institutionMapper.toResponseDto(student.getInstitution());
                     dto.setInstitutions(institutionDto);
 
                     return dto;
@@ -153,17 +171,17 @@ public class StudentServiceImpl implements StudentService {
                 LocalDate.now()
         ).getYears();
     }
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public Page<StudentResponseDto> getAllStudents(Pageable pageable) {
-        Page<Student> studentPage = studentRepository.findAllWithSponsorships(pageable);
+        Page<Student> studentPage = findStudentPageWithSponsorships(pageable);
 
         return studentPage.map(student -> {
-            StudentResponseDto dto = modelMapper.map(student, StudentResponseDto.class);
+            StudentResponseDto dto = studentMapper.toResponseDto(student);
             dto.setInstitutionPhone(student.getInstitution().getPhone());
             dto.setInstitutionName(student.getInstitution().getInstitutionName());
             // Also set the complete InstitutionResponseDto
-            InstitutionResponseDto institutionDto = modelMapper.map(student.getInstitution(), InstitutionResponseDto.class);
+            InstitutionResponseDto institutionDto = institutionMapper.toResponseDto(student.getInstitution());
             dto.setInstitutions(institutionDto);
             // Handle institution data
             if (student.getInstitution() != null) {
@@ -214,12 +232,31 @@ public class StudentServiceImpl implements StudentService {
             return dto;
         });
     }
+    // Two-phase paging: page the ids in SQL, then fetch sponsorships/donor/institution for those ids only
+    private Page<Student> findStudentPageWithSponsorships(Pageable pageable) {
+        Page<Long> idPage = studentRepository.findStudentIds(pageable);
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, idPage.getTotalElements());
+        }
+
+        Map<Long, Student> studentsById = studentRepository.findAllWithSponsorshipsByIdIn(idPage.getContent())
+                .stream()
+                .collect(Collectors.toMap(Student::getStudentId, student -> student, (a, b) -> a));
+
+        // Keep the order (and sort) of the id page
+        List<Student> students = idPage.getContent().stream()
+                .map(studentsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(students, pageable, idPage.getTotalElements());
+    }
 //    @Override
 //    public Page<StudentResponseDto> getAllStudents(Pageable pageable) {
 //        Page<Student> studentPage = studentRepository.findAll(pageable);
 //
 //        return studentPage.map(student -> {
-//            StudentResponseDto dto = modelMapper.map(student, StudentResponseDto.class);
+//            StudentResponseDto dto = studentMapper.toResponseDto(student);
 //            dto.setInstitutionsId(student.getInstitution().getInstitutionsId());
 //            dto.setSponsored(student.isSponsored());
 //            return dto;
@@ -323,7 +360,7 @@ public List<StudentResponseDto> getStudentsByInstitution(Long institutionId) {
         dto.setInstitutionName(institution.getInstitutionName());
 
         // Set complete InstitutionResponseDto
-        InstitutionResponseDto institutionDto = modelMapper.map(institution, InstitutionResponseDto.class);
+        InstitutionResponseDto institutionDto = institutionMapper.toResponseDto(institution);
         dto.setInstitutions(institutionDto);
 
         // Convert ONLY pending sponsorships
@@ -376,14 +413,14 @@ public List<StudentResponseDto> getStudentsByInstitution(Long institutionId) {
 
     // Original method for general student conversion (unchanged)
     public StudentResponseDto convertToStudentResponseDto(Student student) {
-        StudentResponseDto dto = modelMapper.map(student, StudentResponseDto.class);
+        StudentResponseDto dto = studentMapper.toResponseDto(student);
 
         // Set institution information
         dto.setInstitutionsId(student.getInstitution().getInstitutionsId());
         dto.setInstitutionName(student.getInstitution().getInstitutionName());
 
         // Also set the complete InstitutionResponseDto
-        InstitutionResponseDto institutionDto = modelMapper.map(student.getInstitution(), InstitutionResponseDto.class);
+        InstitutionResponseDto institutionDto = institutionMapper.toResponseDto(student.getInstitution());
         dto.setInstitutions(institutionDto);
 
         // Calculate sponsorship details
@@ -408,7 +445,7 @@ public List<StudentResponseDto> getStudentsByInstitution(Long institutionId) {
 
         return dto;
     }
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<StudentResponseDto> searchStudentsByInstitution(
             Long institutionId,
@@ -429,7 +466,7 @@ public List<StudentResponseDto> getStudentsByInstitution(Long institutionId) {
                 .collect(Collectors.toList());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public Page<StudentResponseDto> searchStudents(String studentName, String guardianName, String gender, String contactNumber, Pageable pageable) {
         // string with null
@@ -449,7 +486,7 @@ public List<StudentResponseDto> getStudentsByInstitution(Long institutionId) {
 //        List<Student> students = studentRepository.searchStudents(studentName, guardianName,contactNumber);
 //        return students.stream()
 //                .map(student -> {
-//                    StudentResponseDto dto = modelMapper.map(student, StudentResponseDto.class);
+//                    StudentResponseDto dto = studentMapper.toResponseDto(student);
 //                    dto.setInstitutionsId(student.getInstitution().getInstitutionsId());
 //                    return dto;
 //                })
@@ -470,28 +507,27 @@ public void deleteStudent(Long studentId) {
 
     // Delete image from S3 if exists
     if (student.getPhotoUrl() != null && !student.getPhotoUrl().isEmpty()) {
-        s3Service.deleteFile(student.getPhotoUrl());
+        s3Service.deleteStudentPhoto(student.getPhotoUrl(), student.getPhotoCardUrl(), student.getPhotoThumbUrl());
     }
 
     // Delete student record
     studentRepository.delete(student);
+    studentRankingFeedService.removeStudent(studentId);
+    dashboardStatsService.markDirty();
 }
 
-    @Transactional
+    // Served from the in-memory ranking feed, no DB round trip
     @Override
     public List<StudentResponseDto> getTop3UnsponsoredUrgentStudents() {
-        List<Student> students = studentRepository.findTop3UnsponsoredUrgentStudents();
-        return students.stream()
-                .map(this::convertToStudentResponseDto)
-                .collect(Collectors.toList());
+        return studentRankingFeedService.getTopUnsponsoredUrgentStudents(3);
     }
-    @Transactional
     @Override
     public List<StudentResponseDto> getTopUnsponsoredUrgentStudents(int limit) {
-        List<Student> students = studentRepository.findTopUnsponsoredUrgentStudents(limit);
-        return students.stream()
-                .map(this::convertToStudentResponseDto)
-                .collect(Collectors.toList());
+        return studentRankingFeedService.getTopUnsponsoredUrgentStudents(limit);
+    }
+    @Override
+    public Page<StudentResponseDto> discoverStudents(FinancialRank financialRank, Pageable pageable) {
+        return studentRankingFeedService.discoverStudents(financialRank, pageable);
     }
 //    @Override
 //    public List<StudentResponseDto> getUnsponsoredStudentsByFinancialRank(String financialRank, int limit) {
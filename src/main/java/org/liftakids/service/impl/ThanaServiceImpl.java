@@ -14,7 +14,7 @@ import org.liftakids.exception.ResourceNotFoundException;
 import org.liftakids.repositories.DistrictRepository;
 import org.liftakids.repositories.ThanaRepository;
 import org.liftakids.service.ThanaService;
-import org.modelmapper.ModelMapper;
+import org.liftakids.mapper.LocationMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -29,7 +29,7 @@ public class ThanaServiceImpl implements ThanaService {
 
     private final ThanaRepository thanaRepository;
     private final DistrictRepository districtRepository;
-    private final ModelMapper modelMapper;
+    private final LocationMapper locationMapper;
 
     @Override
     public ThanaDto create(ThanaDto dto) {
@@ -42,7 +42,7 @@ public class ThanaServiceImpl implements ThanaService {
         thana.setDistrict(district);
         Thanas saved = thanaRepository.save(thana);
 
-        ThanaDto responseDto = modelMapper.map(saved, ThanaDto.class);
+        ThanaDto responseDto = locationMapper.toThanaDto(saved);
         responseDto.setDistrictId(saved.getDistrict().getDistrictId());
 
         return responseDto;
@@ -52,7 +52,7 @@ public class ThanaServiceImpl implements ThanaService {
     public List<ThanaResponseDTO> getAll() {
         return thanaRepository.findAll().stream()
                 .map(t -> {
-                    ThanaResponseDTO dto = modelMapper.map(t, ThanaResponseDTO.class);
+                    ThanaResponseDTO dto = locationMapper.toThanaResponse(t);
                     dto.setDistrictId(t.getDistrict().getDistrictId());
                     return dto;
                 })
@@ -8,7 +8,7 @@ import org.liftakids.entity.address.UnionOrArea;
 import org.liftakids.repositories.ThanaRepository;
 import org.liftakids.repositories.UnionOrAreaRepository;
 import org.liftakids.service.UnionOrAreaService;
-import org.modelmapper.ModelMapper;
+import org.liftakids.mapper.LocationMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,7 +22,7 @@ public class UnionOrAreaServiceImpl implements UnionOrAreaService {
 
     private final UnionOrAreaRepository unionOrAreaRepository;
     private final ThanaRepository thanaRepository;
-    private final ModelMapper modelMapper;
+    private final LocationMapper locationMapper;
 
     @Override
     public UnionOrAreaResponseDTO create(UnionOrAreaDto dto) {
@@ -35,7 +35,7 @@ public class UnionOrAreaServiceImpl implements UnionOrAreaService {
         union.setThana(thana);
         UnionOrArea saved = unionOrAreaRepository.save(union);
 
-        UnionOrAreaResponseDTO responseDto = modelMapper.map(saved, UnionOrAreaResponseDTO.class);
+        UnionOrAreaResponseDTO responseDto = locationMapper.toUnionOrAreaResponse(saved);
         responseDto.setThanaId(saved.getThana().getThanaId());
 
         return responseDto;
@@ -45,7 +45,7 @@ public class UnionOrAreaServiceImpl implements UnionOrAreaService {
     public List<UnionOrAreaResponseDTO> getAll() {
         return unionOrAreaRepository.findAll().stream()
                 .map(u -> {
-                    UnionOrAreaResponseDTO dto = modelMapper.map(u, UnionOrAreaResponseDTO.class);
+                    UnionOrAreaResponseDTO dto = locationMapper.toUnionOrAreaResponse(u);
                     dto.setThanaId(u.getThana().getThanaId());
                     return dto;
                 })
@@ -0,0 +1,165 @@
+package org.liftakids.template;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Email templates from {@code classpath:mail-templates/}, compiled once and cached by name and language.
+ * A template is {@code <name>.html} or {@code <name>.txt} (English) with optional {@code <name>_bn.*} translations;
+ * a missing translation falls back to English. An optional first line {@code Subject: ...} is the subject template.
+ * Rendering goes into a per-thread buffer that is reused across sends.
+ */
+@Component
+@Slf4j
+public class EmailTemplates {
+
+    public static final Locale BANGLA = Locale.forLanguageTag("bn");
+
+    private static final String LOCATION = "mail-templates/";
+    private static final Set<String> LANGUAGES = Set.of("en", "bn");
+    private static final String SUBJECT_PREFIX = "Subject:";
+    private static final int MAX_RETAINED_BUFFER = 256 * 1024;
+
+    public record RenderedEmail(String subject, String body, boolean html) {
+    }
+
+    private record Key(String name, String language) {
+    }
+
+    private record Compiled(Template subject, Template body, boolean html) {
+    }
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(16 * 1024));
+
+    private final Map<Key, Compiled> cache = new ConcurrentHashMap<>();
+    private final Locale defaultLocale;
+
+    public EmailTemplates(@Value("${app.email.default-locale:en}") Locale defaultLocale) {
+        this.defaultLocale = defaultLocale;
+        precompileAll();
+    }
+
+    public Locale defaultLocale() {
+        return defaultLocale;
+    }
+
+    // A recipient's stored language tag, or the default locale when they have none
+    public Locale localeOf(String languageTag) {
+        return languageTag == null || languageTag.isBlank() ? defaultLocale : Locale.forLanguageTag(languageTag);
+    }
+
+    public RenderedEmail render(String name, Map<String, ?> model) {
+        return render(name, defaultLocale, model);
+    }
+
+    public RenderedEmail render(String name, Locale locale, Map<String, ?> model) {
+        Compiled compiled = compiled(name, locale);
+        String subject = compiled.subject() != null ? renderToString(compiled.subject(), model) : null;
+        return new RenderedEmail(subject, renderToString(compiled.body(), model), compiled.html());
+    }
+
+    // Null-tolerant model builder: model("name", donor.getName(), "phone", null, ...)
+    public static Map<String, Object> model(Object... keysAndValues) {
+        if (keysAndValues.length % 2 != 0) {
+            throw new IllegalArgumentException("model() needs key/value pairs");
+        }
+        Map<String, Object> model = new HashMap<>(keysAndValues.length);
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            model.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return model;
+    }
+
+    private String renderToString(Template template, Map<String, ?> model) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        template.render(model, buffer);
+        String result = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    private Compiled compiled(String name, Locale locale) {
+        String language = locale != null && LANGUAGES.contains(locale.getLanguage()) ? locale.getLanguage() : "en";
+        Compiled compiled = cache.computeIfAbsent(new Key(name, language), this::load);
+        if (compiled == null) {
+            throw new IllegalArgumentException("Unknown email template: " + name);
+        }
+        return compiled;
+    }
+
+    private Compiled load(Key key) {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        String[] candidates = "en".equals(key.language())
+                ? new String[]{key.name()}
+                : new String[]{key.name() + "_" + key.language(), key.name()};
+        for (String candidate : candidates) {
+            for (String extension : new String[]{".html", ".txt"}) {
+                Resource resource = resolver.getResource("classpath:" + LOCATION + candidate + extension);
+                if (resource.exists()) {
+                    return compile(candidate, read(resource), ".html".equals(extension));
+                }
+            }
+        }
+        return null;
+    }
+
+    static Compiled compile(String name, String source, boolean html) {
+        Template subject = null;
+        String body = source;
+        if (source.startsWith(SUBJECT_PREFIX)) {
+            int lineEnd = source.indexOf('\n');
+            String subjectLine = lineEnd < 0 ? source : source.substring(0, lineEnd);
+            subject = TemplateParser.parse(name + "#subject", subjectLine.substring(SUBJECT_PREFIX.length()).trim(), false);
+            body = lineEnd < 0 ? "" : source.substring(lineEnd + 1);
+        }
+        return new Compiled(subject, TemplateParser.parse(name, body, html), html);
+    }
+
+    // Compile every bundled template at startup so a broken one fails the boot, not a send
+    private void precompileAll() {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver()
+                    .getResources("classpath*:" + LOCATION + "*.*");
+            for (Resource resource : resources) {
+                String filename = resource.getFilename();
+                if (filename == null) {
+                    continue;
+                }
+                int dot = filename.lastIndexOf('.');
+                String base = filename.substring(0, dot);
+                int underscore = base.lastIndexOf('_');
+                String language = underscore > 0 && LANGUAGES.contains(base.substring(underscore + 1))
+                        ? base.substring(underscore + 1) : "en";
+                String name = "en".equals(language) ? base : base.substring(0, underscore);
+                cache.computeIfAbsent(new Key(name, language), this::load);
+            }
+            log.info("Compiled {} email templates", cache.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan email templates", e);
+        }
+    }
+
+    private static String read(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read email template " + resource.getFilename(), e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.liftakids.template;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A parsed template: an immutable tree of literal text, variables and sections, safe to share between threads.
+ * Rendering walks the tree and appends to the caller's buffer; nothing is parsed or formatted at render time.
+ */
+public final class Template {
+
+    sealed interface Node permits Text, Variable, Section {
+    }
+
+    record Text(String text) implements Node {
+    }
+
+    record Variable(String name, boolean escape) implements Node {
+    }
+
+    // {{#name}}...{{/name}} renders for truthy values and once per element of a collection, {{^name}} when falsy
+    record Section(String name, boolean inverted, List<Node> children) implements Node {
+    }
+
+    private final String name;
+    private final List<Node> nodes;
+
+    Template(String name, List<Node> nodes) {
+        this.name = name;
+        this.nodes = List.copyOf(nodes);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public void render(Map<String, ?> model, StringBuilder out) {
+        Deque<Object> scopes = new ArrayDeque<>(4);
+        scopes.push(model != null ? model : Map.of());
+        render(nodes, scopes, out);
+    }
+
+    private static void render(List<Node> nodes, Deque<Object> scopes, StringBuilder out) {
+        for (Node node : nodes) {
+            if (node instanceof Text text) {
+                out.append(text.text());
+            } else if (node instanceof Variable variable) {
+                Object value = lookup(variable.name(), scopes);
+                if (value != null) {
+                    if (variable.escape()) {
+                        escapeHtml(value.toString(), out);
+                    } else {
+                        out.append(value);
+                    }
+                }
+            } else if (node instanceof Section section) {
+                renderSection(section, lookup(section.name(), scopes), scopes, out);
+            }
+        }
+    }
+
+    private static void renderSection(Section section, Object value, Deque<Object> scopes, StringBuilder out) {
+        boolean truthy = isTruthy(value);
+        if (section.inverted()) {
+            if (!truthy) {
+                render(section.children(), scopes, out);
+            }
+            return;
+        }
+        if (!truthy) {
+            return;
+        }
+        if (value instanceof Iterable<?> items) {
+            for (Object item : items) {
+                scopes.push(item != null ? item : Map.of());
+                render(section.children(), scopes, out);
+                scopes.pop();
+            }
+        } else if (value instanceof Map<?, ?>) {
+            scopes.push(value);
+            render(section.children(), scopes, out);
+            scopes.pop();
+        } else {
+            render(section.children(), scopes, out);
+        }
+    }
+
+    private static Object lookup(String name, Deque<Object> scopes) {
+        if (".".equals(name)) {
+            return scopes.peek();
+        }
+        for (Object scope : scopes) {
+            if (scope instanceof Map<?, ?> map && map.containsKey(name)) {
+                return map.get(name);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isTruthy(Object value) {
+        if (value == null || Boolean.FALSE.equals(value)) {
+            return false;
+        }
+        if (value instanceof Collection<?> collection) {
+            return !collection.isEmpty();
+        }
+        return !(value instanceof CharSequence text) || !text.isEmpty();
+    }
+
+    static void escapeHtml(String text, StringBuilder out) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.liftakids.template;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Parses the Mustache subset used by the email templates:
+ * {@code {{name}}} (HTML-escaped when escaping is on), {@code {{{name}}}} and {@code {{& name}}} (raw),
+ * {@code {{#name}}}/{@code {{^name}}} ... {@code {{/name}}} sections and {@code {{! comment}}}.
+ */
+public final class TemplateParser {
+
+    private TemplateParser() {
+    }
+
+    public static Template parse(String name, String source, boolean escapeByDefault) {
+        Deque<List<Template.Node>> stack = new ArrayDeque<>();
+        Deque<String> openSections = new ArrayDeque<>();
+        Deque<Boolean> openInverted = new ArrayDeque<>();
+        stack.push(new ArrayList<>());
+
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) {
+                stack.peek().add(new Template.Text(source.substring(position)));
+                break;
+            }
+            if (open > position) {
+                stack.peek().add(new Template.Text(source.substring(position, open)));
+            }
+
+            boolean triple = source.startsWith("{{{", open);
+            String closing = triple ? "}}}" : "}}";
+            int close = source.indexOf(closing, open + closing.length());
+            if (close < 0) {
+                throw error(name, source, open, "unclosed tag");
+            }
+            String tag = source.substring(open + closing.length(), close).trim();
+            position = close + closing.length();
+
+            if (triple) {
+                stack.peek().add(new Template.Variable(requireName(name, source, open, tag), false));
+                continue;
+            }
+            if (tag.isEmpty()) {
+                throw error(name, source, open, "empty tag");
+            }
+            char kind = tag.charAt(0);
+            String tagName = tag.substring(1).trim();
+            switch (kind) {
+                case '!' -> {
+                    // comment
+                }
+                case '&' -> stack.peek().add(new Template.Variable(requireName(name, source, open, tagName), false));
+                case '#', '^' -> {
+                    openSections.push(requireName(name, source, open, tagName));
+                    openInverted.push(kind == '^');
+                    stack.push(new ArrayList<>());
+                }
+                case '/' -> {
+                    if (openSections.isEmpty() || !openSections.peek().equals(tagName)) {
+                        throw error(name, source, open, "unexpected {{/" + tagName + "}}");
+                    }
+                    List<Template.Node> children = stack.pop();
+                    stack.peek().add(new Template.Section(openSections.pop(), openInverted.pop(), children));
+                }
+                default -> stack.peek().add(new Template.Variable(requireName(name, source, open, tag), escapeByDefault));
+            }
+        }
+
+        if (!openSections.isEmpty()) {
+            throw new IllegalArgumentException("Template '" + name + "': unclosed section {{#" + openSections.peek() + "}}");
+        }
+        return new Template(name, merge(stack.pop()));
+    }
+
+    // Adjacent text nodes (left around comments) are joined so rendering does fewer appends
+    private static List<Template.Node> merge(List<Template.Node> nodes) {
+        List<Template.Node> merged = new ArrayList<>(nodes.size());
+        StringBuilder text = new StringBuilder();
+        for (Template.Node node : nodes) {
+            if (node instanceof Template.Text t) {
+                text.append(t.text());
+                continue;
+            }
+            if (!text.isEmpty()) {
+                merged.add(new Template.Text(text.toString()));
+                text.setLength(0);
+            }
+            if (node instanceof Template.Section section) {
+                merged.add(new Template.Section(section.name(), section.inverted(), merge(section.children())));
+            } else {
+                merged.add(node);
+            }
+        }
+        if (!text.isEmpty()) {
+            merged.add(new Template.Text(text.toString()));
+        }
+        return merged;
+    }
+
+    private static String requireName(String template, String source, int offset, String tagName) {
+        if (tagName.isEmpty()) {
+            throw error(template, source, offset, "missing name");
+        }
+        return tagName;
+    }
+
+    private static IllegalArgumentException error(String template, String source, int offset, String message) {
+        int line = 1;
+        for (int i = 0; i < offset; i++) {
+            if (source.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return new IllegalArgumentException("Template '" + template + "' line " + line + ": " + message);
+    }
+}
@@ -0,0 +1,34 @@
+package org.liftakids;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.liftakids.config.SqlInstrumentationConfig;
+import org.liftakids.httpcache.ResourceVersionListener;
+import org.liftakids.httpcache.ResourceVersions;
+import org.liftakids.monitoring.DomainMetrics;
+import org.liftakids.monitoring.EntityMetricsListener;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Root configuration for {@code @DataJpaTest}s, used instead of {@link LiftAKidsApplication} (whose startup
+ * beans the slice does not create): entities and repositories under org.liftakids, the entity listeners and
+ * the counting DataSource. Auto-configuration is limited to what the slice imports; {@code @TestComponent}
+ * keeps the application's component scan from picking this class up in full-context tests.
+ * Use with {@code @ContextConfiguration(classes = JpaTestConfig.class)} and {@code @ActiveProfiles("h2")}.
+ */
+@SpringBootConfiguration(proxyBeanMethods = false)
+@EnableAutoConfiguration
+@TestComponent
+@Import({SqlInstrumentationConfig.class, ResourceVersions.class, ResourceVersionListener.class,
+        DomainMetrics.class, EntityMetricsListener.class})
+public class JpaTestConfig {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
@@ -3,7 +3,7 @@ package org.liftakids;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(classes = LiftAKidsApplication.class)
 class LiftAKidsApplicationTests {
 
     @Test
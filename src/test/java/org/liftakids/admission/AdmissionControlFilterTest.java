@@ -0,0 +1,57 @@
+package org.liftakids.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.liftakids.monitoring.DomainMetrics;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BulkheadRegistry registry = new BulkheadRegistry(meterRegistry, 10, 2, 4, 2, 2, Duration.ofMillis(10));
+    private final AdmissionControlFilter filter =
+            new AdmissionControlFilter(registry, new DomainMetrics(meterRegistry), new ObjectMapper());
+
+    @Test
+    void ioRoutesAlsoHoldADbPermit() {
+        Bulkhead db = registry.find("GET", "/api/students").get(0);
+
+        assertThat(db.permits()).isEqualTo(8);
+        assertThat(registry.find("POST", "/api/uploads/complete")).extracting(Bulkhead::name).containsExactly("uploads", "db");
+        assertThat(registry.find("POST", "/api/results/upload")).extracting(Bulkhead::name).containsExactly("ocr", "db");
+        assertThat(registry.find("POST", "/api/contact/submit")).extracting(Bulkhead::name).containsExactly("email", "db");
+        assertThat(registry.find("GET", "/api/health/live")).isEmpty();
+    }
+
+    @Test
+    void uploadIsRejectedWhileDbPermitsAreTakenAndReleasesItsOwnPermit() throws Exception {
+        List<Bulkhead> upload = registry.find("POST", "/api/uploads/complete");
+        Bulkhead db = upload.get(1);
+        for (int i = 0; i < db.permits(); i++) {
+            assertThat(db.tryEnter()).isTrue();
+        }
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/uploads/complete"), rejected, new MockFilterChain());
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(upload.get(0).inUse()).isZero();
+        assertThat(meterRegistry.get("liftakids.bulkhead.rejected").tag("bulkhead", "db").counter().count()).isEqualTo(1);
+
+        db.exit();
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/uploads/complete"), admitted, new MockFilterChain());
+
+        assertThat(admitted.getStatus()).isEqualTo(200);
+        assertThat(upload.get(0).inUse()).isZero();
+        assertThat(db.inUse()).isEqualTo(db.permits() - 1);
+    }
+}
@@ -0,0 +1,172 @@
+package org.liftakids.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.liftakids.exception.ResourceNotFoundException;
+import org.liftakids.monitoring.DomainMetrics;
+import org.liftakids.service.Util.AssetDiskCache;
+import org.liftakids.service.Util.FakeS3Client;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class AssetControllerTest {
+
+    private static final String KEY = "students/42/photo.jpg";
+    private static final String BODY = "0123456789abcdefghij";
+
+    @TempDir
+    Path directory;
+
+    private final FakeS3Client s3Client = new FakeS3Client();
+    private AssetController controller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3Client.put(KEY, BODY.getBytes(StandardCharsets.US_ASCII));
+        s3Client.put("receipts/9.pdf", new byte[4]);
+        AssetDiskCache cache = new AssetDiskCache(s3Client, mock(DomainMetrics.class), "test-bucket",
+                directory.toString(), 1024, Duration.ZERO);
+
+        controller = new AssetController(cache);
+        ReflectionTestUtils.setField(controller, "prefixes", List.of("students/", "receipts/"));
+        ReflectionTestUtils.setField(controller, "publicMaxAge", 86400L);
+        ReflectionTestUtils.setField(controller, "privateMaxAge", 300L);
+    }
+
+    @Test
+    void fullResponseCarriesValidators() throws IOException {
+        MockHttpServletResponse response = get(new MockHttpServletRequest("GET", "/api/assets/" + KEY));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(FakeS3Client.eTagOf(KEY));
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("public, max-age=86400");
+        assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED))
+                .isEqualTo(FakeS3Client.LAST_MODIFIED.toEpochMilli());
+    }
+
+    @Test
+    void secondRequestIsServedFromDisk() throws IOException {
+        get(new MockHttpServletRequest("GET", "/api/assets/" + KEY));
+        get(new MockHttpServletRequest("GET", "/api/assets/" + KEY));
+
+        assertThat(s3Client.downloads()).isEqualTo(1);
+    }
+
+    @Test
+    void receiptsArePrivate() throws IOException {
+        MockHttpServletResponse response = get(new MockHttpServletRequest("GET", "/api/assets/receipts/9.pdf"));
+
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, max-age=300");
+    }
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/assets/" + KEY);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/" + FakeS3Client.eTagOf(KEY));
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void ifModifiedSinceAtLastModifiedIsNotModified() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/assets/" + KEY);
+        request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, FakeS3Client.LAST_MODIFIED.toEpochMilli());
+
+        assertThat(get(request).getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void byteRangeIsPartialContent() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/assets/" + KEY);
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentAsString()).isEqualTo("56789");
+    }
+
+    @Test
+    void suffixRangeServesTail() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/assets/" + KEY);
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("hij");
+    }
+
+    @Test
+    void rangeBeyondLengthIsNotSatisfiable() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/assets/" + KEY);
+        request.addHeader(HttpHeaders.RANGE, "bytes=50-60");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */20");
+    }
+
+    @Test
+    void staleIfRangeServesWholeObject() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/assets/" + KEY);
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void sendfileHandsRangeToConnector() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/assets/" + KEY);
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        MockHttpServletResponse response = get(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(5L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+        assertThat((String) request.getAttribute("org.apache.tomcat.sendfile.filename"))
+                .startsWith(directory.toAbsolutePath().toString());
+    }
+
+    @Test
+    void keysOutsideServedPrefixesAreNotFound() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/assets/incoming/students/1.jpg");
+
+        assertThatThrownBy(() -> controller.getAsset("/incoming/students/1.jpg", request, new MockHttpServletResponse()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(s3Client.downloads()).isZero();
+    }
+
+    private MockHttpServletResponse get(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String key = request.getRequestURI().substring("/api/assets".length());
+        controller.getAsset(key, request, response);
+        return response;
+    }
+}
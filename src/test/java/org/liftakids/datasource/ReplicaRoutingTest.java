@@ -0,0 +1,287 @@
+package org.liftakids.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.QueryHint;
+import jakarta.servlet.http.Cookie;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.liftakids.config.ReplicaRoutingConfig;
+import org.liftakids.httpcache.CachePolicyRegistry;
+import org.liftakids.httpcache.ConditionalRequestInterceptor;
+import org.liftakids.httpcache.ResourceVersions;
+import org.liftakids.repositories.StudentRepository;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingTest {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DataSource primary;
+    private DataSource replica;
+    private JdbcTemplate replicaJdbc;
+    private ReplicaLagMonitor monitor;
+    private LazyConnectionDataSourceProxy routing;
+
+    @BeforeEach
+    void setUp() {
+        int pair = DATABASES.incrementAndGet();
+        primary = h2("primary", pair);
+        replica = h2("replica", pair);
+        replicaJdbc = new JdbcTemplate(replica);
+        monitor = new ReplicaLagMonitor(primary, replica, MAX_LAG, meterRegistry);
+        routing = routing(replica);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void readsGoToReplicaWhileHeartbeatIsFresh() throws SQLException {
+        replicate(0);
+
+        assertThat(monitor.replicaUsable()).isTrue();
+        assertThat(readOnlyTarget()).isEqualTo("replica");
+        assertThat(writeTarget()).isEqualTo("primary");
+        assertThat(reads("replica", "replica")).isEqualTo(1);
+    }
+
+    @Test
+    void readsFallBackToPrimaryOnceLagExceedsMaxLag() throws SQLException {
+        replicate(MAX_LAG.toMillis() - 1000);
+        assertThat(readOnlyTarget()).isEqualTo("replica");
+
+        replicate(MAX_LAG.toMillis() + 1000);
+        assertThat(monitor.replicaUsable()).isFalse();
+        assertThat(readOnlyTarget()).isEqualTo("primary");
+        assertThat(reads("primary", "replica_unusable")).isEqualTo(1);
+        assertThat(meterRegistry.get("liftakids.datasource.replica.lag").gauge().value())
+                .isGreaterThan(MAX_LAG.toMillis());
+
+        replicate(0);
+        assertThat(readOnlyTarget()).isEqualTo("replica");
+    }
+
+    @Test
+    void missingHeartbeatKeepsReplicaOutOfRotation() throws SQLException {
+        monitor.probe();
+
+        assertThat(monitor.replicaUsable()).isFalse();
+        assertThat(readOnlyTarget()).isEqualTo("primary");
+    }
+
+    @Test
+    void unreachableReplicaFallsBackAndIsTakenOut() throws SQLException {
+        replicate(0);
+        routing = routing(new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                throw new SQLTransientConnectionException("replica down");
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return getConnection();
+            }
+        });
+
+        assertThat(readOnlyTarget()).isEqualTo("primary");
+        assertThat(monitor.replicaUsable()).isFalse();
+        assertThat(reads("primary", "connection_failed")).isEqualTo(1);
+    }
+
+    @Test
+    void writeConnectionPinsThreadToPrimary() throws SQLException {
+        replicate(0);
+        assertThat(writeTarget()).isEqualTo("primary");
+
+        assertThat(readOnlyTarget()).isEqualTo("primary");
+        assertThat(reads("primary", "read_your_writes")).isEqualTo(1);
+
+        ReadYourWrites.clear();
+        assertThat(readOnlyTarget()).isEqualTo("replica");
+    }
+
+    @Test
+    void pinExpiresAfterWindow() throws SQLException {
+        replicate(0);
+        ReadYourWrites.pinUntil(System.currentTimeMillis() - 1);
+
+        assertThat(readOnlyTarget()).isEqualTo("replica");
+    }
+
+    @Test
+    void cookieFromPreviousWritePinsNextRequest() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+        MockHttpServletResponse postResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/notifications/1/read"), postResponse,
+                (request, response) -> { });
+        Cookie cookie = postResponse.getCookie(ReadYourWritesFilter.COOKIE);
+        assertThat(cookie).isNotNull();
+
+        AtomicBoolean pinnedInRequest = new AtomicBoolean();
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/notifications");
+        get.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, cookie.getValue()));
+        filter.doFilter(get, new MockHttpServletResponse(), (request, response) -> pinnedInRequest.set(ReadYourWrites.pinned()));
+
+        assertThat(pinnedInRequest).isTrue();
+        assertThat(ReadYourWrites.pinned()).isFalse();
+
+        AtomicBoolean pinnedWithoutCookie = new AtomicBoolean(true);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/notifications"), new MockHttpServletResponse(),
+                (request, response) -> pinnedWithoutCookie.set(ReadYourWrites.pinned()));
+        assertThat(pinnedWithoutCookie).isFalse();
+    }
+
+    @Test
+    void cacheFillsReadFromPrimary() throws SQLException {
+        replicate(0);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Directory());
+        factory.addAspect(new PrimaryCacheFillAspect());
+        Directory directory = factory.getProxy();
+
+        assertThat(directory.load()).isEqualTo("primary");
+        assertThat(directory.browse()).isEqualTo("replica");
+        assertThat(ReadYourWrites.primaryRequired()).isFalse();
+        assertThat(reads("primary", "primary_required")).isEqualTo(1);
+    }
+
+    @Test
+    void queryCachedLookupsReadFromPrimary() throws SQLException {
+        replicate(0);
+        // Repository beans are JDK proxies with the hints on the interface, so build the target the same way
+        Lookups target = (Lookups) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Lookups.class},
+                (proxy, method, args) -> readOnlyTarget());
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new PrimaryCacheFillAspect());
+        Lookups lookups = factory.getProxy();
+
+        assertThat(lookups.cached()).isEqualTo("primary");
+        assertThat(lookups.streamed()).isEqualTo("replica");
+        assertThat(lookups.plain()).isEqualTo("replica");
+    }
+
+    @Test
+    void taggedResponsesReadFromPrimaryWhileTheirGroupMayLag() throws Exception {
+        replicate(0);
+        ResourceVersions versions = new ResourceVersions();
+        CachePolicyRegistry registry = new CachePolicyRegistry(mock(StudentRepository.class), Duration.ofHours(1));
+        ConditionalRequestInterceptor interceptor = new ConditionalRequestInterceptor(registry, versions, true, MAX_LAG, 1000);
+
+        versions.bump(ResourceVersions.INSTITUTIONS);
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/institutions/directory"),
+                new MockHttpServletResponse(), new Object());
+        assertThat(readOnlyTarget()).isEqualTo("primary");
+
+        // Untagged endpoints keep using the replica
+        ReadYourWrites.clear();
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/admin/notifications"),
+                new MockHttpServletResponse(), new Object());
+        assertThat(readOnlyTarget()).isEqualTo("replica");
+
+        // Without a replica there is nothing to pin
+        new ConditionalRequestInterceptor(registry, versions, false, MAX_LAG, 1000).preHandle(
+                new MockHttpServletRequest("GET", "/api/institutions/directory"), new MockHttpServletResponse(), new Object());
+        assertThat(ReadYourWrites.pinned()).isFalse();
+    }
+
+    // Simulates the replica having applied the primary's heartbeat lagMillis ago, then runs a probe
+    private void replicate(long lagMillis) {
+        replicaJdbc.update("DELETE FROM replication_heartbeat");
+        replicaJdbc.update("INSERT INTO replication_heartbeat (id, beatMillis) VALUES (1, ?)",
+                System.currentTimeMillis() - lagMillis);
+        monitor.probe();
+    }
+
+    private LazyConnectionDataSourceProxy routing(DataSource replicaTarget) {
+        return ReplicaRoutingConfig.routing(primary,
+                new ReplicaFallbackDataSource(primary, replicaTarget, monitor, meterRegistry), Duration.ofSeconds(5));
+    }
+
+    private String readOnlyTarget() throws SQLException {
+        try (Connection connection = routing.getConnection()) {
+            connection.setReadOnly(true);
+            return target(connection);
+        }
+    }
+
+    private String writeTarget() throws SQLException {
+        try (Connection connection = routing.getConnection()) {
+            return target(connection);
+        }
+    }
+
+    // Runs a statement, which is what makes the lazy proxy pick its target
+    private static String target(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT node_role FROM node")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private double reads(String pool, String reason) {
+        return meterRegistry.get("liftakids.datasource.reads").tag("pool", pool).tag("reason", reason)
+                .counter().count();
+    }
+
+    private static DataSource h2(String role, int pair) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + role + pair + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE replication_heartbeat (id INT PRIMARY KEY, beatMillis BIGINT NOT NULL)");
+        jdbc.execute("CREATE TABLE node (node_role VARCHAR(10) NOT NULL)");
+        jdbc.update("INSERT INTO node (node_role) VALUES (?)", role);
+        return dataSource;
+    }
+
+    public interface Lookups {
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+        String cached() throws SQLException;
+
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+        String streamed() throws SQLException;
+
+        String plain() throws SQLException;
+    }
+
+    public class Directory {
+
+        @Cacheable("directory")
+        public String load() throws SQLException {
+            return readOnlyTarget();
+        }
+
+        public String browse() throws SQLException {
+            return readOnlyTarget();
+        }
+    }
+}
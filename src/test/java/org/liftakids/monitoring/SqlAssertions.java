@@ -0,0 +1,55 @@
+package org.liftakids.monitoring;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Statement-count assertions for Spring-context tests (the counting DataSource is installed by
+ * {@code SqlInstrumentationConfig}). Typical use:
+ * <pre>
+ * SqlStats stats = SqlAssertions.capture(() -> divisionService.getAll());
+ * SqlAssertions.assertMaxStatements(stats, 4);
+ * SqlAssertions.assertNoRepeatedStatements(stats, 3);
+ * </pre>
+ */
+public final class SqlAssertions {
+
+    private SqlAssertions() {
+    }
+
+    public static SqlStats capture(Runnable work) {
+        try (SqlStatsContext.Scope scope = SqlStatsContext.open()) {
+            work.run();
+            return scope.stats();
+        }
+    }
+
+    public static <T> SqlStats capture(Supplier<T> work) {
+        return capture((Runnable) work::get);
+    }
+
+    public static void assertMaxStatements(SqlStats stats, int max) {
+        if (stats.getStatements() > max) {
+            throw new AssertionError("Expected at most " + max + " SQL statements but " + stats.getStatements()
+                    + " ran:" + describe(stats));
+        }
+    }
+
+    /** Fails if any single statement shape ran {@code maxRepeats} times or more, the N+1 signature. */
+    public static void assertNoRepeatedStatements(SqlStats stats, int maxRepeats) {
+        Map.Entry<String, Integer> repeated = stats.mostRepeated();
+        if (repeated != null && repeated.getValue() >= maxRepeats) {
+            throw new AssertionError("Statement ran " + repeated.getValue() + " times (limit " + maxRepeats + "): "
+                    + repeated.getKey());
+        }
+    }
+
+    private static String describe(SqlStats stats) {
+        StringBuilder text = new StringBuilder();
+        stats.getShapes().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> text.append(System.lineSeparator()).append("  ")
+                        .append(entry.getValue()).append("x ").append(entry.getKey()));
+        return text.toString();
+    }
+}
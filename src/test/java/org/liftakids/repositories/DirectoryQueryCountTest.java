@@ -0,0 +1,183 @@
+package org.liftakids.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.liftakids.JpaTestConfig;
+import org.liftakids.dto.institute.InstitutionDirectoryDto;
+import org.liftakids.entity.Donor;
+import org.liftakids.entity.DonorType;
+import org.liftakids.entity.FinancialRank;
+import org.liftakids.entity.InstitutionType;
+import org.liftakids.entity.Institutions;
+import org.liftakids.entity.Payment;
+import org.liftakids.entity.PaymentMethod;
+import org.liftakids.entity.PaymentStatus;
+import org.liftakids.entity.Sponsorship;
+import org.liftakids.entity.SponsorshipStatus;
+import org.liftakids.entity.Student;
+import org.liftakids.entity.address.Districts;
+import org.liftakids.entity.address.Divisions;
+import org.liftakids.entity.address.Thanas;
+import org.liftakids.entity.address.UnionOrArea;
+import org.liftakids.entity.enm.InstitutionStatus;
+import org.liftakids.monitoring.SqlAssertions;
+import org.liftakids.monitoring.SqlStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query-count regressions for the listing paths that used to issue one query per row: the student
+ * directory (two-phase id paging plus batch-fetched payments) and the institution directory projection.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = JpaTestConfig.class)
+@ActiveProfiles("h2")
+class DirectoryQueryCountTest {
+
+    private static final int STUDENTS = 12;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private InstitutionRepository institutionRepository;
+
+    @BeforeEach
+    void seed() {
+        Divisions division = new Divisions();
+        division.setDivisionName("Dhaka");
+        entityManager.persist(division);
+
+        Districts district = new Districts();
+        district.setDistrictName("Gazipur");
+        district.setDivision(division);
+        entityManager.persist(district);
+
+        Thanas thana = new Thanas();
+        thana.setThanaName("Kaliakair");
+        thana.setDistrict(district);
+        entityManager.persist(thana);
+
+        UnionOrArea union = new UnionOrArea();
+        union.setUnionOrAreaName("Mouchak");
+        union.setThana(thana);
+        entityManager.persist(union);
+
+        Institutions first = institution("North Madrasa", "north@example.org", division, district, thana, union);
+        Institutions second = institution("South School", "south@example.org", division, district, thana, union);
+
+        Donor donor = new Donor();
+        donor.setName("Rahim");
+        donor.setEmail("rahim@example.org");
+        donor.setPassword("secret");
+        donor.setPhone("01711111111");
+        donor.setType(DonorType.INDIVIDUAL);
+        entityManager.persist(donor);
+
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = new Student();
+            student.setStudentName("Student " + i);
+            student.setFinancial_rank(FinancialRank.Poor);
+            student.setInstitution(i % 2 == 0 ? first : second);
+            entityManager.persist(student);
+
+            Sponsorship sponsorship = new Sponsorship();
+            sponsorship.setDonor(donor);
+            sponsorship.setStudent(student);
+            sponsorship.setMonthlyAmount(new BigDecimal("1000.00"));
+            sponsorship.setStartDate(LocalDate.of(2024, 1, 1));
+            sponsorship.setEndDate(LocalDate.of(2024, 12, 31));
+            sponsorship.setPaymentMethod(PaymentMethod.MANUAL);
+            sponsorship.setStatus(SponsorshipStatus.COMPLETED);
+            entityManager.persist(sponsorship);
+
+            for (int month = 1; month <= 2; month++) {
+                Payment payment = new Payment();
+                payment.setSponsorship(sponsorship);
+                payment.setPaymentDate(LocalDate.of(2024, month, 5));
+                payment.setAmount(new BigDecimal("1000.00"));
+                payment.setPaymentMethod(PaymentMethod.MANUAL);
+                payment.setStatus(PaymentStatus.COMPLETED);
+                payment.setStartDate(LocalDate.of(2024, month, 1));
+                payment.setEndDate(LocalDate.of(2024, month, 28));
+                entityManager.persist(payment);
+            }
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void studentDirectoryStatementsDoNotGrowWithPageSize() {
+        SqlStats small = SqlAssertions.capture(() -> loadStudentPage(2));
+        SqlStats large = SqlAssertions.capture(() -> loadStudentPage(10));
+
+        // id page, count, student graph, one batch for the payments behind Sponsorship's @PostLoad
+        SqlAssertions.assertMaxStatements(large, 4);
+        SqlAssertions.assertNoRepeatedStatements(large, 2);
+        assertThat(large.getStatements()).isEqualTo(small.getStatements());
+    }
+
+    @Test
+    void institutionDirectoryIsOneQueryPlusCount() {
+        entityManager.clear();
+        SqlStats stats = SqlAssertions.capture(() -> {
+            Page<InstitutionDirectoryDto> page = institutionRepository.findDirectoryPage(
+                    InstitutionStatus.APPROVED, null, PageRequest.of(0, 1, Sort.by("institutionName")));
+            assertThat(page.getTotalElements()).isEqualTo(2);
+            assertThat(page.getContent()).singleElement()
+                    .satisfies(row -> assertThat(row.getUnionOrAreaName()).isEqualTo("Mouchak"));
+        });
+
+        SqlAssertions.assertMaxStatements(stats, 2);
+    }
+
+    // Reads everything the student list DTO maps: institution, sponsorships, donor and payment totals
+    private void loadStudentPage(int size) {
+        entityManager.clear();
+        Page<Long> ids = studentRepository.findStudentIds(PageRequest.of(0, size, Sort.by("studentId")));
+        List<Student> students = studentRepository.findAllWithSponsorshipsByIdIn(ids.getContent());
+
+        assertThat(students).hasSize(size);
+        for (Student student : students) {
+            assertThat(student.getInstitution().getInstitutionName()).isNotNull();
+            assertThat(student.getCurrentSponsorships()).singleElement().satisfies(sponsorship -> {
+                assertThat(sponsorship.getDonor().getName()).isEqualTo("Rahim");
+                assertThat(sponsorship.getPayments()).hasSize(2);
+            });
+        }
+    }
+
+    private Institutions institution(String name, String email, Divisions division, Districts district,
+                                     Thanas thana, UnionOrArea union) {
+        Institutions institution = new Institutions();
+        institution.setInstitutionName(name);
+        institution.setEmail(email);
+        institution.setPhone("01700000000");
+        institution.setPassword("secret");
+        institution.setType(InstitutionType.KAWMI);
+        institution.setStatus(InstitutionStatus.APPROVED);
+        institution.setTeacherName("Head Teacher");
+        institution.setTeacherDesignation("Principal");
+        institution.setAboutInstitution("About " + name);
+        institution.setDivision(division);
+        institution.setDistrict(district);
+        institution.setThana(thana);
+        institution.setUnionOrArea(union);
+        return entityManager.persist(institution);
+    }
+}
@@ -0,0 +1,54 @@
+package org.liftakids.repositories;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.liftakids.JpaTestConfig;
+import org.liftakids.entity.Donor;
+import org.liftakids.entity.DonorType;
+import org.liftakids.httpcache.ResourceVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Student responses show the sponsor's name, so their ETags must change when a donor is edited.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = JpaTestConfig.class)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DonorResourceVersionTest {
+
+    @Autowired
+    private DonorRepository donorRepository;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @AfterEach
+    void tearDown() {
+        donorRepository.deleteAll();
+    }
+
+    @Test
+    void committedDonorChangesBumpDonorsGroup() {
+        long before = resourceVersions.version(ResourceVersions.DONORS);
+        Donor donor = new Donor();
+        donor.setName("Rahim");
+        donor.setEmail("rahim@example.org");
+        donor.setPassword("secret");
+        donor.setPhone("01711111111");
+        donor.setType(DonorType.INDIVIDUAL);
+        donor = donorRepository.save(donor);
+        assertThat(resourceVersions.version(ResourceVersions.DONORS)).isEqualTo(before + 1);
+
+        donor.setName("Rahim Uddin");
+        donorRepository.save(donor);
+        assertThat(resourceVersions.version(ResourceVersions.DONORS)).isEqualTo(before + 2);
+    }
+}
@@ -0,0 +1,145 @@
+package org.liftakids.repositories;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.liftakids.JpaTestConfig;
+import org.liftakids.config.SecondLevelCacheConfig;
+import org.liftakids.datasource.PrimaryCacheFillAspect;
+import org.liftakids.datasource.ReadYourWrites;
+import org.liftakids.entity.address.Districts;
+import org.liftakids.entity.address.Divisions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Location lists come from the L2 query cache; each repository call runs in its own transaction here, as it
+ * does from the location services, so inserts commit and bump the table timestamps in between. With a
+ * replica, the lookups that fill the cache must run on the primary (PrimaryCacheFillAspect).
+ */
+@DataJpaTest
+@ContextConfiguration(classes = JpaTestConfig.class)
+@Import({SecondLevelCacheConfig.class, PrimaryCacheFillAspect.class})
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@ActiveProfiles("h2")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.liftakids.repositories.LocationQueryCacheTest$PrimaryRequiredInspector"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LocationQueryCacheTest {
+
+    @Autowired
+    private DivisionRepository divisionRepository;
+
+    @Autowired
+    private DistrictRepository districtRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Divisions dhaka;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        dhaka = divisionRepository.save(division("Dhaka"));
+        districtRepository.save(district("Gazipur", dhaka));
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        districtRepository.deleteAll();
+        divisionRepository.deleteAll();
+    }
+
+    @Test
+    void districtListIsServedFromQueryCacheUntilAnInsert() {
+        assertThat(districtNames()).containsExactly("Gazipur");
+        assertThat(districtNames()).containsExactly("Gazipur");
+        assertThat(statistics.getQueryCachePutCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        districtRepository.save(district("Narsingdi", dhaka));
+
+        assertThat(districtNames()).containsExactlyInAnyOrder("Gazipur", "Narsingdi");
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCachePutCount()).isEqualTo(2);
+    }
+
+    @Test
+    void divisionListIsInvalidatedByInsert() {
+        assertThat(divisionRepository.findAllBasic()).extracting(Divisions::getDivisionName).containsExactly("Dhaka");
+
+        divisionRepository.save(division("Chattogram"));
+
+        assertThat(divisionRepository.findAllBasic()).extracting(Divisions::getDivisionName)
+                .containsExactly("Chattogram", "Dhaka");
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+    }
+
+    @Test
+    void cacheableLookupsRunOnPrimaryThroughRepositoryProxy() {
+        PrimaryRequiredInspector.SEEN.clear();
+        districtNames();
+        assertThat(PrimaryRequiredInspector.SEEN).containsExactly(true);
+
+        PrimaryRequiredInspector.SEEN.clear();
+        assertThat(districtRepository.count()).isEqualTo(1);
+        assertThat(PrimaryRequiredInspector.SEEN).containsExactly(false);
+    }
+
+    private List<String> districtNames() {
+        return districtRepository.findByDivisionId(dhaka.getDivisionId()).stream()
+                .map(Districts::getDistrictName)
+                .toList();
+    }
+
+    private static Divisions division(String name) {
+        Divisions division = new Divisions();
+        division.setDivisionName(name);
+        return division;
+    }
+
+    private static Districts district(String name, Divisions division) {
+        Districts district = new Districts();
+        district.setDistrictName(name);
+        district.setDivision(division);
+        return district;
+    }
+
+    // Records, for each statement on the districts table, whether it was prepared inside a primary-only scope
+    public static class PrimaryRequiredInspector implements StatementInspector {
+
+        static final List<Boolean> SEEN = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.toLowerCase().startsWith("select") && sql.contains("districts")) {
+                SEEN.add(ReadYourWrites.primaryRequired());
+            }
+            return sql;
+        }
+    }
+}
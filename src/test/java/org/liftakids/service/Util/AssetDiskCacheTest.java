@@ -0,0 +1,135 @@
+package org.liftakids.service.Util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.liftakids.exception.ResourceNotFoundException;
+import org.liftakids.monitoring.DomainMetrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class AssetDiskCacheTest {
+
+    private static final int SIZE = 100;
+
+    @TempDir
+    Path directory;
+
+    private final FakeS3Client s3Client = new FakeS3Client();
+
+    @BeforeEach
+    void setUp() {
+        for (String key : new String[]{"students/a.jpg", "students/b.jpg", "students/c.jpg"}) {
+            s3Client.put(key, new byte[SIZE]);
+        }
+    }
+
+    @Test
+    void missDownloadsToDiskThenHitServesFromDisk() throws IOException {
+        AssetDiskCache cache = cache(10 * SIZE, Duration.ZERO);
+
+        Path file;
+        try (AssetDiskCache.Lease lease = cache.get("students/a.jpg")) {
+            file = lease.asset().file();
+            assertThat(lease.asset().size()).isEqualTo(SIZE);
+            assertThat(lease.asset().eTag()).isEqualTo(FakeS3Client.eTagOf("students/a.jpg"));
+            assertThat(Files.size(file)).isEqualTo(SIZE);
+        }
+        try (AssetDiskCache.Lease lease = cache.get("students/a.jpg")) {
+            assertThat(lease.asset().file()).isEqualTo(file);
+        }
+
+        assertThat(s3Client.downloads()).isEqualTo(1);
+        assertThat(cache.cachedBytes()).isEqualTo(SIZE);
+    }
+
+    @Test
+    void missingObjectIsNotFound() {
+        AssetDiskCache cache = cache(10 * SIZE, Duration.ZERO);
+
+        assertThatThrownBy(() -> cache.get("students/missing.jpg")).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(cache.cachedBytes()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverByteBudget() {
+        AssetDiskCache cache = cache(2 * SIZE, Duration.ZERO);
+
+        Path a = fileOf(cache, "students/a.jpg");
+        Path b = fileOf(cache, "students/b.jpg");
+        fileOf(cache, "students/a.jpg");
+        fileOf(cache, "students/c.jpg");
+
+        assertThat(b).doesNotExist();
+        assertThat(a).exists();
+        assertThat(cache.cachedBytes()).isEqualTo(2 * SIZE);
+
+        fileOf(cache, "students/b.jpg");
+        assertThat(s3Client.downloads()).isEqualTo(4);
+    }
+
+    @Test
+    void evictionKeepsFileWhileLeased() {
+        AssetDiskCache cache = cache(SIZE, Duration.ZERO);
+
+        AssetDiskCache.Lease streaming = cache.get("students/a.jpg");
+        Path a = streaming.asset().file();
+        fileOf(cache, "students/b.jpg");
+
+        assertThat(a).exists();
+        assertThat(cache.cachedBytes()).isEqualTo(SIZE);
+
+        streaming.close();
+        assertThat(a).doesNotExist();
+    }
+
+    @Test
+    void evictionWaitsForGraceAfterLastRead() {
+        AssetDiskCache cache = cache(SIZE, Duration.ofHours(1));
+
+        Path a = fileOf(cache, "students/a.jpg");
+        fileOf(cache, "students/b.jpg");
+
+        // A sendfile response may still open the file after the lease is gone
+        assertThat(a).exists();
+    }
+
+    @Test
+    void invalidatedKeyIsDownloadedAgainWithoutTouchingLeasedFile() {
+        AssetDiskCache cache = cache(10 * SIZE, Duration.ZERO);
+
+        AssetDiskCache.Lease streaming = cache.get("students/a.jpg");
+        cache.invalidate("students/a.jpg");
+        Path refreshed = fileOf(cache, "students/a.jpg");
+
+        assertThat(refreshed).isNotEqualTo(streaming.asset().file());
+        assertThat(streaming.asset().file()).exists();
+        assertThat(s3Client.downloads()).isEqualTo(2);
+
+        streaming.close();
+        assertThat(streaming.asset().file()).doesNotExist();
+        assertThat(refreshed).exists();
+    }
+
+    private AssetDiskCache cache(long maxBytes, Duration grace) {
+        try {
+            return new AssetDiskCache(s3Client, mock(DomainMetrics.class), "test-bucket",
+                    directory.resolve("assets").toString(), maxBytes, grace);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Path fileOf(AssetDiskCache cache, String key) {
+        try (AssetDiskCache.Lease lease = cache.get(key)) {
+            return lease.asset().file();
+        }
+    }
+}
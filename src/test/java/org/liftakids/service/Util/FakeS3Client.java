@@ -0,0 +1,81 @@
+package org.liftakids.service.Util;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** In-memory bucket answering getObject and putObject; counts downloads so tests can tell hits from misses. */
+public class FakeS3Client implements S3Client {
+
+    public static final Instant LAST_MODIFIED = Instant.parse("2024-06-01T10:15:30Z");
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final AtomicInteger downloads = new AtomicInteger();
+
+    public void put(String key, byte[] body) {
+        objects.put(key, body);
+    }
+
+    public int downloads() {
+        return downloads.get();
+    }
+
+    public static String eTagOf(String key) {
+        return "\"" + Integer.toHexString(key.hashCode()) + "\"";
+    }
+
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest request,
+                                       ResponseTransformer<GetObjectResponse, ReturnT> transformer) {
+        byte[] body = objects.get(request.key());
+        if (body == null) {
+            throw NoSuchKeyException.builder().message("No such key: " + request.key()).build();
+        }
+        downloads.incrementAndGet();
+        GetObjectResponse response = GetObjectResponse.builder()
+                .eTag(eTagOf(request.key()))
+                .contentType("image/jpeg")
+                .contentLength((long) body.length)
+                .lastModified(LAST_MODIFIED)
+                .build();
+        try {
+            return transformer.transform(response, AbortableInputStream.create(new ByteArrayInputStream(body)));
+        } catch (Exception e) {
+            throw SdkClientException.create("Fake download failed", e);
+        }
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+        try (InputStream in = requestBody.contentStreamProvider().newStream()) {
+            objects.put(request.key(), in.readAllBytes());
+        } catch (IOException e) {
+            throw SdkClientException.create("Fake upload failed", e);
+        }
+        return PutObjectResponse.builder().eTag(eTagOf(request.key())).build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,55 @@
+package org.liftakids.service.Util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SentEmailArchiveStoreTest {
+
+    private final FakeS3Client s3Client = new FakeS3Client();
+
+    @Test
+    void localTargetWithoutDirectoryFailsAtStartup() {
+        assertThatThrownBy(() -> new SentEmailArchiveStore(s3Client, "bucket", "local", ""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("app.email-archive.local-dir");
+    }
+
+    @Test
+    void unknownTargetFailsAtStartup() {
+        assertThatThrownBy(() -> new SentEmailArchiveStore(s3Client, "bucket", "disk", "/var/archive"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void r2TargetStoresInBucket() throws Exception {
+        SentEmailArchiveStore store = new SentEmailArchiveStore(s3Client, "bucket", "r2", "");
+        Path segment = store.createTempFile();
+        Files.writeString(segment, "segment");
+
+        store.store("archive/sent-emails/1.jsonl.gz", segment);
+
+        assertThat(store.target()).isEqualTo(SentEmailArchiveStore.R2);
+        assertThat(segment).doesNotExist();
+        try (InputStream in = store.open(SentEmailArchiveStore.R2, "archive/sent-emails/1.jsonl.gz")) {
+            assertThat(in.readAllBytes()).asString().isEqualTo("segment");
+        }
+    }
+
+    @Test
+    void localTargetWritesUnderConfiguredDirectory(@TempDir Path directory) throws Exception {
+        SentEmailArchiveStore store = new SentEmailArchiveStore(s3Client, "bucket", "local", directory.toString());
+        Path segment = store.createTempFile();
+        Files.writeString(segment, "segment");
+
+        store.store("archive/sent-emails/1.jsonl.gz", segment);
+
+        assertThat(directory.resolve("archive/sent-emails/1.jsonl.gz")).hasContent("segment");
+    }
+}
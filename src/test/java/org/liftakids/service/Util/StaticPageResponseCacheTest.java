@@ -0,0 +1,39 @@
+package org.liftakids.service.Util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.liftakids.datasource.ReadYourWrites;
+import org.liftakids.entity.StaticPage;
+import org.liftakids.mapper.ContentMapper;
+import org.liftakids.repositories.StaticPageRepository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StaticPageResponseCacheTest {
+
+    private final StaticPageRepository pageRepository = mock(StaticPageRepository.class);
+    private final StaticPageResponseCache cache =
+            new StaticPageResponseCache(pageRepository, mock(ContentMapper.class), new ObjectMapper());
+
+    @Test
+    void reloadAfterSaveReadsFromPrimary() {
+        AtomicBoolean onPrimary = new AtomicBoolean();
+        StaticPage page = new StaticPage();
+        page.setSlug("About-Us");
+        when(pageRepository.findByPublishedTrueOrderBySortOrderAsc()).thenAnswer(invocation -> {
+            onPrimary.set(ReadYourWrites.primaryRequired());
+            return List.of(page);
+        });
+
+        cache.invalidate();
+
+        assertThat(cache.get("about-us")).isPresent();
+        assertThat(onPrimary).isTrue();
+        assertThat(ReadYourWrites.primaryRequired()).isFalse();
+    }
+}
@@ -0,0 +1,44 @@
+package org.liftakids.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.liftakids.dto.dashboard.ContactStatsDto;
+import org.liftakids.repositories.ContactDailyStatsRepository;
+import org.liftakids.repositories.ContactRepository;
+import org.liftakids.repositories.EmailDailyStatsRepository;
+import org.liftakids.repositories.SentEmailRepository;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class CommunicationStatsServiceImplTest {
+
+    private final CommunicationStatsServiceImpl service = new CommunicationStatsServiceImpl(
+            mock(ContactDailyStatsRepository.class), mock(EmailDailyStatsRepository.class),
+            mock(ContactRepository.class), mock(SentEmailRepository.class));
+
+    @Test
+    void deletedMessagesLeaveTheContactCounts() {
+        LocalDateTime createdAt = LocalDateTime.now().withNano(0);
+        LocalDateTime repliedAt = createdAt.plusMinutes(30);
+        service.recordContactReceived(createdAt);
+        service.recordContactReceived(createdAt);
+        service.recordContactReceived(createdAt);
+        service.recordContactReplied(createdAt, repliedAt);
+
+        service.recordContactDeleted(createdAt, null);
+        ContactStatsDto stats = service.getContactStats(7);
+        assertThat(stats.getTotalMessages()).isEqualTo(2);
+        assertThat(stats.getRespondedCount()).isEqualTo(1);
+        assertThat(stats.getUnrespondedCount()).isEqualTo(1);
+        assertThat(stats.getTodayUnresponded()).isEqualTo(1);
+
+        service.recordContactDeleted(createdAt, repliedAt);
+        stats = service.getContactStats(7);
+        assertThat(stats.getTotalMessages()).isEqualTo(1);
+        assertThat(stats.getRespondedCount()).isZero();
+        assertThat(stats.getUnrespondedCount()).isEqualTo(1);
+        assertThat(stats.getAverageResponseMinutes()).isNull();
+    }
+}
@@ -0,0 +1,142 @@
+package org.liftakids.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.BodyPart;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.liftakids.dto.email.CampaignRecipientDto;
+import org.liftakids.entity.EmailCampaign;
+import org.liftakids.monitoring.DomainMetrics;
+import org.liftakids.repositories.DonorRepository;
+import org.liftakids.repositories.EmailCampaignRepository;
+import org.liftakids.repositories.InstitutionRepository;
+import org.liftakids.repositories.SentEmailRepository;
+import org.liftakids.service.CommunicationStatsService;
+import org.liftakids.service.SentEmailService;
+import org.liftakids.service.Util.EmailService;
+import org.liftakids.service.Util.NoOpTransactionManager;
+import org.liftakids.service.Util.SmtpTransportPool;
+import org.liftakids.template.EmailTemplates;
+import org.liftakids.template.Template;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailCampaignServiceImplTest {
+
+    private static final String SUBJECT = "School reopening";
+    private static final String MESSAGE = "<p>Dear donors,</p>\n<b>Classes resume</b> on Sunday & \"everyone\" is invited.";
+    private static final String RECIPIENT = "donor@example.com";
+
+    private final EmailTemplates emailTemplates = new EmailTemplates(Locale.ENGLISH);
+    private final SmtpTransportPool transportPool = mock(SmtpTransportPool.class);
+    private final List<MimeMessage> sent = Collections.synchronizedList(new ArrayList<>());
+    private EmailCampaignServiceImpl service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void campaignBodyMatchesSendCustomEmail() throws Exception {
+        service = campaignService();
+        Template[] templates = service.compile(SUBJECT, MESSAGE);
+        EmailCampaign campaign = new EmailCampaign();
+        campaign.setId(1L);
+        campaign.setSubject(SUBJECT);
+        campaign.setMessage(MESSAGE);
+        campaign.setSenderName("Lift A Kids");
+
+        service.sendChunk(campaign, templates, List.of(new CampaignRecipientDto(1L, "Rahim", RECIPIENT)));
+
+        assertThat(sent).hasSize(1);
+        String campaignHtml = html(sent.get(0));
+        assertThat(campaignHtml).contains("<b>Classes resume</b> on Sunday & \"everyone\"");
+        assertThat(campaignHtml).isEqualTo(customEmailHtml());
+    }
+
+    private EmailCampaignServiceImpl campaignService() throws Exception {
+        Session session = Session.getInstance(new Properties());
+        when(transportPool.size()).thenReturn(1);
+        when(transportPool.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(session));
+        when(transportPool.sendBatch(anyList())).thenAnswer(invocation -> {
+            List<MimeMessage> batch = invocation.getArgument(0);
+            sent.addAll(batch);
+            return new ArrayList<String>(Collections.nCopies(batch.size(), null));
+        });
+        return new EmailCampaignServiceImpl(
+                mock(EmailCampaignRepository.class),
+                mock(DonorRepository.class),
+                mock(InstitutionRepository.class),
+                mock(SentEmailRepository.class),
+                mock(CommunicationStatsService.class),
+                emailTemplates,
+                transportPool,
+                new TransactionTemplate(new NoOpTransactionManager()),
+                200,
+                "contact@liftakid.org",
+                "Lift A Kids",
+                "https://liftakid.org");
+    }
+
+    private String customEmailHtml() throws Exception {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage(Session.getInstance(new Properties())));
+        EmailService emailService = new EmailService();
+        ReflectionTestUtils.setField(emailService, "mailSender", mailSender);
+        ReflectionTestUtils.setField(emailService, "emailTemplates", emailTemplates);
+        ReflectionTestUtils.setField(emailService, "domainMetrics", new DomainMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(emailService, "sentEmailService", mock(SentEmailService.class));
+        ReflectionTestUtils.setField(emailService, "fromEmail", "contact@liftakid.org");
+        ReflectionTestUtils.setField(emailService, "appName", "Lift A Kids");
+
+        assertThat(emailService.sendCustomEmail(RECIPIENT, SUBJECT, MESSAGE, "Lift A Kids")).isTrue();
+        ArgumentCaptor<MimeMessage> message = ArgumentCaptor.forClass(MimeMessage.class);
+        verify(mailSender).send(message.capture());
+        return html(message.getValue());
+    }
+
+    private static String html(MimeMessage message) throws Exception {
+        message.saveChanges();
+        String html = findHtml(message);
+        assertThat(html).as("text/html part").isNotNull();
+        return html;
+    }
+
+    private static String findHtml(Part part) throws Exception {
+        if (part.isMimeType("text/html")) {
+            return (String) part.getContent();
+        }
+        if (part.isMimeType("multipart/*")) {
+            Multipart multipart = (Multipart) part.getContent();
+            for (int i = 0; i < multipart.getCount(); i++) {
+                BodyPart child = multipart.getBodyPart(i);
+                String html = findHtml(child);
+                if (html != null) {
+                    return html;
+                }
+            }
+        }
+        return null;
+    }
+}
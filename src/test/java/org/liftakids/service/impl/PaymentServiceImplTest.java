@@ -0,0 +1,149 @@
+package org.liftakids.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.liftakids.dto.payment.ManualPaymentRequestDto;
+import org.liftakids.dto.payment.PaymentRequestDto;
+import org.liftakids.dto.payment.PaymentResponseDto;
+import org.liftakids.entity.Donor;
+import org.liftakids.entity.Payment;
+import org.liftakids.entity.PaymentMethod;
+import org.liftakids.entity.Sponsorship;
+import org.liftakids.entity.SponsorshipStatus;
+import org.liftakids.entity.Student;
+import org.liftakids.exception.BusinessException;
+import org.liftakids.mapper.PaymentMapper;
+import org.liftakids.monitoring.DomainMetrics;
+import org.liftakids.repositories.DonorRepository;
+import org.liftakids.repositories.PaymentRepository;
+import org.liftakids.repositories.SponsorshipRepository;
+import org.liftakids.repositories.StudentRepository;
+import org.liftakids.service.DashboardStatsService;
+import org.liftakids.service.Util.EmailService;
+import org.liftakids.service.Util.NoOpTransactionManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PaymentServiceImplTest {
+
+    private static final long STUDENT_ID = 3L;
+    private static final long DONOR_ID = 5L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TransactionTemplate transaction = new TransactionTemplate(new NoOpTransactionManager());
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private PaymentServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        Student student = new Student();
+        student.setStudentId(STUDENT_ID);
+        student.setStudentName("Karim");
+        Donor donor = new Donor();
+        donor.setDonorId(DONOR_ID);
+        donor.setName("Rahim");
+
+        Sponsorship sponsorship = new Sponsorship();
+        sponsorship.setId(11L);
+        sponsorship.setStudent(student);
+        sponsorship.setDonor(donor);
+        sponsorship.setMonthlyAmount(new BigDecimal("500"));
+        sponsorship.setStartDate(LocalDate.of(2024, 1, 1));
+        sponsorship.setEndDate(LocalDate.of(2024, 12, 31));
+        sponsorship.setStatus(SponsorshipStatus.ACTIVE);
+
+        StudentRepository studentRepository = mock(StudentRepository.class);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(student));
+        DonorRepository donorRepository = mock(DonorRepository.class);
+        when(donorRepository.findById(DONOR_ID)).thenReturn(Optional.of(donor));
+        SponsorshipRepository sponsorshipRepository = mock(SponsorshipRepository.class);
+        when(sponsorshipRepository.findByDonorIdAndStudentIdAndStatus(DONOR_ID, STUDENT_ID, SponsorshipStatus.ACTIVE))
+                .thenReturn(Optional.of(sponsorship));
+        PaymentMapper paymentMapper = mock(PaymentMapper.class);
+        when(paymentMapper.toResponseDto(any(Payment.class))).thenAnswer(invocation -> new PaymentResponseDto());
+
+        service = new PaymentServiceImpl(paymentRepository, sponsorshipRepository, paymentMapper,
+                mock(StudentServiceImpl.class), studentRepository, donorRepository, mock(EmailService.class),
+                mock(DashboardStatsService.class), new DomainMetrics(meterRegistry));
+    }
+
+    @Test
+    void manualPaymentIsCountedAfterCommit() {
+        transaction.executeWithoutResult(status -> {
+            service.createManualPayment(manualPayment(new BigDecimal("1000")));
+            assertThat(count("processed")).isZero();
+        });
+
+        assertThat(count("processed")).isEqualTo(1);
+        assertThat(count("failed")).isZero();
+    }
+
+    @Test
+    void rolledBackPaymentCountsAsFailed() {
+        transaction.executeWithoutResult(status -> {
+            service.createManualPayment(manualPayment(new BigDecimal("1000")));
+            status.setRollbackOnly();
+        });
+
+        assertThat(count("processed")).isZero();
+        assertThat(count("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void validationErrorsAreCountedAsRejections() {
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status ->
+                service.createManualPayment(manualPayment(new BigDecimal("999")))))
+                .isInstanceOf(BusinessException.class);
+
+        PaymentRequestDto incomplete = new PaymentRequestDto();
+        incomplete.setPaymentMethod(PaymentMethod.BANK_TRANSFER);
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> service.processPayment(incomplete)))
+                .isInstanceOf(BusinessException.class);
+
+        assertThat(count("rejected")).isEqualTo(2);
+        assertThat(count("failed")).isZero();
+    }
+
+    @Test
+    void unexpectedErrorsCountAsFailedOnRollback() {
+        when(paymentRepository.save(any(Payment.class))).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status ->
+                service.createManualPayment(manualPayment(new BigDecimal("1000")))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(count("failed")).isEqualTo(1);
+        assertThat(count("rejected")).isZero();
+    }
+
+    private ManualPaymentRequestDto manualPayment(BigDecimal amount) {
+        ManualPaymentRequestDto request = new ManualPaymentRequestDto();
+        request.setStudentId(STUDENT_ID);
+        request.setDonorId(DONOR_ID);
+        request.setStartDate(LocalDate.of(2024, 3, 1));
+        request.setEndDate(LocalDate.of(2024, 4, 30));
+        request.setMonthlyAmount(new BigDecimal("500"));
+        request.setAmount(amount);
+        request.setReceiptNumber("R-1");
+        return request;
+    }
+
+    // Summed over the per-method counters
+    private double count(String outcome) {
+        return meterRegistry.find("liftakids.payments").tag("outcome", outcome).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
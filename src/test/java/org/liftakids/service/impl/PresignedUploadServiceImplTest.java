@@ -0,0 +1,118 @@
+package org.liftakids.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.liftakids.dto.upload.UploadCompletionRequestDto;
+import org.liftakids.dto.upload.UploadCompletionResponseDto;
+import org.liftakids.entity.Student;
+import org.liftakids.entity.enm.UploadFolder;
+import org.liftakids.exception.ResourceNotFoundException;
+import org.liftakids.repositories.PaymentRepository;
+import org.liftakids.repositories.StudentRepository;
+import org.liftakids.service.S3Service;
+import org.liftakids.service.StudentRankingFeedService;
+import org.liftakids.service.Util.NoOpTransactionManager;
+import org.liftakids.service.Util.StudentPhotoProcessor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PresignedUploadServiceImplTest {
+
+    private static final String PUBLIC_URL = "https://cdn.liftakid.org";
+    private static final String RAW_KEY = UploadFolder.STUDENT_PHOTOS.getPrefix() + "/0b6a4c1e-3f52-4d8e-9a7b-2c1d5e6f7a8b.jpg";
+    private static final StudentPhotoProcessor.Variants VARIANTS = new StudentPhotoProcessor.Variants(
+            PUBLIC_URL + "/students/rahim-1.jpg", PUBLIC_URL + "/students/rahim-1-card.jpg",
+            PUBLIC_URL + "/students/rahim-1-thumb.jpg");
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final S3Service s3Service = mock(S3Service.class);
+    private final StudentRepository studentRepository = mock(StudentRepository.class);
+    private final StudentPhotoProcessor photoProcessor = mock(StudentPhotoProcessor.class);
+    private final List<String> calls = new ArrayList<>();
+    private final PresignedUploadServiceImpl service = new PresignedUploadServiceImpl(
+            mock(S3Presigner.class), s3Client, s3Service, studentRepository, mock(PaymentRepository.class),
+            mock(StudentRankingFeedService.class), photoProcessor, new TransactionTemplate(new NoOpTransactionManager()));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void studentPhotoIsProcessedOutsideTheTransactionAndLinkedInsideIt() {
+        ReflectionTestUtils.setField(service, "bucketName", "liftakids");
+        ReflectionTestUtils.setField(service, "publicUrl", PUBLIC_URL);
+        Student student = new Student();
+        student.setStudentId(7L);
+        student.setStudentName("Rahim");
+
+        when(s3Client.headObject(any(Consumer.class))).thenAnswer(invocation -> {
+            calls.add("head:" + inTransaction());
+            return HeadObjectResponse.builder().contentType("image/jpeg").contentLength(1024L).build();
+        });
+        when(s3Client.getObjectAsBytes(any(Consumer.class))).thenAnswer(invocation -> {
+            calls.add("download:" + inTransaction());
+            return ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), new byte[]{1, 2, 3});
+        });
+        when(photoProcessor.process(any(), anyString())).thenAnswer(invocation -> {
+            calls.add("process:" + inTransaction());
+            return VARIANTS;
+        });
+        when(studentRepository.findById(7L)).thenReturn(Optional.of(student));
+        when(studentRepository.save(student)).thenAnswer(invocation -> {
+            calls.add("save:" + inTransaction());
+            return student;
+        });
+
+        UploadCompletionResponseDto response = service.completeUpload(request(7L));
+
+        assertThat(calls).containsExactly("head:false", "download:false", "process:false", "save:true");
+        assertThat(response.getFileUrl()).isEqualTo(VARIANTS.photoUrl());
+        assertThat(student.getPhotoThumbUrl()).isEqualTo(VARIANTS.thumbUrl());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void variantsAreDiscardedWhenStudentIsDeletedDuringProcessing() {
+        ReflectionTestUtils.setField(service, "bucketName", "liftakids");
+        ReflectionTestUtils.setField(service, "publicUrl", PUBLIC_URL);
+        Student student = new Student();
+        student.setStudentName("Rahim");
+
+        when(s3Client.headObject(any(Consumer.class)))
+                .thenReturn(HeadObjectResponse.builder().contentType("image/jpeg").contentLength(1024L).build());
+        when(s3Client.getObjectAsBytes(any(Consumer.class)))
+                .thenReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), new byte[]{1, 2, 3}));
+        when(photoProcessor.process(any(), anyString())).thenReturn(VARIANTS);
+        when(studentRepository.findById(7L)).thenReturn(Optional.of(student), Optional.empty());
+
+        assertThatThrownBy(() -> service.completeUpload(request(7L))).isInstanceOf(ResourceNotFoundException.class);
+        verify(s3Service).deleteStudentPhoto(VARIANTS.photoUrl(), VARIANTS.cardUrl(), VARIANTS.thumbUrl());
+    }
+
+    private static UploadCompletionRequestDto request(Long targetId) {
+        UploadCompletionRequestDto request = new UploadCompletionRequestDto();
+        request.setFolder(UploadFolder.STUDENT_PHOTOS);
+        request.setKey(RAW_KEY);
+        request.setTargetId(targetId);
+        return request;
+    }
+
+    private static boolean inTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+}
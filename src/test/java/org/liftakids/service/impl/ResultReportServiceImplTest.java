@@ -0,0 +1,156 @@
+package org.liftakids.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.liftakids.dto.resultReport.ResultReportRequestDto;
+import org.liftakids.entity.OcrJob;
+import org.liftakids.entity.ResultReport;
+import org.liftakids.entity.Student;
+import org.liftakids.entity.enm.OcrJobStatus;
+import org.liftakids.exception.BusinessException;
+import org.liftakids.repositories.OcrJobRepository;
+import org.liftakids.repositories.ResultReportRepository;
+import org.liftakids.repositories.StudentRepository;
+import org.liftakids.repositories.SubjectMarkRepository;
+import org.liftakids.service.Util.NoOpTransactionManager;
+import org.liftakids.service.Util.OcrEnginePool;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResultReportServiceImplTest {
+
+    private static final long STUDENT_ID = 7L;
+    private static final String SHEET = String.join("\n",
+            "Exam: Annual", "Term: Final", "Date: 2024-12-01", "Class: Five",
+            "Subject Obtained", "Bangla 80", "English 75");
+
+    private final Map<String, OcrJob> jobs = new ConcurrentHashMap<>();
+    private final CountDownLatch releaseOcr = new CountDownLatch(1);
+
+    // Same shape as OcrEnginePool's executor: one worker, one queue slot, AbortPolicy
+    private ThreadPoolExecutor ocrWorkers;
+    private ResultReportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ocrWorkers = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+
+        OcrJobRepository ocrJobRepository = mock(OcrJobRepository.class);
+        when(ocrJobRepository.save(any(OcrJob.class))).thenAnswer(invocation -> {
+            OcrJob job = invocation.getArgument(0);
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        when(ocrJobRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<String>getArgument(0))));
+
+        Student student = new Student();
+        student.setStudentId(STUDENT_ID);
+        StudentRepository studentRepository = mock(StudentRepository.class);
+        when(studentRepository.existsById(STUDENT_ID)).thenReturn(true);
+        when(studentRepository.findById(STUDENT_ID)).thenReturn(Optional.of(student));
+
+        ResultReportRepository resultReportRepository = mock(ResultReportRepository.class);
+        when(resultReportRepository.save(any(ResultReport.class))).thenAnswer(invocation -> {
+            ResultReport report = invocation.getArgument(0);
+            report.setId(99L);
+            return report;
+        });
+
+        // Recognition blocks until the test releases it, so the worker stays busy while the queue is filled
+        OcrEnginePool enginePool = mock(OcrEnginePool.class);
+        when(enginePool.recognize(any(), any())).thenAnswer(invocation -> {
+            Runnable onStart = invocation.getArgument(1);
+            return CompletableFuture.supplyAsync(() -> {
+                onStart.run();
+                awaitQuietly(releaseOcr);
+                return SHEET;
+            }, ocrWorkers);
+        });
+
+        service = new ResultReportServiceImpl(resultReportRepository, mock(SubjectMarkRepository.class),
+                studentRepository, ocrJobRepository, enginePool,
+                new TransactionTemplate(new NoOpTransactionManager()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseOcr.countDown();
+        ocrWorkers.shutdownNow();
+    }
+
+    @Test
+    void jobCompletesWhenQueueIsFullAtCompletion() throws InterruptedException {
+        String jobId = service.uploadResult(request()).getJobId();
+        awaitStatus(jobId, OcrJobStatus.RUNNING);
+
+        CountDownLatch fillerRan = new CountDownLatch(1);
+        ocrWorkers.execute(fillerRan::countDown);
+        assertThat(ocrWorkers.getQueue().remainingCapacity()).isZero();
+
+        releaseOcr.countDown();
+
+        // The filler runs after the job's completion step on the single worker
+        assertThat(fillerRan.await(5, TimeUnit.SECONDS)).isTrue();
+        OcrJob job = jobs.get(jobId);
+        assertThat(job.getStatus()).isEqualTo(OcrJobStatus.COMPLETED);
+        assertThat(job.getResultReportId()).isEqualTo(99L);
+        assertThat(job.getErrorMessage()).isNull();
+    }
+
+    @Test
+    void uploadIsRejectedWhenQueueIsFull() throws InterruptedException {
+        String first = service.uploadResult(request()).getJobId();
+        awaitStatus(first, OcrJobStatus.RUNNING);
+        ocrWorkers.execute(() -> {
+        });
+
+        assertThatThrownBy(() -> service.uploadResult(request()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("OCR queue is full");
+    }
+
+    private ResultReportRequestDto request() {
+        ResultReportRequestDto dto = new ResultReportRequestDto();
+        dto.setStudentId(STUDENT_ID);
+        dto.setResultImage(new MockMultipartFile("resultImage", "sheet.png", "image/png", new byte[]{1, 2, 3}));
+        return dto;
+    }
+
+    private void awaitStatus(String jobId, OcrJobStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (jobs.get(jobId).getStatus() != status) {
+            if (System.nanoTime() > deadline) {
+                fail("Job " + jobId + " stayed " + jobs.get(jobId).getStatus() + ", expected " + status);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
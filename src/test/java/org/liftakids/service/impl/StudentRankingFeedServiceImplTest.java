@@ -0,0 +1,44 @@
+package org.liftakids.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.liftakids.datasource.ReadYourWrites;
+import org.liftakids.entity.StudentStatus;
+import org.liftakids.mapper.InstitutionMapper;
+import org.liftakids.mapper.StudentMapper;
+import org.liftakids.repositories.StudentRepository;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudentRankingFeedServiceImplTest {
+
+    private final StudentRepository studentRepository = mock(StudentRepository.class);
+    private final StudentRankingFeedServiceImpl service = new StudentRankingFeedServiceImpl(
+            studentRepository, mock(StudentMapper.class), mock(InstitutionMapper.class));
+
+    @Test
+    void hugeRequestedSizesDoNotPresizeResults() {
+        assertThat(service.getTopUnsponsoredUrgentStudents(Integer.MAX_VALUE)).isEmpty();
+        assertThat(service.discoverStudents(null, PageRequest.of(0, 2_000_000_000)).getContent()).isEmpty();
+        assertThat(service.discoverStudents(null, PageRequest.of(5, 1000)).getTotalElements()).isZero();
+    }
+
+    @Test
+    void rebuildReadsCandidatesFromPrimary() {
+        AtomicBoolean onPrimary = new AtomicBoolean();
+        when(studentRepository.findFeedCandidates(StudentStatus.ACTIVE)).thenAnswer(invocation -> {
+            onPrimary.set(ReadYourWrites.primaryRequired());
+            return List.of();
+        });
+
+        service.rebuild();
+
+        assertThat(onPrimary).isTrue();
+        assertThat(ReadYourWrites.primaryRequired()).isFalse();
+    }
+}
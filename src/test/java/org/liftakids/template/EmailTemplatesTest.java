@@ -0,0 +1,37 @@
+package org.liftakids.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailTemplatesTest {
+
+    private static final Map<String, Object> MODEL = EmailTemplates.model("frontendUrl", "https://liftakid.org", "token", "t-1");
+
+    @Test
+    void recipientLocaleSelectsTranslation() {
+        EmailTemplates templates = new EmailTemplates(Locale.ENGLISH);
+
+        assertThat(templates.render("password-reset", templates.localeOf("bn"), MODEL).subject())
+                .isEqualTo("LiftAKids - পাসওয়ার্ড রিসেটের অনুরোধ");
+        assertThat(templates.render("password-reset", templates.localeOf("en"), MODEL).subject())
+                .isEqualTo("LiftAKids - Password Reset Request");
+    }
+
+    @Test
+    void missingOrUnsupportedLocaleFallsBack() {
+        EmailTemplates bangla = new EmailTemplates(EmailTemplates.BANGLA);
+
+        // No stored preference: the configured default
+        assertThat(bangla.localeOf(null)).isEqualTo(EmailTemplates.BANGLA);
+        assertThat(bangla.localeOf(" ")).isEqualTo(EmailTemplates.BANGLA);
+        // A language without templates renders English, as do templates without a translation
+        assertThat(bangla.render("password-reset", bangla.localeOf("fr"), MODEL).subject())
+                .isEqualTo("LiftAKids - Password Reset Request");
+        assertThat(bangla.render("test-email", bangla.localeOf("bn"), EmailTemplates.model()).body())
+                .isEqualTo(bangla.render("test-email", Locale.ENGLISH, EmailTemplates.model()).body());
+    }
+}